@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.benchmarks;
+
+import io.ballerina.asyncapi.codegenerator.application.CodeGenerator;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the whole code generation, from reading the specification file to writing the generated files.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CodeGeneratorBenchmark {
+    private static final int DATA_TYPES_SHARD_SIZE = 200;
+
+    @Benchmark
+    public void generate(SpecState specState) throws BallerinaAsyncApiException {
+        new CodeGenerator().generate(specState.specFile.toString(), specState.outputDirectory.toString());
+    }
+
+    @Benchmark
+    public void generateWithDataTypesShardsInParallel(SpecState specState) throws BallerinaAsyncApiException {
+        GenerationOptions options = new GenerationOptions();
+        options.setParallel(true);
+        options.setDataTypesShardSize(DATA_TYPES_SHARD_SIZE);
+        new CodeGenerator(options).generate(specState.specFile.toString(), specState.outputDirectory.toString());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.benchmarks;
+
+import io.ballerina.asyncapi.codegenerator.usecase.utils.CodegenUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the escaping of the field names of a schema with the given number of fields, and the generation of the
+ * type and function names from those.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CodegenUtilsBenchmark {
+
+    /**
+     * The field names of a schema, which are a mix of the plain names, the names with the special characters and
+     * digits, and the Ballerina keywords, in the proportions usually found in the specifications.
+     */
+    @State(Scope.Benchmark)
+    public static class FieldNamesState {
+        @Param({"10000"})
+        public int fieldCount;
+
+        String[] fieldNames;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            String[] keywords = {"type", "error", "string", "map", "from", "order", "key", "client"};
+            fieldNames = new String[fieldCount];
+            for (int i = 0; i < fieldCount; i++) {
+                switch (i % 8) {
+                    case 0:
+                        fieldNames[i] = "field" + i;
+                        break;
+                    case 1:
+                        fieldNames[i] = "field_name_" + i;
+                        break;
+                    case 2:
+                        fieldNames[i] = "x-field-name-" + i;
+                        break;
+                    case 3:
+                        fieldNames[i] = "field.name";
+                        break;
+                    case 4:
+                        fieldNames[i] = keywords[(i / 8) % keywords.length];
+                        break;
+                    default:
+                        fieldNames[i] = "fieldName";
+                        break;
+                }
+            }
+        }
+    }
+
+    private final CodegenUtils codegenUtils = new CodegenUtils();
+
+    @Benchmark
+    public void escapeIdentifier(FieldNamesState state, Blackhole blackhole) {
+        for (String fieldName : state.fieldNames) {
+            blackhole.consume(codegenUtils.escapeIdentifier(fieldName));
+        }
+    }
+
+    @Benchmark
+    public void getValidName(FieldNamesState state, Blackhole blackhole) {
+        for (String fieldName : state.fieldNames) {
+            blackhole.consume(codegenUtils.getValidName(fieldName, true));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.benchmarks;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.controller.DispatcherController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the generation of the dispatcher_service.bal from the extracted service types.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DispatcherControllerBenchmark {
+    @Benchmark
+    public String generateBalCode(SpecState specState) throws BallerinaAsyncApiException {
+        return new DispatcherController(specState.specController.getServiceTypes(),
+                specState.specController.getEventIdentifierType(), specState.specController.getEventIdentifierPath())
+                .generateBalCode(specState.dispatcherTemplate);
+    }
+
+    /**
+     * Generates from the template parsed upfront, as the template registry does for all but the first spec.
+     */
+    @Benchmark
+    public String generateBalCodeFromParsedTemplate(SpecState specState) throws BallerinaAsyncApiException {
+        return new DispatcherController(specState.specController.getServiceTypes(),
+                specState.specController.getEventIdentifierType(), specState.specController.getEventIdentifierPath())
+                .generateBalCode(specState.parsedDispatcherTemplate);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.benchmarks;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.controller.AsyncApiSpecController;
+import io.ballerina.asyncapi.codegenerator.controller.SpecController;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading a YAML specification through a JSON string, which keeps the YAML string, a Java object tree and
+ * the JSON string in memory at once, against streaming the file into a JSON tree which is read by Apicurio directly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SpecLoadingBenchmark {
+    private final FileRepository fileRepository = new FileRepositoryImpl();
+
+    @Benchmark
+    public SpecController loadThroughJsonString(SpecState specState) throws BallerinaAsyncApiException {
+        String specYaml = fileRepository.getFileContent(specState.specYamlFile.toString());
+        return new AsyncApiSpecController(fileRepository.convertYamlToJson(specYaml));
+    }
+
+    @Benchmark
+    public SpecController loadAsJsonTree(SpecState specState) throws BallerinaAsyncApiException {
+        return new AsyncApiSpecController(fileRepository.getYamlTreeFromFile(specState.specYamlFile.toString()));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.controller.AsyncApiSpecController;
+import io.ballerina.asyncapi.codegenerator.controller.BalTemplate;
+import io.ballerina.asyncapi.codegenerator.controller.SpecController;
+import io.ballerina.asyncapi.codegenerator.fixtures.SyntheticSpecGenerator;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The specification a benchmark runs against, with the entities extracted from it and the templates, so that the
+ * benchmarks of a single stage of the code generation do not measure the previous stages.
+ */
+@State(Scope.Benchmark)
+public class SpecState {
+    private static final String SLACK_SPEC = "slack";
+    private static final String SYNTHETIC_SPEC_PREFIX = "synthetic-";
+
+    @Param({SLACK_SPEC, SYNTHETIC_SPEC_PREFIX + "1000", SYNTHETIC_SPEC_PREFIX + "10000"})
+    public String spec;
+
+    String specJson;
+    Path specFile;
+    Path specYamlFile;
+    Path outputDirectory;
+    SpecController specController;
+    String dataTypesTemplate;
+    String dispatcherTemplate;
+    BalTemplate parsedDispatcherTemplate;
+
+    private Path workDirectory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, BallerinaAsyncApiException {
+        FileRepository fileRepository = new FileRepositoryImpl();
+        String specYaml;
+        if (SLACK_SPEC.equals(spec)) {
+            specYaml = readResource("spec-complete-slack.yml");
+            specJson = fileRepository.convertYamlToJson(specYaml);
+        } else {
+            SyntheticSpecGenerator specGenerator = new SyntheticSpecGenerator();
+            specGenerator.setChannelCount(Integer.parseInt(spec.substring(SYNTHETIC_SPEC_PREFIX.length())));
+            specGenerator.setOneOfFanOut(2);
+            specGenerator.setSchemaDepth(2);
+            specGenerator.setRefDensity(0.3);
+            specGenerator.setInlineSchemaRatio(0.5);
+            specJson = specGenerator.generate();
+            specYaml = new ObjectMapper(new YAMLFactory()).writeValueAsString(new ObjectMapper().readTree(specJson));
+        }
+        workDirectory = Files.createTempDirectory("asyncapi-benchmarks");
+        specFile = Files.writeString(workDirectory.resolve("spec.json"), specJson);
+        specYamlFile = Files.writeString(workDirectory.resolve("spec.yaml"), specYaml);
+        outputDirectory = Files.createDirectories(workDirectory.resolve("generated"));
+
+        specController = new AsyncApiSpecController(specJson);
+        dataTypesTemplate = fileRepository.getFileContentFromResources(Constants.DATA_TYPES_BAL_FILE_NAME);
+        dispatcherTemplate = fileRepository.getFileContentFromResources(
+                specController.getEventIdentifierType().equals(Constants.X_BALLERINA_EVENT_TYPE_BODY)
+                        ? Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_BODY
+                        : Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER);
+        parsedDispatcherTemplate = BalTemplate.parse(dispatcherTemplate);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(workDirectory.toFile());
+    }
+
+    private String readResource(String resourceName) throws IOException {
+        try (InputStream inputStream = SpecState.class.getClassLoader().getResourceAsStream(resourceName)) {
+            if (inputStream == null) {
+                throw new IOException("Resource " + resourceName + " is not found");
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -18,8 +18,14 @@
 package io.ballerina.asyncapi.cmd;
 
 import io.ballerina.asyncapi.codegenerator.application.Application;
+import io.ballerina.asyncapi.codegenerator.application.BatchCodeGenerator;
 import io.ballerina.asyncapi.codegenerator.application.CodeGenerator;
+import io.ballerina.asyncapi.codegenerator.application.GenerationDaemon;
+import io.ballerina.asyncapi.codegenerator.application.GenerationDaemonClient;
+import io.ballerina.asyncapi.codegenerator.application.GenerationResult;
+import io.ballerina.asyncapi.codegenerator.application.SpecWatcher;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
 import io.ballerina.cli.BLauncherCmd;
 import picocli.CommandLine;
 
@@ -32,6 +38,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Main class to implement "asyncapi" command for ballerina. Commands for Listener generation from AsyncAPI spec
@@ -52,11 +59,71 @@ public class AsyncApiCmd implements BLauncherCmd {
     @CommandLine.Option(names = {"-i", "--input"}, description = "File path to the AsyncAPI specification")
     private boolean inputPath;
 
+    @CommandLine.Option(names = {"--manifest"},
+            description = "File path to a manifest, which maps AsyncAPI specifications to their output directories")
+    private String manifestPath;
+
     @CommandLine.Option(names = {"-o", "--output"},
             description = "Directory to store the generated Ballerina service. " +
             "If this is not provided, the generated files will be stored in the the current execution directory")
     private String outputPath;
 
+    @CommandLine.Option(names = {"--parallel"},
+            description = "Generate the Ballerina files in parallel using a bounded thread pool")
+    private boolean parallel;
+
+    @CommandLine.Option(names = {"--incremental"},
+            description = "Regenerate only the Ballerina files, whose inputs have been changed " +
+                    "since the last generation")
+    private boolean incremental;
+
+    @CommandLine.Option(names = {"--route-table"},
+            description = "Dispatch the events through a routing table lookup instead of a match statement")
+    private boolean routeTable;
+
+    @CommandLine.Option(names = {"--per-event-conversion"},
+            description = "Convert the event payload only to the record type of the received event")
+    private boolean perEventConversion;
+
+    @CommandLine.Option(names = {"--dispatch-limits"},
+            description = "Bound the number of events dispatched concurrently to a service")
+    private boolean dispatchLimits;
+
+    @CommandLine.Option(names = {"--async-ack"},
+            description = "Acknowledge the events before the remote functions of the services are executed")
+    private boolean asyncAck;
+
+    @CommandLine.Option(names = {"--direct-emit"},
+            description = "Emit the generated data types and service types without formatting those")
+    private boolean directEmit;
+
+    @CommandLine.Option(names = {"--validate-direct-emit"},
+            description = "Fail the generation if the code emitted by --direct-emit differs from the formatted code")
+    private boolean validateDirectEmit;
+
+    @CommandLine.Option(names = {"--data-types-shard-size"},
+            description = "Split the generated records into data_types_<n>.bal files of at most this many records")
+    private int dataTypesShardSize;
+
+    @CommandLine.Option(names = {"--flat-service-type-tests"},
+            description = "Resolve the type of an attached service with a flat sequence of type tests")
+    private boolean flatServiceTypeTests;
+
+    @CommandLine.Option(names = {"--watch"},
+            description = "Generate the Ballerina service again whenever the AsyncAPI specification is changed")
+    private boolean watch;
+
+    @CommandLine.Option(names = {"--daemon"},
+            description = "Start a daemon, which keeps the code generator warm for the following asyncapi commands")
+    private boolean daemon;
+
+    @CommandLine.Option(names = {"--stop-daemon"}, description = "Stop the running daemon")
+    private boolean stopDaemon;
+
+    @CommandLine.Option(names = {"--daemon-socket"},
+            description = "File path to the Unix domain socket of the daemon")
+    private String daemonSocketPath;
+
     @CommandLine.Parameters
     private List<String> argList;
 
@@ -98,19 +165,53 @@ public class AsyncApiCmd implements BLauncherCmd {
             outStream.println(commandUsageInfo);
             return;
         }
-        if (inputPath) {
+        if (daemon) {
+            if (!runDaemon()) {
+                exitError(this.exitWhenFinish);
+                return;
+            }
+        } else if (stopDaemon) {
+            try {
+                new GenerationDaemonClient(getDaemonSocketPath(), getGenerationOptions(), outStream).stop();
+            } catch (BallerinaAsyncApiException e) {
+                outStream.println(e.getMessage());
+                exitError(this.exitWhenFinish);
+                return;
+            }
+        } else if (manifestPath != null) {
+            BatchCodeGenerator batchCodeGenerator = new BatchCodeGenerator(getGenerationOptions());
+            try {
+                generateBatch(batchCodeGenerator, batchCodeGenerator.readManifest(manifestPath));
+            } catch (BallerinaAsyncApiException e) {
+                outStream.println(e.getMessage());
+                exitError(this.exitWhenFinish);
+                return;
+            }
+        } else if (inputPath) {
             if (argList == null) {
                 outStream.println(AsyncApiMessages.MESSAGE_FOR_MISSING_INPUT);
                 exitError(this.exitWhenFinish);
                 return;
             }
-            String fileName = argList.get(0);
-            Application codeGenerator = new CodeGenerator();
+            String outputDirectory = (outputPath == null) ? String.valueOf(executionPath) : outputPath;
             try {
-                codeGenerator.generate(fileName, (outputPath == null) ? String.valueOf(executionPath) : outputPath);
+                if (watch) {
+                    if (argList.size() > 1) {
+                        throw new BallerinaAsyncApiException(
+                                "The --watch option can be used only with a single AsyncAPI specification");
+                    }
+                    new SpecWatcher(getGenerationOptions(), outStream).watch(argList.get(0), outputDirectory);
+                } else if (argList.size() > 1) {
+                    // Each spec is generated into a directory named after the spec in the output directory
+                    generateBatch(new BatchCodeGenerator(getGenerationOptions()),
+                            BatchCodeGenerator.getOutputPaths(argList, outputDirectory));
+                } else {
+                    getCodeGenerator().generate(argList.get(0), outputDirectory);
+                }
             } catch (BallerinaAsyncApiException e) {
                 outStream.println(e.getMessage());
                 exitError(this.exitWhenFinish);
+                return;
             }
         } else {
             String commandUsageInfo = BLauncherCmd.getCommandUsageInfo(getName());
@@ -124,6 +225,74 @@ public class AsyncApiCmd implements BLauncherCmd {
         }
     }
 
+    private GenerationOptions getGenerationOptions() {
+        GenerationOptions options = new GenerationOptions();
+        options.setParallel(parallel);
+        options.setIncremental(incremental);
+        options.setRouteTable(routeTable);
+        options.setPerEventConversion(perEventConversion);
+        options.setDispatchLimits(dispatchLimits);
+        options.setAsyncAck(asyncAck);
+        options.setDirectEmit(directEmit || validateDirectEmit);
+        options.setValidateDirectEmit(validateDirectEmit);
+        options.setDataTypesShardSize(dataTypesShardSize);
+        options.setFlatServiceTypeTests(flatServiceTypeTests);
+        return options;
+    }
+
+    /**
+     * Sends the generation to the daemon if one is running, otherwise the listener is generated in this process.
+     */
+    private Application getCodeGenerator() {
+        Path socketPath = getDaemonSocketPath();
+        if (GenerationDaemonClient.isDaemonRunning(socketPath)) {
+            return new GenerationDaemonClient(socketPath, getGenerationOptions(), outStream);
+        }
+        return new CodeGenerator(getGenerationOptions());
+    }
+
+    private Path getDaemonSocketPath() {
+        return (daemonSocketPath == null) ? GenerationDaemon.getDefaultSocketPath() : Paths.get(daemonSocketPath);
+    }
+
+    /**
+     * Runs the daemon until it is stopped, and returns whether the daemon could be started.
+     */
+    private boolean runDaemon() {
+        GenerationDaemon generationDaemon = new GenerationDaemon(getDaemonSocketPath());
+        try {
+            generationDaemon.start();
+        } catch (BallerinaAsyncApiException e) {
+            outStream.println(e.getMessage());
+            return false;
+        }
+        Thread shutdownHook = new Thread(() -> {
+            try {
+                generationDaemon.close();
+            } catch (IOException e) {
+                outStream.println("Could not stop the AsyncAPI generator daemon: " + e.getMessage());
+            }
+        });
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+        outStream.println("The AsyncAPI generator daemon is listening on: " + getDaemonSocketPath());
+        generationDaemon.serve();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // The daemon has been stopped by the shutdown hook, since the JVM is shutting down
+        }
+        return true;
+    }
+
+    private void generateBatch(BatchCodeGenerator batchCodeGenerator, Map<String, String> outputPaths)
+            throws BallerinaAsyncApiException {
+        List<GenerationResult> results = batchCodeGenerator.generate(outputPaths);
+        if (results.stream().anyMatch(result -> !result.isSuccessful())) {
+            throw new BallerinaAsyncApiException("Could not generate the Ballerina sources of some of the " +
+                    "AsyncAPI specifications");
+        }
+    }
+
     @Override
     public String getName() {
         return CMD_NAME;
@@ -139,7 +308,8 @@ public class AsyncApiCmd implements BLauncherCmd {
             while ((content = br.readLine()) != null) {
                 stringBuilder.append(content).append('\n');
             }
-        } catch (IOException ignored) {
+        } catch (IOException e) {
+            outStream.println("Could not read the help of the command: " + e.getMessage());
         }
     }
 
@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
+import io.ballerina.asyncapi.codegenerator.controller.TemplateRegistry;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class generates the Ballerina sources of many specs in a single process, so that the JVM startup, the class
+ * loading of the Ballerina parser and formatter and the JIT warmup are paid only once. The specs are generated on a
+ * work-stealing pool, and the templates are read from the resources only once for all the specs.
+ */
+public class BatchCodeGenerator {
+    private final FileRepository fileRepository;
+    private final TemplateRegistry templateRegistry;
+    private final GenerationOptions options;
+    private static final PrintStream outStream = System.err;
+
+    public BatchCodeGenerator(GenerationOptions options) {
+        this(new FileRepositoryImpl(), options);
+    }
+
+    public BatchCodeGenerator(FileRepository fileRepository, GenerationOptions options) {
+        this.fileRepository = fileRepository;
+        this.templateRegistry = new TemplateRegistry(fileRepository);
+        this.options = options;
+    }
+
+    /**
+     * Generates the Ballerina sources of each spec into its output directory. A failed spec does not stop the
+     * generation of the other specs, and its error is reported in the result and in the summary instead.
+     *
+     * @param outputPaths the output directory of each spec, in the order in which the summary lists the specs
+     * @return the results in the order of the given specs
+     */
+    public List<GenerationResult> generate(Map<String, String> outputPaths) throws BallerinaAsyncApiException {
+        if (outputPaths.isEmpty()) {
+            throw new BallerinaAsyncApiException("No AsyncAPI specifications are given to generate");
+        }
+        validateOutputPaths(outputPaths);
+
+        long startTime = System.nanoTime();
+        int specThreadCount = Math.min(outputPaths.size(), options.getThreadCount());
+        // The thread count is split among the specs generated at once, since each spec is generated in its own pool
+        // when the parallel option is set, otherwise there would be up to threadCount * threadCount threads
+        GenerationOptions specOptions = new GenerationOptions(options);
+        specOptions.setThreadCount(options.getThreadCount() / specThreadCount);
+        ExecutorService executor = Executors.newWorkStealingPool(specThreadCount);
+        List<GenerationResult> results = new ArrayList<>();
+        try {
+            List<Future<GenerationResult>> futures = new ArrayList<>();
+            for (Map.Entry<String, String> outputPath : outputPaths.entrySet()) {
+                futures.add(executor.submit(
+                        () -> generate(outputPath.getKey(), outputPath.getValue(), specOptions)));
+            }
+            for (Future<GenerationResult> future : futures) {
+                results.add(getGenerationResult(future));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        outStream.println(getSummary(results, System.nanoTime() - startTime));
+        return results;
+    }
+
+    /**
+     * Maps each spec to a directory in the given output path, named after the spec file without its extension.
+     */
+    public static Map<String, String> getOutputPaths(List<String> specPaths, String outputPath) {
+        Map<String, String> outputPaths = new LinkedHashMap<>();
+        for (String specPath : specPaths) {
+            String specFileName = Paths.get(specPath).getFileName().toString();
+            int extensionIndex = specFileName.lastIndexOf('.');
+            String outputDirectoryName = extensionIndex > 0 ? specFileName.substring(0, extensionIndex) : specFileName;
+            outputPaths.put(specPath, Paths.get(outputPath, outputDirectoryName).toString());
+        }
+        return outputPaths;
+    }
+
+    /**
+     * Reads a YAML or JSON manifest, which maps the path of each spec to its output directory, eg:
+     * <pre>
+     * slack.yaml: generated/slack
+     * github.yaml: generated/github
+     * </pre>
+     * Relative paths are resolved against the directory of the manifest.
+     */
+    public Map<String, String> readManifest(String manifestPath) throws BallerinaAsyncApiException {
+        JsonNode manifest = fileRepository.getYamlTreeFromFile(manifestPath);
+        if (!manifest.isObject() || manifest.isEmpty()) {
+            throw new BallerinaAsyncApiException("The manifest should map the AsyncAPI specifications to " +
+                    "their output directories: ".concat(manifestPath));
+        }
+        Path manifestDirectory = Paths.get(manifestPath).toAbsolutePath().getParent();
+        Map<String, String> outputPaths = new LinkedHashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = manifest.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!field.getValue().isTextual()) {
+                throw new BallerinaAsyncApiException("The output directory of the AsyncAPI specification "
+                        .concat(field.getKey()).concat(" should be a string in the manifest: ").concat(manifestPath));
+            }
+            outputPaths.put(manifestDirectory.resolve(field.getKey()).toString(),
+                    manifestDirectory.resolve(field.getValue().asText()).toString());
+        }
+        return outputPaths;
+    }
+
+    private void validateOutputPaths(Map<String, String> outputPaths) throws BallerinaAsyncApiException {
+        Map<Path, String> specPaths = new HashMap<>();
+        for (Map.Entry<String, String> outputPath : outputPaths.entrySet()) {
+            String otherSpecPath = specPaths.putIfAbsent(
+                    Paths.get(outputPath.getValue()).toAbsolutePath().normalize(), outputPath.getKey());
+            if (otherSpecPath != null) {
+                throw new BallerinaAsyncApiException(String.format(
+                        "The AsyncAPI specifications %s and %s have the same output directory: %s",
+                        otherSpecPath, outputPath.getKey(), outputPath.getValue()));
+            }
+        }
+    }
+
+    private GenerationResult generate(String specPath, String outputPath, GenerationOptions specOptions) {
+        long startTime = System.nanoTime();
+        try {
+            new CodeGenerator(fileRepository, specOptions, outStream, templateRegistry).generate(specPath, outputPath);
+            return new GenerationResult(specPath, outputPath, System.nanoTime() - startTime, null);
+        } catch (BallerinaAsyncApiException | RuntimeException e) {
+            String errorMessage = e.getMessage() != null ? e.getMessage() : e.toString();
+            return new GenerationResult(specPath, outputPath, System.nanoTime() - startTime, errorMessage);
+        }
+    }
+
+    private GenerationResult getGenerationResult(Future<GenerationResult> future)
+            throws BallerinaAsyncApiException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BallerinaAsyncApiException("Code generation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new BallerinaAsyncApiException("Could not generate the Ballerina code", e.getCause());
+        }
+    }
+
+    private String getSummary(List<GenerationResult> results, long durationNanos) {
+        StringBuilder summary = new StringBuilder("Generation summary:");
+        int successCount = 0;
+        for (GenerationResult result : results) {
+            summary.append("\n--").append(result.getSpecPath()).append(" -> ").append(result.getOutputPath())
+                    .append(": ");
+            if (result.isSuccessful()) {
+                successCount++;
+                summary.append(toMillis(result.getDurationNanos())).append(" ms");
+            } else {
+                summary.append("failed in ").append(toMillis(result.getDurationNanos())).append(" ms, ")
+                        .append(result.getErrorMessage());
+            }
+        }
+        summary.append("\nGenerated ").append(successCount).append(" of ").append(results.size())
+                .append(" AsyncAPI specifications in ").append(toMillis(durationNanos)).append(" ms");
+        return summary.toString();
+    }
+
+    private long toMillis(long durationNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+    }
+}
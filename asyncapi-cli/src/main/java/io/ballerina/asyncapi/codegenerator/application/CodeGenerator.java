@@ -18,23 +18,42 @@
 
 package io.ballerina.asyncapi.codegenerator.application;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
 import io.ballerina.asyncapi.codegenerator.controller.AsyncApiSpecController;
 import io.ballerina.asyncapi.codegenerator.controller.BalController;
+import io.ballerina.asyncapi.codegenerator.controller.BalTemplate;
 import io.ballerina.asyncapi.codegenerator.controller.DispatcherController;
 import io.ballerina.asyncapi.codegenerator.controller.ListenerController;
 import io.ballerina.asyncapi.codegenerator.controller.SchemaController;
+import io.ballerina.asyncapi.codegenerator.controller.SchemaShardController;
 import io.ballerina.asyncapi.codegenerator.controller.ServiceTypesController;
 import io.ballerina.asyncapi.codegenerator.controller.SpecController;
+import io.ballerina.asyncapi.codegenerator.controller.TemplateRegistry;
 import io.ballerina.asyncapi.codegenerator.entity.Schema;
 import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import io.ballerina.asyncapi.codegenerator.repository.SourceWriter;
+import io.ballerina.asyncapi.codegenerator.usecase.ExtractSchemaShards;
+import io.ballerina.asyncapi.codegenerator.usecase.Extractor;
+import io.ballerina.asyncapi.codegenerator.usecase.utils.BallerinaTomlUtils;
+import io.ballerina.asyncapi.codegenerator.usecase.utils.HashUtils;
 
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  *  This class controls the flow of code generation.
@@ -44,62 +63,389 @@ import java.util.Map;
  */
 public class CodeGenerator implements Application {
     private final FileRepository fileRepository;
-    private static final PrintStream outStream = System.err;
+    private final GenerationOptions options;
+    private final PrintStream outStream;
+    private final GenerationCache generationCache;
+    private final TemplateRegistry templateRegistry;
+    private final HashUtils hashUtils = new HashUtils();
+    private final BallerinaTomlUtils ballerinaTomlUtils = new BallerinaTomlUtils();
+    // The version in the manifest of the jar, which is not available when the classes are not run from the jar
+    private static final String GENERATOR_VERSION = String.valueOf(
+            CodeGenerator.class.getPackage().getImplementationVersion());
+    private static final Map<String, List<String>> OUTPUT_DEPENDENCIES = Map.of(
+            Constants.DATA_TYPES_BAL_FILE_NAME, List.of(Constants.INPUT_HASH_SCHEMA_PREFIX,
+                    Constants.INPUT_HASH_CHANNEL_PREFIX, Constants.X_BALLERINA_EVENT_DEDUP_PATH),
+            Constants.SERVICE_TYPES_BAL_FILE_NAME, List.of(Constants.INPUT_HASH_CHANNEL_PREFIX),
+            Constants.LISTENER_BAL_FILE_NAME,
+            List.of(Constants.INPUT_HASH_CHANNEL_PREFIX, Constants.X_BALLERINA_EVENT_DEDUP_PATH),
+            Constants.DISPATCHER_SERVICE_BAL_FILE_NAME, List.of(Constants.INPUT_HASH_CHANNEL_PREFIX,
+                    Constants.X_BALLERINA_EVENT_FIELD_IDENTIFIER, Constants.X_BALLERINA_EVENT_DEDUP_PATH));
 
     public CodeGenerator() {
-        this.fileRepository = new FileRepositoryImpl();
+        this(new FileRepositoryImpl(), new GenerationOptions());
     }
 
     public CodeGenerator(FileRepository fileRepository) {
+        this(fileRepository, new GenerationOptions());
+    }
+
+    public CodeGenerator(GenerationOptions options) {
+        this(new FileRepositoryImpl(), options);
+    }
+
+    public CodeGenerator(FileRepository fileRepository, GenerationOptions options) {
+        this(fileRepository, options, System.err);
+    }
+
+    /**
+     * Creates a code generator, which prints the generated and up to date files to the given stream instead of the
+     * standard error, eg: to send them back to the client of the generator daemon.
+     */
+    public CodeGenerator(FileRepository fileRepository, GenerationOptions options, PrintStream outStream) {
+        this(fileRepository, options, outStream, null, new TemplateRegistry(fileRepository));
+    }
+
+    /**
+     * Creates a code generator, which takes the parsed templates from the given registry. This is used by the batch,
+     * watch and daemon modes, so that the templates are parsed only once for all the specs generated by those.
+     */
+    CodeGenerator(FileRepository fileRepository, GenerationOptions options, PrintStream outStream,
+                  TemplateRegistry templateRegistry) {
+        this(fileRepository, options, outStream, null, templateRegistry);
+    }
+
+    /**
+     * Creates a code generator, which generates incrementally against the given cache kept in memory, instead of the
+     * cache file in the output directory. This is used by the watch mode, which generates into the same directory
+     * on every change of the spec.
+     */
+    CodeGenerator(FileRepository fileRepository, GenerationOptions options, PrintStream outStream,
+                  GenerationCache generationCache, TemplateRegistry templateRegistry) {
         this.fileRepository = fileRepository;
+        this.options = options;
+        this.outStream = outStream;
+        this.generationCache = generationCache;
+        this.templateRegistry = templateRegistry;
     }
 
     @Override
     public void generate(String specPath, String outputPath) throws BallerinaAsyncApiException {
-        String asyncApiSpecJson = getFileContent(fileRepository, specPath);
-
-        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+        SpecController specController = new AsyncApiSpecController(getSpecTree(fileRepository, specPath));
         Map<String, Schema> schemas = specController.getSchemas();
         List<ServiceType> serviceTypes = specController.getServiceTypes();
         String eventIdentifierType = specController.getEventIdentifierType();
         String eventIdentifierPath = specController.getEventIdentifierPath();
+        String eventDedupPath = specController.getEventDedupPath();
+
+        // The templates are parsed upfront, so that the generation tasks below only depend on the extracted entities
+        BalTemplate dataTypesTemplate = templateRegistry.getTemplate(Constants.DATA_TYPES_BAL_FILE_NAME);
+        BalTemplate listenerTemplate = templateRegistry.getTemplate(Constants.LISTENER_BAL_FILE_NAME);
+        BalTemplate dispatcherTemplate;
+        if (eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_BODY)) {
+            dispatcherTemplate = templateRegistry.getTemplate(options.isAsyncAck()
+                    ? Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_BODY_WITH_ASYNC_ACK
+                    : Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_BODY);
+        } else {
+            dispatcherTemplate = templateRegistry.getTemplate(options.isAsyncAck()
+                    ? Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER_WITH_ASYNC_ACK
+                    : Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER);
+        }
+
+        BalController schemaController = new SchemaController(schemas, eventDedupPath, options);
+        BalController serviceTypesController = new ServiceTypesController(serviceTypes, options);
+        BalController listenerController = new ListenerController(serviceTypes, eventDedupPath, options);
+        BalController dispatcherController = new DispatcherController(serviceTypes, eventIdentifierType,
+                eventIdentifierPath, eventDedupPath, options);
 
-        String dataTypesTemplate = fileRepository.getFileContentFromResources(Constants.DATA_TYPES_BAL_FILE_NAME);
-        BalController schemaController = new SchemaController(schemas);
-        String dataTypesBalContent = schemaController.generateBalCode(dataTypesTemplate);
+        // None of these depends on the output of another, hence those can be generated in any order.
+        // The order of this map is the order in which the files are written.
+        Map<String, Callable<SourceWriter>> generationTasks = new LinkedHashMap<>();
+        generationTasks.put(Constants.DATA_TYPES_BAL_FILE_NAME,
+                () -> schemaController.generateBalSource(dataTypesTemplate));
+        int shardCount = 0;
+        if (options.getDataTypesShardSize() > 0) {
+            Extractor extractSchemaShards = new ExtractSchemaShards(schemas, options.getDataTypesShardSize());
+            List<Map<String, Schema>> shards = extractSchemaShards.extract();
+            for (Map<String, Schema> shard : shards) {
+                shardCount += 1;
+                String shardFileName = String.format(Constants.DATA_TYPES_SHARD_FILE_NAME, shardCount);
+                BalController shardController = new SchemaShardController(shard, shardFileName, options);
+                generationTasks.put(shardFileName,
+                        () -> shardController.generateBalSource(Constants.EMPTY_BALLERINA_FILE_CONTENT));
+            }
+        }
+        generationTasks.put(Constants.SERVICE_TYPES_BAL_FILE_NAME,
+                () -> serviceTypesController.generateBalSource(Constants.EMPTY_BALLERINA_FILE_CONTENT));
+        generationTasks.put(Constants.LISTENER_BAL_FILE_NAME,
+                () -> listenerController.generateBalSource(listenerTemplate));
+        generationTasks.put(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME,
+                () -> dispatcherController.generateBalSource(dispatcherTemplate));
 
-        BalController serviceTypesController = new ServiceTypesController(serviceTypes);
-        String serviceTypesBalContent = serviceTypesController.generateBalCode(Constants.EMPTY_BALLERINA_FILE_CONTENT);
+        String outputDirectory = getOutputDirectory(outputPath);
+        if (options.isIncremental() || generationCache != null) {
+            // Options which change the generated code are part of the digest as well as the templates, and the version
+            // of the generator, whose generation logic may change while the templates stay the same
+            String generatorDigest = hashUtils.getContentHash(String.join("\n", "version=" + GENERATOR_VERSION,
+                    dataTypesTemplate.getContent(),
+                    listenerTemplate.getContent(), dispatcherTemplate.getContent(),
+                    "routeTable=" + options.isRouteTable(), "perEventConversion=" + options.isPerEventConversion(),
+                    "dispatchLimits=" + options.isDispatchLimits(), "asyncAck=" + options.isAsyncAck(),
+                    "directEmit=" + options.isDirectEmit(), "dataTypesShardSize=" + options.getDataTypesShardSize(),
+                    "flatServiceTypeTests=" + options.isFlatServiceTypeTests()));
+            generateIncrementally(generationTasks, specController.getInputHashes(), generatorDigest,
+                    outputDirectory, shardCount);
+            pinNativeHandlerVersion(outputDirectory);
+            return;
+        }
 
-        String listenerTemplate = fileRepository.getFileContentFromResources(Constants.LISTENER_BAL_FILE_NAME);
-        BalController listenerController = new ListenerController(serviceTypes);
-        String listenerBalContent = listenerController.generateBalCode(listenerTemplate);
+        List<String> fileNames = new ArrayList<>(generationTasks.keySet());
+        List<SourceWriter> fileSources = generate(new ArrayList<>(generationTasks.values()));
+        writeFiles(outputDirectory, fileNames, fileSources);
+        deleteStaleShards(outputDirectory, shardCount, null);
+        pinNativeHandlerVersion(outputDirectory);
+        outStream.println(getGeneratedFilesMessage(fileNames));
+    }
 
-        BalController dispatcherController = new DispatcherController(serviceTypes, eventIdentifierType,
-                eventIdentifierPath);
-        String dispatcherContent = "";
-        if (eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_BODY)) {
-            String dispatcherTemplateForEventIdentifierInBody = fileRepository
-                    .getFileContentFromResources(
-                            Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_BODY);
-            dispatcherContent = dispatcherController.generateBalCode(dispatcherTemplateForEventIdentifierInBody);
+    /**
+     * Pins the version of the native handler in the Ballerina.toml of the package, which the code is generated into,
+     * since the generated code calls functions of the native handler, which its older versions do not have. Nothing is
+     * changed if the output directory is not the root of a package.
+     */
+    private void pinNativeHandlerVersion(String outputDirectory) throws BallerinaAsyncApiException {
+        String tomlPath = outputDirectory.concat(Constants.BALLERINA_TOML_FILE_NAME);
+        if (!fileRepository.isFileExists(tomlPath)) {
+            return;
+        }
+        String toml = fileRepository.getFileContent(tomlPath);
+        String pinnedToml = ballerinaTomlUtils.pinDependency(toml, Constants.NATIVE_HANDLER_ORG,
+                Constants.NATIVE_HANDLER_PACKAGE_NAME, Constants.NATIVE_HANDLER_VERSION);
+        if (!pinnedToml.equals(toml)) {
+            fileRepository.writeToFile(tomlPath, pinnedToml);
+        }
+    }
+
+    /**
+     * Writes the generated files in the order of the given file names. When the data types are sharded and the
+     * code is generated in parallel, the files are written concurrently instead, since there can be many shards.
+     * The files are written only after all of them are generated, hence a failed generation never leaves a
+     * partially generated set of files behind. The generated sources are streamed to the files, and the files
+     * which already have the same content are not written again.
+     */
+    private void writeFiles(String outputDirectory, List<String> fileNames, List<SourceWriter> fileSources)
+            throws BallerinaAsyncApiException {
+        if (options.isParallel() && options.getDataTypesShardSize() > 0 && fileNames.size() > 1) {
+            List<Callable<Boolean>> writeTasks = new ArrayList<>();
+            for (int i = 0; i < fileNames.size(); i++) {
+                String filePath = outputDirectory.concat(fileNames.get(i));
+                SourceWriter fileSource = fileSources.get(i);
+                writeTasks.add(() -> fileRepository.writeToFile(filePath, fileSource));
+            }
+            generateInParallel(writeTasks);
+            return;
+        }
+        for (int i = 0; i < fileNames.size(); i++) {
+            fileRepository.writeToFile(outputDirectory.concat(fileNames.get(i)), fileSources.get(i));
+        }
+    }
+
+    /**
+     * Deletes the shards of the data types left by a previous generation, which had more shards than this one.
+     * Otherwise those would define the same records as the current shards. Only the shards recorded in the shards
+     * manifest of the output directory by a previous generation are deleted, hence files of the user with the same
+     * names are never deleted. The shards written by this generation are recorded in the manifest instead.
+     * Nothing is deleted when the data types are not sharded.
+     */
+    private void deleteStaleShards(String outputDirectory, int shardCount, GenerationCache cache)
+            throws BallerinaAsyncApiException {
+        if (options.getDataTypesShardSize() <= 0) {
+            return;
+        }
+        List<String> shardFileNames = new ArrayList<>();
+        for (int shardNumber = 1; shardNumber <= shardCount; shardNumber++) {
+            shardFileNames.add(String.format(Constants.DATA_TYPES_SHARD_FILE_NAME, shardNumber));
+        }
+        String manifestPath = outputDirectory.concat(Constants.DATA_TYPES_SHARDS_MANIFEST_FILE_NAME);
+        String manifest = String.join("\n", shardFileNames);
+        if (fileRepository.isFileExists(manifestPath)) {
+            String previousManifest = fileRepository.getFileContent(manifestPath);
+            if (previousManifest.equals(manifest)) {
+                return;
+            }
+            for (String previousShardFileName : previousManifest.split("\n")) {
+                String shardPath = outputDirectory.concat(previousShardFileName);
+                if (previousShardFileName.isBlank() || shardFileNames.contains(previousShardFileName)
+                        || !fileRepository.isFileExists(shardPath)) {
+                    continue;
+                }
+                fileRepository.deleteFile(shardPath);
+                if (cache != null) {
+                    cache.removeOutput(previousShardFileName);
+                }
+            }
+        }
+        fileRepository.writeToFile(manifestPath, manifest);
+    }
+
+    /**
+     * Generates only the files, whose inputs (schemas, channels, event identifier or templates) have been changed
+     * since the last generation or which have been modified after the last generation. The content hashes of the
+     * last generation are kept in a cache file in the output directory, or in memory in the watch mode. Generated
+     * files with the same content as the existing files are not written again.
+     */
+    private void generateIncrementally(Map<String, Callable<SourceWriter>> generationTasks,
+                                       Map<String, String> inputHashes, String generatorDigest,
+                                       String outputDirectory, int shardCount)
+            throws BallerinaAsyncApiException {
+        String cachePath = outputDirectory.concat(Constants.GENERATION_CACHE_FILE_NAME);
+        GenerationCache cache;
+        if (generationCache != null) {
+            cache = generationCache;
+        } else if (fileRepository.isFileExists(cachePath)) {
+            cache = GenerationCache.fromJson(fileRepository.getFileContent(cachePath));
         } else {
-            String dispatcherTemplateForEventIdentifierInHeader = fileRepository
-                    .getFileContentFromResources(
-                            Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER);
-            dispatcherContent = dispatcherController.generateBalCode(dispatcherTemplateForEventIdentifierInHeader);
+            cache = new GenerationCache();
         }
 
-        String outputDirectory = getOutputDirectory(outputPath);
-        fileRepository.writeToFile(outputDirectory.concat(Constants.DATA_TYPES_BAL_FILE_NAME), dataTypesBalContent);
-        fileRepository
-                .writeToFile(outputDirectory.concat(Constants.SERVICE_TYPES_BAL_FILE_NAME), serviceTypesBalContent);
-        fileRepository.writeToFile(outputDirectory.concat(Constants.LISTENER_BAL_FILE_NAME), listenerBalContent);
-        fileRepository
-                .writeToFile(outputDirectory.concat(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME), dispatcherContent);
+        Map<String, String> inputDigests = new LinkedHashMap<>();
+        Map<String, String> existingContentHashes = new HashMap<>();
+        List<String> outdatedFileNames = new ArrayList<>();
+        List<Callable<SourceWriter>> outdatedTasks = new ArrayList<>();
+        for (Map.Entry<String, Callable<SourceWriter>> generationTask : generationTasks.entrySet()) {
+            String fileName = generationTask.getKey();
+            String inputDigest = getInputDigest(fileName, inputHashes, generatorDigest);
+            inputDigests.put(fileName, inputDigest);
+            String filePath = outputDirectory.concat(fileName);
+            if (fileRepository.isFileExists(filePath)) {
+                existingContentHashes.put(fileName,
+                        hashUtils.getContentHash(fileRepository.getFileContent(filePath)));
+            }
+            if (!cache.isUpToDate(fileName, inputDigest, existingContentHashes.get(fileName))) {
+                outdatedFileNames.add(fileName);
+                outdatedTasks.add(generationTask.getValue());
+            }
+        }
+
+        List<SourceWriter> fileSources = generate(outdatedTasks);
+        List<String> writtenFileNames = new ArrayList<>();
+        List<SourceWriter> writtenFileSources = new ArrayList<>();
+        for (int i = 0; i < outdatedFileNames.size(); i++) {
+            String fileName = outdatedFileNames.get(i);
+            String contentHash = hashUtils.getContentHash(fileSources.get(i));
+            if (!contentHash.equals(existingContentHashes.get(fileName))) {
+                writtenFileNames.add(fileName);
+                writtenFileSources.add(fileSources.get(i));
+            }
+            cache.putOutput(fileName, inputDigests.get(fileName), contentHash);
+        }
+        writeFiles(outputDirectory, writtenFileNames, writtenFileSources);
+        deleteStaleShards(outputDirectory, shardCount, cache);
+        cache.setInputHashes(inputHashes);
+        if (generationCache == null) {
+            fileRepository.writeToFile(cachePath, cache.toJson());
+        }
+
+        List<String> upToDateFileNames = new ArrayList<>(generationTasks.keySet());
+        upToDateFileNames.removeAll(writtenFileNames);
+        if (!writtenFileNames.isEmpty()) {
+            outStream.println(getGeneratedFilesMessage(writtenFileNames));
+        }
+        if (!upToDateFileNames.isEmpty()) {
+            outStream.println("Following files are up to date:" + getFileListMessage(upToDateFileNames));
+        }
+    }
+
+    /**
+     * Calculates a digest from the hashes of the inputs which the given file depends on.
+     */
+    private String getInputDigest(String fileName, Map<String, String> inputHashes, String generatorDigest)
+            throws BallerinaAsyncApiException {
+        // The shards of the data types depend on the same inputs as the data_types.bal
+        List<String> dependencies = OUTPUT_DEPENDENCIES.getOrDefault(fileName,
+                OUTPUT_DEPENDENCIES.get(Constants.DATA_TYPES_BAL_FILE_NAME));
+        StringBuilder digestContent = new StringBuilder(generatorDigest);
+        for (Map.Entry<String, String> inputHash : new TreeMap<>(inputHashes).entrySet()) {
+            if (dependencies.stream().anyMatch(inputHash.getKey()::startsWith)) {
+                digestContent.append('\n').append(inputHash.getKey()).append('=').append(inputHash.getValue());
+            }
+        }
+        return hashUtils.getContentHash(digestContent.toString());
+    }
 
-        outStream.println("Following files were generated successfully:" +
-                "\n--data_types.bal\n--service_types.bal\n--listener.bal\n--dispatcher_service.bal");
+    private <T> List<T> generate(List<Callable<T>> generationTasks) throws BallerinaAsyncApiException {
+        if (options.isParallel() && !generationTasks.isEmpty()) {
+            return generateInParallel(generationTasks);
+        }
+        return generateSequentially(generationTasks);
+    }
+
+    private String getGeneratedFilesMessage(List<String> fileNames) {
+        return "Following files were generated successfully:" + getFileListMessage(fileNames);
+    }
+
+    private String getFileListMessage(List<String> fileNames) {
+        StringBuilder message = new StringBuilder();
+        for (String fileName : fileNames) {
+            message.append("\n--").append(fileName);
+        }
+        return message.toString();
+    }
+
+    private <T> List<T> generateSequentially(List<Callable<T>> generationTasks)
+            throws BallerinaAsyncApiException {
+        List<T> results = new ArrayList<>();
+        for (Callable<T> generationTask : generationTasks) {
+            try {
+                results.add(generationTask.call());
+            } catch (BallerinaAsyncApiException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new BallerinaAsyncApiException("Could not generate the Ballerina code", e);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Runs the generation tasks in a bounded thread pool and joins the results in the order of the given tasks.
+     * Since the results are joined in order, the error of the first failed task (by order) is reported,
+     * regardless of which task failed first in time. The tasks which write the sharded files are run in the same
+     * way.
+     */
+    private <T> List<T> generateInParallel(List<Callable<T>> generationTasks)
+            throws BallerinaAsyncApiException {
+        int threadCount = Math.min(generationTasks.size(), options.getThreadCount());
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "asyncapi-codegen");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> generationTask : generationTasks) {
+                futures.add(executor.submit(generationTask));
+            }
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(getGenerationResult(future));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> T getGenerationResult(Future<T> future) throws BallerinaAsyncApiException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BallerinaAsyncApiException("Code generation was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BallerinaAsyncApiException) {
+                throw (BallerinaAsyncApiException) e.getCause();
+            }
+            throw new BallerinaAsyncApiException("Could not generate the Ballerina code", e.getCause());
+        }
     }
 
     private String getOutputDirectory(String outputPath) {
@@ -109,13 +455,15 @@ public class CodeGenerator implements Application {
         return outputPath.concat("/");
     }
 
-    private String getFileContent(FileRepository fileRepository, String specPath) throws BallerinaAsyncApiException {
-        String asyncApiSpecYaml = fileRepository.getFileContent(specPath);
+    /**
+     * Streams the spec file into a JSON tree, so that the spec is parsed only once and is never kept in memory as
+     * a YAML or JSON string.
+     */
+    private JsonNode getSpecTree(FileRepository fileRepository, String specPath) throws BallerinaAsyncApiException {
         if (specPath.endsWith(".json")) {
-            fileRepository.validateJson(asyncApiSpecYaml);
-            return asyncApiSpecYaml;
+            return fileRepository.getJsonTreeFromFile(specPath);
         } else if (specPath.endsWith("yaml") || specPath.endsWith("yml")) {
-            return fileRepository.convertYamlToJson(asyncApiSpecYaml);
+            return fileRepository.getYamlTreeFromFile(specPath);
         } else {
             throw new BallerinaAsyncApiException("Unknown file type: ".concat(specPath));
         }
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * This keeps the content hashes of the inputs and the outputs of the last code generation, which are stored in the
+ * output directory. When the input digest of a generated file has not been changed since the last generation, the
+ * file does not need to be generated again.
+ */
+class GenerationCache {
+    // Bumped when the generation logic changes within the same version of the generator, such as between snapshots
+    private static final int CACHE_VERSION = 2;
+    private static final String VERSION_FIELD = "version";
+    private static final String INPUTS_FIELD = "inputs";
+    private static final String OUTPUTS_FIELD = "outputs";
+    private static final String INPUT_DIGEST_FIELD = "inputDigest";
+    private static final String CONTENT_HASH_FIELD = "contentHash";
+
+    private final Map<String, String> inputHashes;
+    private final Map<String, String> outputInputDigests;
+    private final Map<String, String> outputContentHashes;
+
+    GenerationCache() {
+        this.inputHashes = new TreeMap<>();
+        this.outputInputDigests = new TreeMap<>();
+        this.outputContentHashes = new TreeMap<>();
+    }
+
+    /**
+     * Read the cache from its JSON representation. An empty cache is returned if the content is not a valid cache,
+     * (i.e. the cache was written by a different version of the tool) which results in a full generation.
+     */
+    static GenerationCache fromJson(String json) {
+        GenerationCache cache = new GenerationCache();
+        try {
+            JsonNode root = new ObjectMapper().readTree(json);
+            if (root == null || !root.path(VERSION_FIELD).isInt()
+                    || root.path(VERSION_FIELD).asInt() != CACHE_VERSION) {
+                return cache;
+            }
+            Iterator<Map.Entry<String, JsonNode>> inputs = root.path(INPUTS_FIELD).fields();
+            while (inputs.hasNext()) {
+                Map.Entry<String, JsonNode> input = inputs.next();
+                cache.inputHashes.put(input.getKey(), input.getValue().asText());
+            }
+            Iterator<Map.Entry<String, JsonNode>> outputs = root.path(OUTPUTS_FIELD).fields();
+            while (outputs.hasNext()) {
+                Map.Entry<String, JsonNode> output = outputs.next();
+                cache.outputInputDigests.put(output.getKey(), output.getValue().path(INPUT_DIGEST_FIELD).asText());
+                cache.outputContentHashes.put(output.getKey(), output.getValue().path(CONTENT_HASH_FIELD).asText());
+            }
+        } catch (JsonProcessingException e) {
+            return new GenerationCache();
+        }
+        return cache;
+    }
+
+    String toJson() throws BallerinaAsyncApiException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put(VERSION_FIELD, CACHE_VERSION);
+        ObjectNode inputs = root.putObject(INPUTS_FIELD);
+        inputHashes.forEach(inputs::put);
+        ObjectNode outputs = root.putObject(OUTPUTS_FIELD);
+        for (Map.Entry<String, String> output : outputInputDigests.entrySet()) {
+            ObjectNode outputNode = outputs.putObject(output.getKey());
+            outputNode.put(INPUT_DIGEST_FIELD, output.getValue());
+            outputNode.put(CONTENT_HASH_FIELD, outputContentHashes.get(output.getKey()));
+        }
+        try {
+            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(root);
+        } catch (JsonProcessingException e) {
+            throw new BallerinaAsyncApiException("Could not serialize the code generation cache", e);
+        }
+    }
+
+    Map<String, String> getInputHashes() {
+        return inputHashes;
+    }
+
+    void setInputHashes(Map<String, String> inputHashes) {
+        this.inputHashes.clear();
+        this.inputHashes.putAll(inputHashes);
+    }
+
+    /**
+     * Check whether the given file was generated with the same input digest and has the given content hash.
+     */
+    boolean isUpToDate(String fileName, String inputDigest, String contentHash) {
+        return inputDigest.equals(outputInputDigests.get(fileName))
+                && contentHash != null && contentHash.equals(outputContentHashes.get(fileName));
+    }
+
+    String getContentHash(String fileName) {
+        return outputContentHashes.get(fileName);
+    }
+
+    void putOutput(String fileName, String inputDigest, String contentHash) {
+        outputInputDigests.put(fileName, inputDigest);
+        outputContentHashes.put(fileName, contentHash);
+    }
+
+    void removeOutput(String fileName) {
+        outputInputDigests.remove(fileName);
+        outputContentHashes.remove(fileName);
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.controller.TemplateRegistry;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A long-running process, which keeps the code generator loaded and warmed up by the JIT, and generates the
+ * listeners requested by the asyncapi command over a Unix domain socket. The templates are read only once for all
+ * the requests. Requests for the same output directory are generated one at a time, the others mostly concurrently.
+ */
+public class GenerationDaemon implements Closeable {
+    static final String OUTPUT_FIELD = "output";
+    static final String ERROR_FIELD = "error";
+    private static final PrintStream outStream = System.err;
+    // Requests for different output directories may share a lock, which only makes those wait for each other
+    private static final int OUTPUT_LOCK_STRIPES = 64;
+    private static final long DEFAULT_REQUEST_TIMEOUT_MILLIS = 30000;
+
+    private final Path socketPath;
+    private final FileRepository fileRepository;
+    private final TemplateRegistry templateRegistry;
+    private final Object[] outputLocks = new Object[OUTPUT_LOCK_STRIPES];
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "asyncapi-daemon");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ServerSocketChannel serverChannel;
+    private long requestTimeoutMillis = DEFAULT_REQUEST_TIMEOUT_MILLIS;
+
+    public GenerationDaemon(Path socketPath) {
+        this(socketPath, new FileRepositoryImpl());
+    }
+
+    public GenerationDaemon(Path socketPath, FileRepository fileRepository) {
+        this.socketPath = socketPath;
+        this.fileRepository = fileRepository;
+        this.templateRegistry = new TemplateRegistry(fileRepository);
+        for (int i = 0; i < OUTPUT_LOCK_STRIPES; i++) {
+            outputLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * A connection, which does not send its request within this time, is closed, so that it does not keep a thread
+     * of the daemon.
+     */
+    void setRequestTimeoutMillis(long requestTimeoutMillis) {
+        this.requestTimeoutMillis = requestTimeoutMillis;
+    }
+
+    /**
+     * The socket is kept in the Ballerina directory of the user, so that only the user can send requests to it.
+     */
+    public static Path getDefaultSocketPath() {
+        return Paths.get(System.getProperty("user.home"), ".ballerina", "asyncapi-daemon.sock");
+    }
+
+    public void start() throws BallerinaAsyncApiException {
+        if (GenerationDaemonClient.isDaemonRunning(socketPath)) {
+            throw new BallerinaAsyncApiException("An AsyncAPI generator daemon is already running on: "
+                    .concat(socketPath.toString()));
+        }
+        try {
+            Path socketDir = socketPath.toAbsolutePath().getParent();
+            Files.createDirectories(socketDir);
+            // A socket file left behind by a daemon which was killed, has to be removed before binding
+            Files.deleteIfExists(socketPath);
+            serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+                bindPrivately(socketDir);
+            } else {
+                serverChannel.bind(UnixDomainSocketAddress.of(socketPath));
+            }
+        } catch (IOException | UnsupportedOperationException e) {
+            throw new BallerinaAsyncApiException("Could not start the AsyncAPI generator daemon on: "
+                    .concat(socketPath.toString()), e);
+        }
+    }
+
+    /**
+     * Binds the socket in a new directory, which only the user can access, and moves it to the socket path once only
+     * the user can connect to it. Hence, other users can not send requests while the permissions are being set.
+     */
+    private void bindPrivately(Path socketDir) throws IOException {
+        Path privateDir = Files.createTempDirectory(socketDir, ".asyncapi-daemon",
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        Path privateSocketPath = privateDir.resolve(socketPath.getFileName());
+        try {
+            serverChannel.bind(UnixDomainSocketAddress.of(privateSocketPath));
+            Files.setPosixFilePermissions(privateSocketPath, PosixFilePermissions.fromString("rw-------"));
+            Files.move(privateSocketPath, socketPath, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(privateSocketPath);
+            Files.deleteIfExists(privateDir);
+        }
+    }
+
+    /**
+     * Accepts the requests until the daemon is stopped by a stop request or by closing it.
+     */
+    public void serve() {
+        while (serverChannel.isOpen()) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                executor.execute(() -> handle(channel));
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                outStream.println("Could not accept a request to the AsyncAPI generator daemon: " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (serverChannel != null && serverChannel.isOpen()) {
+            // The socket file is removed first, so that the daemon is not seen as running once serve has returned
+            Files.deleteIfExists(socketPath);
+            serverChannel.close();
+        }
+        executor.shutdown();
+    }
+
+    private void handle(SocketChannel channel) {
+        boolean stopRequested = false;
+        try (channel) {
+            String requestJson = readRequest(channel);
+            if (requestJson == null) {
+                return;
+            }
+            ObjectNode response = new ObjectMapper().createObjectNode();
+            try {
+                GenerationRequest request = GenerationRequest.fromJson(requestJson);
+                if (GenerationRequest.STOP_COMMAND.equals(request.getCommand())) {
+                    stopRequested = true;
+                    response.put(OUTPUT_FIELD, "The AsyncAPI generator daemon is stopped" + System.lineSeparator());
+                } else {
+                    response.put(OUTPUT_FIELD, generate(request));
+                }
+            } catch (BallerinaAsyncApiException | RuntimeException e) {
+                response.put(ERROR_FIELD, e.getMessage() != null ? e.getMessage() : e.toString());
+            }
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    Channels.newOutputStream(channel), StandardCharsets.UTF_8));
+            writer.write(toJson(response));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            outStream.println("Could not respond to a request to the AsyncAPI generator daemon: " + e.getMessage());
+        }
+        if (stopRequested) {
+            try {
+                close();
+            } catch (IOException e) {
+                outStream.println("Could not stop the AsyncAPI generator daemon: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Reads the request line, within the request timeout. A Unix domain socket channel does not support read
+     * timeouts, hence the channel is read through a selector.
+     *
+     * @return the request, or null if the connection is closed without a request
+     */
+    private String readRequest(SocketChannel channel) throws IOException {
+        ByteArrayOutputStream request = new ByteArrayOutputStream();
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(requestTimeoutMillis);
+        channel.configureBlocking(false);
+        try (Selector selector = Selector.open()) {
+            channel.register(selector, SelectionKey.OP_READ);
+            while (true) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    throw new IOException("The request was not received within " + requestTimeoutMillis + "ms");
+                }
+                selector.select(remainingMillis);
+                selector.selectedKeys().clear();
+                buffer.clear();
+                int read = channel.read(buffer);
+                if (read < 0) {
+                    return null;
+                }
+                for (int i = 0; i < read; i++) {
+                    byte value = buffer.get(i);
+                    if (value == '\n') {
+                        return request.toString(StandardCharsets.UTF_8).stripTrailing();
+                    }
+                    request.write(value);
+                }
+            }
+        } finally {
+            // The selector is closed by now, hence the channel is deregistered and can be used to respond
+            channel.configureBlocking(true);
+        }
+    }
+
+    /**
+     * Generates the requested listener and returns the messages of the code generator.
+     */
+    private String generate(GenerationRequest request) throws BallerinaAsyncApiException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream printStream = new PrintStream(output, true, StandardCharsets.UTF_8);
+        Path outputPath = Paths.get(request.getOutputPath()).toAbsolutePath().normalize();
+        Object outputLock = outputLocks[Math.floorMod(outputPath.hashCode(), OUTPUT_LOCK_STRIPES)];
+        synchronized (outputLock) {
+            new CodeGenerator(fileRepository, request.getOptions(), printStream, templateRegistry)
+                    .generate(request.getSpecPath(), request.getOutputPath());
+        }
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private String toJson(ObjectNode response) throws IOException {
+        try {
+            return new ObjectMapper().writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IOException("Could not serialize the response of the AsyncAPI generator daemon", e);
+        }
+    }
+}
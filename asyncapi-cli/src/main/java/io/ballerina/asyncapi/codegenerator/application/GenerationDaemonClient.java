@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Sends the generation requests of the asyncapi command to a running generator daemon. The relative paths are
+ * resolved against the working directory of the command, since the daemon may run in a different directory.
+ */
+public class GenerationDaemonClient implements Application {
+    private final Path socketPath;
+    private final GenerationOptions options;
+    private final PrintStream outStream;
+
+    public GenerationDaemonClient(Path socketPath, GenerationOptions options, PrintStream outStream) {
+        this.socketPath = socketPath;
+        this.options = options;
+        this.outStream = outStream;
+    }
+
+    /**
+     * Checks whether a daemon accepts connections on the given socket. A socket file without a daemon, which was
+     * left behind by a killed daemon, is not considered as a running daemon.
+     */
+    public static boolean isDaemonRunning(Path socketPath) {
+        if (!Files.exists(socketPath)) {
+            return false;
+        }
+        try (SocketChannel ignored = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void generate(String specPath, String outputPath) throws BallerinaAsyncApiException {
+        send(new GenerationRequest(GenerationRequest.GENERATE_COMMAND,
+                Paths.get(specPath).toAbsolutePath().toString(), Paths.get(outputPath).toAbsolutePath().toString(),
+                options));
+    }
+
+    public void stop() throws BallerinaAsyncApiException {
+        send(new GenerationRequest(GenerationRequest.STOP_COMMAND, "", "", options));
+    }
+
+    private void send(GenerationRequest request) throws BallerinaAsyncApiException {
+        String responseJson;
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketPath));
+             BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                     Channels.newOutputStream(channel), StandardCharsets.UTF_8));
+             BufferedReader reader = new BufferedReader(new InputStreamReader(
+                     Channels.newInputStream(channel), StandardCharsets.UTF_8))) {
+            writer.write(request.toJson());
+            writer.newLine();
+            writer.flush();
+            responseJson = reader.readLine();
+        } catch (IOException e) {
+            throw new BallerinaAsyncApiException("Could not communicate with the AsyncAPI generator daemon on: "
+                    .concat(socketPath.toString()), e);
+        }
+        if (responseJson == null) {
+            throw new BallerinaAsyncApiException("The AsyncAPI generator daemon closed the connection without " +
+                    "a response");
+        }
+        JsonNode response;
+        try {
+            response = new ObjectMapper().readTree(responseJson);
+        } catch (JsonProcessingException e) {
+            throw new BallerinaAsyncApiException("Invalid response from the AsyncAPI generator daemon", e);
+        }
+        if (response.hasNonNull(GenerationDaemon.ERROR_FIELD)) {
+            throw new BallerinaAsyncApiException(response.get(GenerationDaemon.ERROR_FIELD).asText());
+        }
+        outStream.print(response.path(GenerationDaemon.OUTPUT_FIELD).asText());
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
+
+/**
+ * A request sent to the generator daemon. Each request is written as a single line of JSON, and the daemon responds
+ * with a single line of JSON as well.
+ */
+class GenerationRequest {
+    static final int PROTOCOL_VERSION = 1;
+    static final String GENERATE_COMMAND = "generate";
+    static final String STOP_COMMAND = "stop";
+    private static final String VERSION_FIELD = "version";
+    private static final String COMMAND_FIELD = "command";
+    private static final String SPEC_PATH_FIELD = "specPath";
+    private static final String OUTPUT_PATH_FIELD = "outputPath";
+    private static final String OPTIONS_FIELD = "options";
+    private static final String PARALLEL_FIELD = "parallel";
+    private static final String THREAD_COUNT_FIELD = "threadCount";
+    private static final String INCREMENTAL_FIELD = "incremental";
+    private static final String ROUTE_TABLE_FIELD = "routeTable";
+    private static final String PER_EVENT_CONVERSION_FIELD = "perEventConversion";
+    private static final String DISPATCH_LIMITS_FIELD = "dispatchLimits";
+    private static final String ASYNC_ACK_FIELD = "asyncAck";
+    private static final String DIRECT_EMIT_FIELD = "directEmit";
+    private static final String VALIDATE_DIRECT_EMIT_FIELD = "validateDirectEmit";
+    private static final String DATA_TYPES_SHARD_SIZE_FIELD = "dataTypesShardSize";
+    private static final String FLAT_SERVICE_TYPE_TESTS_FIELD = "flatServiceTypeTests";
+
+    private final String command;
+    private final String specPath;
+    private final String outputPath;
+    private final GenerationOptions options;
+
+    GenerationRequest(String command, String specPath, String outputPath, GenerationOptions options) {
+        this.command = command;
+        this.specPath = specPath;
+        this.outputPath = outputPath;
+        this.options = options;
+    }
+
+    static GenerationRequest fromJson(String json) throws BallerinaAsyncApiException {
+        JsonNode root;
+        try {
+            root = new ObjectMapper().readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new BallerinaAsyncApiException("Invalid request to the AsyncAPI generator daemon", e);
+        }
+        if (root.path(VERSION_FIELD).asInt() != PROTOCOL_VERSION) {
+            throw new BallerinaAsyncApiException("The AsyncAPI generator daemon runs a different version of the " +
+                    "tool, please restart the daemon");
+        }
+        JsonNode optionsNode = root.path(OPTIONS_FIELD);
+        GenerationOptions options = new GenerationOptions();
+        options.setParallel(optionsNode.path(PARALLEL_FIELD).asBoolean(options.isParallel()));
+        options.setThreadCount(optionsNode.path(THREAD_COUNT_FIELD).asInt(options.getThreadCount()));
+        options.setIncremental(optionsNode.path(INCREMENTAL_FIELD).asBoolean(options.isIncremental()));
+        options.setRouteTable(optionsNode.path(ROUTE_TABLE_FIELD).asBoolean(options.isRouteTable()));
+        options.setPerEventConversion(
+                optionsNode.path(PER_EVENT_CONVERSION_FIELD).asBoolean(options.isPerEventConversion()));
+        options.setDispatchLimits(optionsNode.path(DISPATCH_LIMITS_FIELD).asBoolean(options.isDispatchLimits()));
+        options.setAsyncAck(optionsNode.path(ASYNC_ACK_FIELD).asBoolean(options.isAsyncAck()));
+        options.setDirectEmit(optionsNode.path(DIRECT_EMIT_FIELD).asBoolean(options.isDirectEmit()));
+        options.setValidateDirectEmit(
+                optionsNode.path(VALIDATE_DIRECT_EMIT_FIELD).asBoolean(options.isValidateDirectEmit()));
+        options.setDataTypesShardSize(
+                optionsNode.path(DATA_TYPES_SHARD_SIZE_FIELD).asInt(options.getDataTypesShardSize()));
+        options.setFlatServiceTypeTests(
+                optionsNode.path(FLAT_SERVICE_TYPE_TESTS_FIELD).asBoolean(options.isFlatServiceTypeTests()));
+        return new GenerationRequest(root.path(COMMAND_FIELD).asText(), root.path(SPEC_PATH_FIELD).asText(),
+                root.path(OUTPUT_PATH_FIELD).asText(), options);
+    }
+
+    String toJson() throws BallerinaAsyncApiException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put(VERSION_FIELD, PROTOCOL_VERSION);
+        root.put(COMMAND_FIELD, command);
+        root.put(SPEC_PATH_FIELD, specPath);
+        root.put(OUTPUT_PATH_FIELD, outputPath);
+        ObjectNode optionsNode = root.putObject(OPTIONS_FIELD);
+        optionsNode.put(PARALLEL_FIELD, options.isParallel());
+        optionsNode.put(THREAD_COUNT_FIELD, options.getThreadCount());
+        optionsNode.put(INCREMENTAL_FIELD, options.isIncremental());
+        optionsNode.put(ROUTE_TABLE_FIELD, options.isRouteTable());
+        optionsNode.put(PER_EVENT_CONVERSION_FIELD, options.isPerEventConversion());
+        optionsNode.put(DISPATCH_LIMITS_FIELD, options.isDispatchLimits());
+        optionsNode.put(ASYNC_ACK_FIELD, options.isAsyncAck());
+        optionsNode.put(DIRECT_EMIT_FIELD, options.isDirectEmit());
+        optionsNode.put(VALIDATE_DIRECT_EMIT_FIELD, options.isValidateDirectEmit());
+        optionsNode.put(DATA_TYPES_SHARD_SIZE_FIELD, options.getDataTypesShardSize());
+        optionsNode.put(FLAT_SERVICE_TYPE_TESTS_FIELD, options.isFlatServiceTypeTests());
+        try {
+            return objectMapper.writeValueAsString(root);
+        } catch (JsonProcessingException e) {
+            throw new BallerinaAsyncApiException("Could not serialize the request to the AsyncAPI generator daemon",
+                    e);
+        }
+    }
+
+    String getCommand() {
+        return command;
+    }
+
+    String getSpecPath() {
+        return specPath;
+    }
+
+    String getOutputPath() {
+        return outputPath;
+    }
+
+    GenerationOptions getOptions() {
+        return options;
+    }
+}
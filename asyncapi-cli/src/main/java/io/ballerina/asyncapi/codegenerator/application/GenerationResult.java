@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.application;
+
+/**
+ * The outcome of generating the Ballerina sources of a single spec in a batch.
+ */
+public class GenerationResult {
+    private final String specPath;
+    private final String outputPath;
+    private final long durationNanos;
+    private final String errorMessage;
+
+    public GenerationResult(String specPath, String outputPath, long durationNanos, String errorMessage) {
+        this.specPath = specPath;
+        this.outputPath = outputPath;
+        this.durationNanos = durationNanos;
+        this.errorMessage = errorMessage;
+    }
+
+    public String getSpecPath() {
+        return specPath;
+    }
+
+    public String getOutputPath() {
+        return outputPath;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * Returns the reason of the failure, or null if the generation was successful.
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public boolean isSuccessful() {
+        return errorMessage == null;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
+import io.ballerina.asyncapi.codegenerator.controller.TemplateRegistry;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates the listener of a spec whenever the spec or a local file referenced by it with $ref is changed. A burst
+ * of changes (i.e. an editor writing a file in several steps) results in a single generation, once no further
+ * change is seen for the debounce delay. The generations are incremental against a cache kept in memory, hence only
+ * the files whose inputs have been changed are generated again, and the templates are read only once.
+ */
+public class SpecWatcher implements Closeable {
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 300;
+    private static final String REF_FIELD = "$ref";
+
+    private final FileRepository fileRepository;
+    private final TemplateRegistry templateRegistry;
+    private final GenerationOptions options;
+    private final PrintStream outStream;
+    private final long debounceMillis;
+    private final GenerationCache generationCache = new GenerationCache();
+    private final Map<Path, WatchKey> watchKeys = new HashMap<>();
+    private final Set<Path> watchedFiles = new LinkedHashSet<>();
+    private WatchService watchService;
+
+    public SpecWatcher(GenerationOptions options, PrintStream outStream) {
+        this(new FileRepositoryImpl(), options, outStream, DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    public SpecWatcher(FileRepository fileRepository, GenerationOptions options, PrintStream outStream,
+                       long debounceMillis) {
+        this.fileRepository = fileRepository;
+        this.templateRegistry = new TemplateRegistry(fileRepository);
+        this.options = options;
+        this.outStream = outStream;
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * Generates the listener and then generates it again on every change, until the watcher is closed. The errors
+     * of a generation are printed, and the spec is watched further, so that the error can be fixed.
+     */
+    public void watch(String specPath, String outputPath) throws BallerinaAsyncApiException {
+        Path spec = Paths.get(specPath).toAbsolutePath().normalize();
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            throw new BallerinaAsyncApiException("Could not watch the AsyncAPI specification: ".concat(specPath), e);
+        }
+        try {
+            generate(spec, outputPath);
+            outStream.println("Watching " + spec + " for changes");
+            while (true) {
+                Path changedFile = waitForChange();
+                outStream.println("Generating the listener again, since " + changedFile + " has been changed");
+                generate(spec, outputPath);
+            }
+        } catch (ClosedWatchServiceException e) {
+            // The watcher has been closed
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    /**
+     * Finds the local files referenced in the given spec with $ref. The internal references (i.e. #/components/..)
+     * and the remote references are left out.
+     */
+    static Set<Path> getReferencedFiles(JsonNode spec, Path specDirectory) {
+        Set<Path> referencedFiles = new LinkedHashSet<>();
+        addReferencedFiles(spec, specDirectory, referencedFiles);
+        return referencedFiles;
+    }
+
+    private static void addReferencedFiles(JsonNode node, Path specDirectory, Set<Path> referencedFiles) {
+        if (node.isObject()) {
+            JsonNode ref = node.get(REF_FIELD);
+            if (ref != null && ref.isTextual()) {
+                String refPath = ref.asText();
+                int fragmentIndex = refPath.indexOf('#');
+                if (fragmentIndex >= 0) {
+                    refPath = refPath.substring(0, fragmentIndex);
+                }
+                if (!refPath.isEmpty() && !refPath.contains("://")) {
+                    referencedFiles.add(specDirectory.resolve(refPath).normalize());
+                }
+            }
+        }
+        for (JsonNode child : node) {
+            addReferencedFiles(child, specDirectory, referencedFiles);
+        }
+    }
+
+    private void generate(Path spec, String outputPath) {
+        try {
+            new CodeGenerator(fileRepository, options, outStream, generationCache, templateRegistry)
+                    .generate(spec.toString(), outputPath);
+        } catch (BallerinaAsyncApiException e) {
+            outStream.println(e.getMessage());
+        }
+        Set<Path> files = new LinkedHashSet<>();
+        files.add(spec);
+        files.addAll(getReferencedFiles(spec));
+        watchFiles(files);
+    }
+
+    private Set<Path> getReferencedFiles(Path spec) {
+        try {
+            JsonNode specTree = spec.toString().endsWith(".json")
+                    ? fileRepository.getJsonTreeFromFile(spec.toString())
+                    : fileRepository.getYamlTreeFromFile(spec.toString());
+            return getReferencedFiles(specTree, spec.getParent());
+        } catch (BallerinaAsyncApiException e) {
+            // The references of an invalid spec are not known, hence the files watched so far are kept
+            Set<Path> referencedFiles = new LinkedHashSet<>(watchedFiles);
+            referencedFiles.remove(spec);
+            return referencedFiles;
+        }
+    }
+
+    /**
+     * Watches the directories of the given files, since WatchService can not watch a file by itself.
+     */
+    private void watchFiles(Set<Path> files) {
+        watchedFiles.clear();
+        watchedFiles.addAll(files);
+        for (Path file : files) {
+            Path directory = file.getParent();
+            if (!watchKeys.containsKey(directory) || !watchKeys.get(directory).isValid()) {
+                try {
+                    watchKeys.put(directory, directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY));
+                } catch (IOException e) {
+                    outStream.println("Could not watch the directory " + directory + ": " + e.getMessage());
+                }
+            }
+        }
+        Iterator<Map.Entry<Path, WatchKey>> watchKeyIterator = watchKeys.entrySet().iterator();
+        while (watchKeyIterator.hasNext()) {
+            Map.Entry<Path, WatchKey> watchKey = watchKeyIterator.next();
+            if (files.stream().noneMatch(file -> watchKey.getKey().equals(file.getParent()))) {
+                watchKey.getValue().cancel();
+                watchKeyIterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Waits for a change of a watched file, and then until no further change is seen for the debounce delay.
+     */
+    private Path waitForChange() throws InterruptedException {
+        Path changedFile = null;
+        while (changedFile == null) {
+            changedFile = getChangedFile(watchService.take());
+        }
+        long debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+        long quietUntil = System.nanoTime() + debounceNanos;
+        long remainingNanos;
+        while ((remainingNanos = quietUntil - System.nanoTime()) > 0) {
+            WatchKey watchKey = watchService.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (watchKey == null) {
+                break;
+            }
+            // Changes of the other files in the watched directories (i.e. the generated files) do not delay
+            if (getChangedFile(watchKey) != null) {
+                quietUntil = System.nanoTime() + debounceNanos;
+            }
+        }
+        return changedFile;
+    }
+
+    private Path getChangedFile(WatchKey watchKey) {
+        Path changedFile = null;
+        Path directory = (Path) watchKey.watchable();
+        for (WatchEvent<?> event : watchKey.pollEvents()) {
+            if (event.context() instanceof Path) {
+                Path file = directory.resolve((Path) event.context());
+                if (watchedFiles.contains(file)) {
+                    changedFile = file;
+                }
+            } else if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changedFile = watchedFiles.iterator().next();
+            }
+        }
+        watchKey.reset();
+        return changedFile;
+    }
+}
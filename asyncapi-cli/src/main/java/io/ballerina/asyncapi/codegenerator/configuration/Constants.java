@@ -26,6 +26,7 @@ import java.util.List;
 public final class Constants {
     public static final String EMPTY_BALLERINA_FILE_CONTENT = "";
     public static final String DATA_TYPES_BAL_FILE_NAME = "data_types.bal";
+    public static final String DATA_TYPES_SHARD_FILE_NAME = "data_types_%d.bal";
     public static final String LISTENER_BAL_FILE_NAME = "listener.bal";
     public static final String SERVICE_TYPES_BAL_FILE_NAME = "service_types.bal";
     public static final String DISPATCHER_SERVICE_BAL_FILE_NAME = "dispatcher_service.bal";
@@ -33,6 +34,15 @@ public final class Constants {
             "dispatcher_service.bal";
     public static final String DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER =
             "dispatcher_service_for_event_identifier_in_header.bal";
+    public static final String DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_BODY_WITH_ASYNC_ACK =
+            "dispatcher_service_with_async_ack.bal";
+    public static final String DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER_WITH_ASYNC_ACK =
+            "dispatcher_service_for_event_identifier_in_header_with_async_ack.bal";
+    public static final String GENERATION_CACHE_FILE_NAME = ".asyncapi-codegen-cache.json";
+    public static final String DATA_TYPES_SHARDS_MANIFEST_FILE_NAME = ".asyncapi-codegen-shards";
+    public static final String BALLERINA_TOML_FILE_NAME = "Ballerina.toml";
+    public static final String INPUT_HASH_SCHEMA_PREFIX = "schema:";
+    public static final String INPUT_HASH_CHANNEL_PREFIX = "channel:";
     public static final List<String> BAL_KEYWORDS;
     public static final List<String> BAL_TYPES;
     public static final String ESCAPE_PATTERN = "([\\[\\]\\\\?!<>@#&~`*\\-=^+();:\\/\\_{}\\s|.$])";
@@ -76,17 +86,47 @@ public final class Constants {
     public static final String X_BALLERINA_EVENT_TYPE_BODY = "body";
     public static final String X_BALLERINA_EVENT_FIELD_IDENTIFIER_PATH = "path";
     public static final String X_BALLERINA_EVENT_FIELD_IDENTIFIER_NAME = "name";
+    public static final String X_BALLERINA_EVENT_DEDUP_PATH = "x-ballerina-event-dedup-path";
     public static final String CLONE_WITH_TYPE_VAR_NAME = "genericDataType";
+    public static final String PAYLOAD_VAR_NAME = "payload";
+    public static final String EVENT_IDENTIFIER_VAR_NAME = "eventIdentifier";
     public static final String INTEROP_INVOKE_FUNCTION_NAME = "executeRemoteFunc";
     public static final String LISTENER_SERVICE_TYPE_FILTER_FUNCTION_NAME = "getServiceTypeStr";
     public static final String DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME = "matchRemoteFunc";
     public static final String DISPATCHER_SERVICE_POST_FUNCTION_NAME = "post";
+    public static final String DISPATCHER_SERVICE_ADD_SERVICE_FUNCTION_NAME = "addServiceRef";
     public static final String REMOTE_FUNCTION_NAME_PREFIX = "on";
     public static final String SERVICE_TYPE_NAME_SUFFIX = "Service";
 
     public static final String SELF_KEYWORD = "self";
     public static final String GENERIC_SERVICE_TYPE = "GenericServiceType";
     public static final String GENERIC_DATA_TYPE = "GenericDataType";
+    public static final String LISTENER_CONFIGS_TYPE = "ListenerConfigs";
+    public static final String LISTENER_CONFIGS_VAR_NAME = "listenerConfigs";
+    public static final String NATIVE_HANDLER_MODULE_PREFIX = "handler";
+    public static final String NATIVE_HANDLER_ORG = "ballerinax";
+    public static final String NATIVE_HANDLER_PACKAGE_NAME = "asyncapi.native.handler";
+    // The first version of the native handler, which has all the functions the generated code calls
+    public static final String NATIVE_HANDLER_VERSION = "0.5.0";
+    public static final String DISPATCH_LIMITS_TYPE = "DispatchLimits";
+    public static final String EVENT_REJECTED_ERROR_TYPE = "EventRejectedError";
+    public static final String DISPATCH_RESULT_VAR_NAME = "dispatchResult";
+    public static final String EVENT_ROUTES_VAR_NAME = "eventRoutes";
+    public static final String EVENT_ROUTE_VAR_NAME = "eventRoute";
+    public static final String EVENT_ROUTE_TYPE = "[string, string]";
+    public static final String EVENT_ROUTE_TYPE_WITH_DATA_TYPE = "[string, string, typedesc<GenericDataType>]";
+    public static final String EVENT_NAME_VAR_NAME = "eventName";
+    public static final String LISTENER_GRACEFUL_STOP_FUNCTION_NAME = "gracefulStop";
+    public static final String DISPATCHER_SERVICE_WAIT_FUNCTION_NAME = "waitForInFlightDispatches";
+    public static final String STOP_RESULT_VAR_NAME = "stopResult";
+    public static final String DEDUP_CONFIGS_TYPE = "DedupConfigs";
+    public static final String DRAIN_CONFIGS_TYPE = "DrainConfigs";
+    public static final String DRAIN_TIMEOUT_FIELD_NAME = "drainTimeout";
+    public static final String NATIVE_HANDLER_SET_DEDUP_CONFIGS_FUNCTION_NAME = "setDedupConfigs";
+    public static final String NATIVE_HANDLER_DUPLICATE_CHECK_FUNCTION_NAME = "isDuplicateEvent";
+    public static final String NATIVE_HANDLER_FORGET_EVENT_FUNCTION_NAME = "forgetEvent";
+    public static final String NATIVE_HANDLER_DISPATCH_CHECK_FUNCTION_NAME = "isEventDispatched";
+    public static final String SERVICE_EVENTS_VAR_NAME = "serviceEvents";
 
     private Constants() {
     }
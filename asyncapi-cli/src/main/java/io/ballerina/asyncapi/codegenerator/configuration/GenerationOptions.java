@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.configuration;
+
+/**
+ * This contains the options which control how the code generation is carried out.
+ */
+public class GenerationOptions {
+    private boolean parallel = false;
+    private int threadCount = Runtime.getRuntime().availableProcessors();
+    private boolean incremental = false;
+    private boolean routeTable = false;
+    private boolean perEventConversion = false;
+    private boolean dispatchLimits = false;
+    private boolean asyncAck = false;
+    private boolean directEmit = false;
+    private boolean validateDirectEmit = false;
+    private int dataTypesShardSize = 0;
+    private boolean flatServiceTypeTests = false;
+
+    public GenerationOptions() {
+    }
+
+    /**
+     * Copies the given options, eg: to change the thread count of a single generation.
+     */
+    public GenerationOptions(GenerationOptions options) {
+        this.parallel = options.parallel;
+        this.threadCount = options.threadCount;
+        this.incremental = options.incremental;
+        this.routeTable = options.routeTable;
+        this.perEventConversion = options.perEventConversion;
+        this.dispatchLimits = options.dispatchLimits;
+        this.asyncAck = options.asyncAck;
+        this.directEmit = options.directEmit;
+        this.validateDirectEmit = options.validateDirectEmit;
+        this.dataTypesShardSize = options.dataTypesShardSize;
+        this.flatServiceTypeTests = options.flatServiceTypeTests;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public void setThreadCount(int threadCount) {
+        this.threadCount = Math.max(1, threadCount);
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    public boolean isRouteTable() {
+        return routeTable;
+    }
+
+    public void setRouteTable(boolean routeTable) {
+        this.routeTable = routeTable;
+    }
+
+    public boolean isPerEventConversion() {
+        return perEventConversion;
+    }
+
+    public void setPerEventConversion(boolean perEventConversion) {
+        this.perEventConversion = perEventConversion;
+    }
+
+    public boolean isDispatchLimits() {
+        return dispatchLimits;
+    }
+
+    public void setDispatchLimits(boolean dispatchLimits) {
+        this.dispatchLimits = dispatchLimits;
+    }
+
+    public boolean isAsyncAck() {
+        return asyncAck;
+    }
+
+    public void setAsyncAck(boolean asyncAck) {
+        this.asyncAck = asyncAck;
+    }
+
+    public boolean isDirectEmit() {
+        return directEmit;
+    }
+
+    public void setDirectEmit(boolean directEmit) {
+        this.directEmit = directEmit;
+    }
+
+    public boolean isValidateDirectEmit() {
+        return validateDirectEmit;
+    }
+
+    public void setValidateDirectEmit(boolean validateDirectEmit) {
+        this.validateDirectEmit = validateDirectEmit;
+    }
+
+    public int getDataTypesShardSize() {
+        return dataTypesShardSize;
+    }
+
+    public void setDataTypesShardSize(int dataTypesShardSize) {
+        this.dataTypesShardSize = Math.max(0, dataTypesShardSize);
+    }
+
+    public boolean isFlatServiceTypeTests() {
+        return flatServiceTypeTests;
+    }
+
+    public void setFlatServiceTypeTests(boolean flatServiceTypeTests) {
+        this.flatServiceTypeTests = flatServiceTypeTests;
+    }
+}
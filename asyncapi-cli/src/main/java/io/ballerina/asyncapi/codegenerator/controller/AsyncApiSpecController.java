@@ -18,6 +18,7 @@
 
 package io.ballerina.asyncapi.codegenerator.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.asyncapi.models.AaiDocument;
 import io.apicurio.datamodels.asyncapi.v2.models.Aai20Document;
@@ -28,8 +29,10 @@ import io.ballerina.asyncapi.codegenerator.entity.MultiChannel;
 import io.ballerina.asyncapi.codegenerator.entity.Schema;
 import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
 import io.ballerina.asyncapi.codegenerator.usecase.ExtractChannelsFromSpec;
+import io.ballerina.asyncapi.codegenerator.usecase.ExtractDedupPathFromSpec;
 import io.ballerina.asyncapi.codegenerator.usecase.ExtractIdentifierPathFromSpec;
 import io.ballerina.asyncapi.codegenerator.usecase.ExtractIdentifierTypeFromSpec;
+import io.ballerina.asyncapi.codegenerator.usecase.ExtractInputHashesFromSpec;
 import io.ballerina.asyncapi.codegenerator.usecase.ExtractSchemasFromSpec;
 import io.ballerina.asyncapi.codegenerator.usecase.Extractor;
 
@@ -45,13 +48,27 @@ public class AsyncApiSpecController implements SpecController {
     private Map<String, Schema> schemas;
     private String eventIdentifierType;
     private String eventIdentifierPath;
+    private String eventDedupPath;
+    // Kept to hash the inputs, which is done only for the incremental generation
+    private AaiDocument asyncApiSpec;
+    private Map<String, String> inputHashes;
 
     public AsyncApiSpecController(String asyncApiSpecJson) throws BallerinaAsyncApiException {
-        readSpec(asyncApiSpecJson);
+        readSpec((Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson));
     }
 
-    private void readSpec(String asyncApiSpecJson) throws BallerinaAsyncApiException {
-        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+    /**
+     * Reads the specification from an already parsed JSON tree, which is handed to the Apicurio data model as it is,
+     * instead of serializing it to a JSON string and parsing it again.
+     */
+    public AsyncApiSpecController(JsonNode asyncApiSpecTree) throws BallerinaAsyncApiException {
+        if (!asyncApiSpecTree.isObject()) {
+            throw new BallerinaAsyncApiException("The AsyncAPI specification should be an object");
+        }
+        readSpec((Aai20Document) Library.readDocument(asyncApiSpecTree));
+    }
+
+    private void readSpec(AaiDocument asyncApiSpec) throws BallerinaAsyncApiException {
         Dereferencer dereferencer = new Dereferencer(asyncApiSpec, ReferenceResolverChain.getInstance(), false);
         asyncApiSpec = (Aai20Document) dereferencer.dereference();
         Set<String> unresolvedRefs = dereferencer.getUnresolvableReferences();
@@ -64,6 +81,7 @@ public class AsyncApiSpecController implements SpecController {
         Extractor extractSchemas = new ExtractSchemasFromSpec(asyncApiSpec);
         Extractor extractIdentifierType = new ExtractIdentifierTypeFromSpec(asyncApiSpec);
         Extractor extractIdentifierPath = new ExtractIdentifierPathFromSpec(asyncApiSpec);
+        Extractor extractDedupPath = new ExtractDedupPathFromSpec(asyncApiSpec);
 
         MultiChannel multiChannel = extractServiceTypes.extract();
         serviceTypes = multiChannel.getServiceTypes();
@@ -71,6 +89,8 @@ public class AsyncApiSpecController implements SpecController {
         schemas.putAll(multiChannel.getInlineSchemas());
         eventIdentifierType = extractIdentifierType.extract();
         eventIdentifierPath = extractIdentifierPath.extract();
+        eventDedupPath = extractDedupPath.extract();
+        this.asyncApiSpec = asyncApiSpec;
     }
 
     @Override
@@ -92,4 +112,18 @@ public class AsyncApiSpecController implements SpecController {
     public String getEventIdentifierPath() {
         return eventIdentifierPath;
     }
+
+    @Override
+    public String getEventDedupPath() {
+        return eventDedupPath;
+    }
+
+    @Override
+    public synchronized Map<String, String> getInputHashes() throws BallerinaAsyncApiException {
+        if (inputHashes == null) {
+            Extractor extractInputHashes = new ExtractInputHashesFromSpec(asyncApiSpec);
+            inputHashes = extractInputHashes.extract();
+        }
+        return inputHashes;
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.controller;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.usecase.utils.BalSourceEmitter;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+
+/**
+ * This generates the code of a file, which is a template followed by the generated module members, without
+ * formatting the whole file. The template is formatted on its own, and the module members are emitted in the format
+ * the formatter gives those. The module members which can not be emitted directly are formatted together, apart from
+ * the template.
+ */
+class BalCodeEmitter {
+    private final BalSourceEmitter sourceEmitter = new BalSourceEmitter();
+    private final boolean validate;
+
+    /**
+     * @param validate whether the emitted code is compared with the code formatted by the formatter, which fails the
+     *                 generation if those are different
+     */
+    BalCodeEmitter(boolean validate) {
+        this.validate = validate;
+    }
+
+    /**
+     * @param balTemplate  the template of the file
+     * @param templateTree the syntax tree of the template, or of a tree modified from it
+     * @param members      the module members to be added after the template
+     * @param fileName     name of the generated file
+     * @return the code of the file
+     */
+    String emitBalCode(BalTemplate balTemplate, SyntaxTree templateTree, List<ModuleMemberDeclarationNode> members,
+                       String fileName) throws BallerinaAsyncApiException {
+        StringBuilder code = new StringBuilder(templateTree == balTemplate.getSyntaxTree()
+                ? balTemplate.getFormattedContent() : format(templateTree));
+        ModulePartNode templateRoot = templateTree.rootNode();
+        String[] memberCodes = new String[members.size()];
+        List<Integer> fallbackIndexes = new ArrayList<>();
+        List<ModuleMemberDeclarationNode> fallbackMembers = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            memberCodes[i] = sourceEmitter.emitModuleMember(members.get(i));
+            if (memberCodes[i] == null) {
+                fallbackIndexes.add(i);
+                fallbackMembers.add(members.get(i));
+            }
+        }
+        if (!fallbackMembers.isEmpty()) {
+            // The module members which can not be emitted directly are formatted together in a single tree, and the
+            // code of each is taken from the members of the formatted tree, which are in the same order
+            ModulePartNode fallbackRoot = templateRoot.modify().withImports(createEmptyNodeList())
+                    .withMembers(createNodeList(fallbackMembers)).apply();
+            NodeList<ModuleMemberDeclarationNode> formattedMembers =
+                    formatTree(templateTree.replaceNode(templateRoot, fallbackRoot)).rootNode().members();
+            for (int i = 0; i < fallbackIndexes.size(); i++) {
+                memberCodes[fallbackIndexes.get(i)] = stripLeadingLineBreaks(formattedMembers.get(i).toSourceCode());
+            }
+        }
+        for (String memberCode : memberCodes) {
+            if (code.length() > 0) {
+                // The module members are separated by an empty line
+                code.append(code.charAt(code.length() - 1) == '\n' ? "\n" : "\n\n");
+            }
+            code.append(memberCode);
+        }
+        if (validate) {
+            ModulePartNode newRoot = templateRoot.modify()
+                    .withMembers(templateRoot.members().addAll(members)).apply();
+            String formattedCode = format(templateTree.replaceNode(templateRoot, newRoot));
+            if (!formattedCode.contentEquals(code)) {
+                throw new BallerinaAsyncApiException("The code emitted for the " + fileName
+                        + " is different from the formatted code");
+            }
+        }
+        return code.toString();
+    }
+
+    static String format(SyntaxTree syntaxTree) throws BallerinaAsyncApiException {
+        return formatTree(syntaxTree).toSourceCode();
+    }
+
+    private static SyntaxTree formatTree(SyntaxTree syntaxTree) throws BallerinaAsyncApiException {
+        try {
+            return Formatter.format(syntaxTree);
+        } catch (FormatterException e) {
+            throw new BallerinaAsyncApiException("Could not format the generated code, " +
+                    "may be a syntax issue in the generated code", e);
+        }
+    }
+
+    /**
+     * The empty lines before a module member, other than the first, are in the leading minutiae of the member
+     */
+    private static String stripLeadingLineBreaks(String memberCode) {
+        int start = 0;
+        while (start < memberCode.length() && memberCode.charAt(start) == '\n') {
+            start++;
+        }
+        return memberCode.substring(start);
+    }
+}
@@ -19,10 +19,36 @@
 package io.ballerina.asyncapi.codegenerator.controller;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.repository.SourceWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
 
 /**
  * This is the Interface used for Ballerina code generation related Controllers.
  */
 public interface BalController {
-    String generateBalCode(String balTemplate) throws BallerinaAsyncApiException;
+    /**
+     * Generates the code and returns a writer of it, which writes the generated syntax tree token by token. The code
+     * generator streams it to the file, instead of building the whole file as a string.
+     */
+    SourceWriter generateBalSource(BalTemplate balTemplate) throws BallerinaAsyncApiException;
+
+    default SourceWriter generateBalSource(String balTemplate) throws BallerinaAsyncApiException {
+        return generateBalSource(BalTemplate.parse(balTemplate));
+    }
+
+    default String generateBalCode(BalTemplate balTemplate) throws BallerinaAsyncApiException {
+        StringWriter writer = new StringWriter();
+        try {
+            generateBalSource(balTemplate).writeTo(writer);
+        } catch (IOException e) {
+            throw new BallerinaAsyncApiException("Could not write the generated code", e);
+        }
+        return writer.toString();
+    }
+
+    default String generateBalCode(String balTemplate) throws BallerinaAsyncApiException {
+        return generateBalCode(BalTemplate.parse(balTemplate));
+    }
 }
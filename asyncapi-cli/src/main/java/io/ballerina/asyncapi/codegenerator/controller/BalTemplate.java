@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.controller;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This holds a Ballerina template parsed into a syntax tree, together with the functions of its classes, which are
+ * the points where the generated code is spliced in.
+ * The syntax trees are immutable, hence the same template can be used by many controllers at the same time.
+ */
+public class BalTemplate {
+    private final String content;
+    private final SyntaxTree syntaxTree;
+    private final ModulePartNode rootNode;
+    private volatile String formattedContent;
+    private final Map<SyntaxKind, Map<String, FunctionDefinitionNode>> classFunctions =
+            new EnumMap<>(SyntaxKind.class);
+
+    private BalTemplate(String content) {
+        this.content = content;
+        this.syntaxTree = SyntaxTree.from(TextDocuments.from(content));
+        this.rootNode = syntaxTree.rootNode();
+        // The child nodes of a syntax tree are created lazily when those are first accessed. Those are created
+        // upfront, so that all the users of the template get the same nodes, which are replaced by identity.
+        visitAllNodes(rootNode);
+        for (ModuleMemberDeclarationNode node : rootNode.members()) {
+            if (node.kind() == SyntaxKind.CLASS_DEFINITION) {
+                for (Node funcNode : ((ClassDefinitionNode) node).members()) {
+                    if (funcNode instanceof FunctionDefinitionNode) {
+                        classFunctions.computeIfAbsent(funcNode.kind(), kind -> new HashMap<>()).putIfAbsent(
+                                ((FunctionDefinitionNode) funcNode).functionName().text(),
+                                (FunctionDefinitionNode) funcNode);
+                    }
+                }
+            }
+        }
+    }
+
+    public static BalTemplate parse(String content) {
+        return new BalTemplate(content);
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public SyntaxTree getSyntaxTree() {
+        return syntaxTree;
+    }
+
+    public ModulePartNode getRootNode() {
+        return rootNode;
+    }
+
+    /**
+     * @return the template formatted by the formatter, which is formatted only once
+     */
+    public String getFormattedContent() throws BallerinaAsyncApiException {
+        if (formattedContent == null) {
+            formattedContent = BalCodeEmitter.format(syntaxTree);
+        }
+        return formattedContent;
+    }
+
+    /**
+     * Finds a function of a class in the given root node, by its kind and name.
+     * The functions of the template are already located, hence those are only looked up for a root node which has
+     * been modified from the one of the template.
+     *
+     * @param rootNode the root node of the template or of a tree modified from it
+     * @param kind     OBJECT_METHOD_DEFINITION or RESOURCE_ACCESSOR_DEFINITION
+     * @param name     name of the function
+     * @return the function, or null if the function is not found
+     */
+    public FunctionDefinitionNode getClassFunction(ModulePartNode rootNode, SyntaxKind kind, String name) {
+        if (rootNode == this.rootNode) {
+            return classFunctions.getOrDefault(kind, Map.of()).get(name);
+        }
+        return findClassFunction(rootNode, kind, name);
+    }
+
+    /**
+     * Finds a function of a class in the given root node, by its kind and name.
+     *
+     * @return the function, or null if the function is not found
+     */
+    public static FunctionDefinitionNode findClassFunction(ModulePartNode rootNode, SyntaxKind kind, String name) {
+        for (ModuleMemberDeclarationNode node : rootNode.members()) {
+            if (node.kind() == SyntaxKind.CLASS_DEFINITION) {
+                for (Node funcNode : ((ClassDefinitionNode) node).members()) {
+                    if (funcNode.kind() == kind && funcNode instanceof FunctionDefinitionNode
+                            && ((FunctionDefinitionNode) funcNode).functionName().text().equals(name)) {
+                        return (FunctionDefinitionNode) funcNode;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void visitAllNodes(Node rootNode) {
+        Deque<Node> nodes = new ArrayDeque<>();
+        nodes.push(rootNode);
+        while (!nodes.isEmpty()) {
+            Node node = nodes.pop();
+            if (node instanceof NonTerminalNode) {
+                for (Node child : ((NonTerminalNode) node).children()) {
+                    nodes.push(child);
+                }
+            }
+        }
+    }
+}
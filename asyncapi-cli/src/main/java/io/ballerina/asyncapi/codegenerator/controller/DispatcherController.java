@@ -20,22 +20,36 @@ package io.ballerina.asyncapi.codegenerator.controller;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
 import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.asyncapi.codegenerator.repository.SourceWriter;
+import io.ballerina.asyncapi.codegenerator.usecase.GenerateDedupStatementNode;
+import io.ballerina.asyncapi.codegenerator.usecase.GenerateDispatcherInitNode;
+import io.ballerina.asyncapi.codegenerator.usecase.GenerateForgetEventStatementNode;
 import io.ballerina.asyncapi.codegenerator.usecase.GenerateMatchStatementNode;
+import io.ballerina.asyncapi.codegenerator.usecase.GenerateRejectionHandlingStatementNodes;
+import io.ballerina.asyncapi.codegenerator.usecase.GenerateRouteLookupStatementNodes;
+import io.ballerina.asyncapi.codegenerator.usecase.GenerateRouteTableNode;
+import io.ballerina.asyncapi.codegenerator.usecase.GenerateServiceEventsNode;
+import io.ballerina.asyncapi.codegenerator.usecase.GenerateUnimplementedEventStatementNode;
 import io.ballerina.asyncapi.codegenerator.usecase.Generator;
 import io.ballerina.compiler.syntax.tree.BuiltinSimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.CheckExpressionNode;
 import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ExpressionStatementNode;
 import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
 import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
 import io.ballerina.compiler.syntax.tree.MatchStatementNode;
 import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.ModuleVariableDeclarationNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.StatementNode;
@@ -43,21 +57,23 @@ import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
-import io.ballerina.tools.text.TextDocument;
-import io.ballerina.tools.text.TextDocuments;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createCaptureBindingPatternNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createCheckExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createExpressionStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMethodCallExpressionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createPositionalArgumentNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRequiredParameterNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSeparatedNodeList;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypedBindingPatternNode;
@@ -66,6 +82,7 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.CHECK_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.DOT_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.JSON_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
@@ -77,25 +94,61 @@ public class DispatcherController implements BalController {
     private final List<ServiceType> serviceTypes;
     private final String eventIdentifierType;
     private final String eventIdentifierPath;
+    private final String eventDedupPath;
+    private final boolean routeTable;
+    private final boolean perEventConversion;
+    private final boolean dispatchLimits;
+    private final boolean asyncAck;
 
     public DispatcherController(List<ServiceType> serviceTypes, String eventIdentifierType,
                                 String eventIdentifierPath) {
+        this(serviceTypes, eventIdentifierType, eventIdentifierPath, new GenerationOptions());
+    }
+
+    /**
+     * @param options the route table option dispatches the events through a module level routing table (a single
+     *                map lookup) instead of a match statement with a clause for each event. The per event conversion
+     *                option converts the json payload only to the record type of the received event, instead of
+     *                converting it to the GenericDataType union before the event is known. The dispatch limits
+     *                option bounds the number of events dispatched concurrently to a service, according to the
+     *                ListenerConfigs, and responds with 503 to the events rejected by the native handler. With the
+     *                async ack template, the events are admitted by the native handler before those are acknowledged,
+     *                hence those are rejected before the acknowledgement as well. The async ack option keeps the drain
+     *                timeout in the ListenerConfigs, which bounds the wait of the graceful stop for the events
+     *                dispatched in the background
+     */
+    public DispatcherController(List<ServiceType> serviceTypes, String eventIdentifierType,
+                                String eventIdentifierPath, GenerationOptions options) {
+        this(serviceTypes, eventIdentifierType, eventIdentifierPath, "", options);
+    }
+
+    /**
+     * @param eventDedupPath the path of the dedup key in the event payload. The events received before with the same
+     *                       key are acknowledged without being dispatched, according to the ListenerConfigs. The
+     *                       events are not deduplicated if this is empty
+     */
+    public DispatcherController(List<ServiceType> serviceTypes, String eventIdentifierType,
+                                String eventIdentifierPath, String eventDedupPath, GenerationOptions options) {
         this.serviceTypes = serviceTypes;
         this.eventIdentifierType = eventIdentifierType;
         this.eventIdentifierPath = eventIdentifierPath;
+        this.eventDedupPath = eventDedupPath;
+        this.routeTable = options.isRouteTable();
+        this.perEventConversion = options.isPerEventConversion();
+        this.dispatchLimits = options.isDispatchLimits();
+        this.asyncAck = options.isAsyncAck();
     }
 
     @Override
-    public String generateBalCode(String balTemplate) throws BallerinaAsyncApiException {
-        TextDocument textDocument = TextDocuments.from(balTemplate);
-        SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
-        ModulePartNode oldRoot = syntaxTree.rootNode();
+    public SourceWriter generateBalSource(BalTemplate balTemplate) throws BallerinaAsyncApiException {
+        SyntaxTree syntaxTree = balTemplate.getSyntaxTree();
+        ModulePartNode oldRoot = balTemplate.getRootNode();
 
         String eventIdentifierPath = Constants.CLONE_WITH_TYPE_VAR_NAME.concat(".").concat(this.eventIdentifierPath);
         if (this.eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_HEADER)) {
-            eventIdentifierPath = "eventIdentifier";
+            eventIdentifierPath = Constants.EVENT_IDENTIFIER_VAR_NAME;
 
-            FunctionDefinitionNode postFunctionDefinitionNode = getPostFuncNode(oldRoot);
+            FunctionDefinitionNode postFunctionDefinitionNode = getPostFuncNode(balTemplate, oldRoot);
             if (postFunctionDefinitionNode == null) {
                 throw new BallerinaAsyncApiException("Resource function '"
                         + Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME
@@ -114,61 +167,391 @@ public class DispatcherController implements BalController {
             oldRoot = syntaxTree.rootNode();
         }
 
-        FunctionDefinitionNode functionDefinitionNode = getResourceFuncNode(oldRoot);
+        if (perEventConversion) {
+            ModulePartNode midRoot = getRootWithJsonPayloadDispatch(balTemplate, oldRoot);
+            syntaxTree = syntaxTree.replaceNode(oldRoot, midRoot);
+            oldRoot = syntaxTree.rootNode();
+        }
+
+        FunctionDefinitionNode functionDefinitionNode = getResourceFuncNode(balTemplate, oldRoot);
         if (functionDefinitionNode == null) {
             throw new BallerinaAsyncApiException("Resource function '"
                     + Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME
                     + "', is not found in the dispatcher_service.bal");
         }
 
-        Generator generateMatchStatement = new GenerateMatchStatementNode(serviceTypes, eventIdentifierPath);
-        MatchStatementNode matchStatementNode = generateMatchStatement.generate();
-
         FunctionBodyBlockNode functionBodyBlockNode = (FunctionBodyBlockNode) functionDefinitionNode.functionBody();
         NodeList<StatementNode> oldStatements = functionBodyBlockNode.statements();
-        NodeList<StatementNode> newStatements =
-                oldStatements.add(matchStatementNode);
+        if (perEventConversion && !this.eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_HEADER)) {
+            // Only the identifier field is read from the payload to find the event
+            oldStatements = oldStatements.add(getEventIdentifierFromPayloadNode());
+            eventIdentifierPath = Constants.EVENT_IDENTIFIER_VAR_NAME;
+        }
+        NodeList<StatementNode> newStatements;
+        if (routeTable) {
+            Generator generateRouteLookupStatements =
+                    new GenerateRouteLookupStatementNodes(eventIdentifierPath, perEventConversion);
+            NodeList<StatementNode> routeLookupStatements = generateRouteLookupStatements.generate();
+            newStatements = oldStatements;
+            for (StatementNode routeLookupStatement : routeLookupStatements) {
+                newStatements = newStatements.add(routeLookupStatement);
+            }
+        } else {
+            Generator generateMatchStatement =
+                    new GenerateMatchStatementNode(serviceTypes, eventIdentifierPath, perEventConversion);
+            MatchStatementNode matchStatementNode = generateMatchStatement.generate();
+            newStatements = oldStatements.add(matchStatementNode);
+        }
         FunctionBodyBlockNode functionBodyBlockNodeNew =
                 functionBodyBlockNode.modify().withStatements(newStatements).apply();
         ModulePartNode newRoot = oldRoot.replace(functionBodyBlockNode, functionBodyBlockNodeNew);
+        newRoot = getRootWithServiceEvents(newRoot);
+
+        if (routeTable) {
+            newRoot = getRootWithEventRegistration(newRoot);
+            Generator generateRouteTable = new GenerateRouteTableNode(serviceTypes, perEventConversion);
+            ModuleVariableDeclarationNode routeTableNode = generateRouteTable.generate();
+            NodeList<ModuleMemberDeclarationNode> members = newRoot.members();
+            newRoot = newRoot.modify().withMembers(members.add(0, routeTableNode)).apply();
+        }
+        newRoot = getRootWithUnimplementedEventAck(newRoot);
+        if (dispatchLimits) {
+            newRoot = getRootWithDispatchLimits(newRoot);
+        }
+        if (!eventDedupPath.isEmpty()) {
+            // After the dispatch limits, so that the key of a rejected event is forgotten as well
+            newRoot = getRootWithDedup(newRoot);
+        }
+        if (dispatchLimits || !eventDedupPath.isEmpty() || asyncAck) {
+            newRoot = getRootWithDispatcherInit(newRoot);
+        }
         SyntaxTree modifiedTree = syntaxTree.replaceNode(oldRoot, newRoot);
 
         try {
-            return Formatter.format(modifiedTree).toSourceCode();
+            return new SyntaxTreeSourceWriter(Formatter.format(modifiedTree));
         } catch (FormatterException e) {
             throw new BallerinaAsyncApiException("Could not format the generated code, " +
                     "may be a syntax issue in the generated code", e);
         }
     }
 
-    private FunctionDefinitionNode getResourceFuncNode(ModulePartNode oldRoot) {
+    /**
+     * Changes the post resource function to pass the json payload to the matchRemoteFunc function as it is, instead
+     * of converting it to GenericDataType first.
+     */
+    private ModulePartNode getRootWithJsonPayloadDispatch(BalTemplate balTemplate, ModulePartNode oldRoot)
+            throws BallerinaAsyncApiException {
+        FunctionDefinitionNode postFunctionDefinitionNode = getPostFuncNode(balTemplate, oldRoot);
+        if (postFunctionDefinitionNode == null) {
+            throw new BallerinaAsyncApiException("Resource function '"
+                    + Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME
+                    + "', is not found in the dispatcher_service.bal");
+        }
+        FunctionBodyBlockNode postFunctionBodyBlockNode =
+                (FunctionBodyBlockNode) postFunctionDefinitionNode.functionBody();
+        NodeList<StatementNode> newStatements = createEmptyNodeList();
+        for (StatementNode statement : postFunctionBodyBlockNode.statements()) {
+            // {@code GenericDataType genericDataType = check payload.cloneWithType(GenericDataType);} is removed
+            if (isCloneWithTypeDeclaration(statement)) {
+                continue;
+            }
+            newStatements = newStatements.add(getStatementWithPayloadArgument(statement));
+        }
+        FunctionBodyBlockNode postFunctionBodyBlockNodeNew =
+                postFunctionBodyBlockNode.modify().withStatements(newStatements).apply();
+        ModulePartNode midRoot = oldRoot.replace(postFunctionBodyBlockNode, postFunctionBodyBlockNodeNew);
+
+        FunctionDefinitionNode functionDefinitionNode = getResourceFuncNode(balTemplate, midRoot);
+        if (functionDefinitionNode == null) {
+            throw new BallerinaAsyncApiException("Resource function '"
+                    + Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME
+                    + "', is not found in the dispatcher_service.bal");
+        }
+        // {@code json payload}
+        ParameterNode genericDataTypeParameter = functionDefinitionNode.functionSignature().parameters().get(0);
+        ParameterNode payloadParameter = createRequiredParameterNode(createEmptyNodeList(),
+                createBuiltinSimpleNameReferenceNode(null, createToken(JSON_KEYWORD)),
+                createIdentifierToken(Constants.PAYLOAD_VAR_NAME));
+        return midRoot.replace(genericDataTypeParameter, payloadParameter);
+    }
+
+    /**
+     * Fills the module level serviceEvents table with the events and the remote functions of each service type,
+     * which the native handler resolves the remote functions of a service with, when the service is attached.
+     */
+    private ModulePartNode getRootWithServiceEvents(ModulePartNode oldRoot) throws BallerinaAsyncApiException {
+        for (ModuleMemberDeclarationNode node : oldRoot.members()) {
+            if (node.kind() == SyntaxKind.MODULE_VAR_DECL
+                    && ((ModuleVariableDeclarationNode) node).typedBindingPattern().bindingPattern().toSourceCode()
+                    .trim().equals(Constants.SERVICE_EVENTS_VAR_NAME)
+                    && ((ModuleVariableDeclarationNode) node).initializer().isPresent()) {
+                Generator generateServiceEvents = new GenerateServiceEventsNode(serviceTypes);
+                MappingConstructorExpressionNode serviceEventsNode = generateServiceEvents.generate();
+                return oldRoot.replace(((ModuleVariableDeclarationNode) node).initializer().get(), serviceEventsNode);
+            }
+        }
+        throw new BallerinaAsyncApiException("Variable '" + Constants.SERVICE_EVENTS_VAR_NAME
+                + "', is not found in the dispatcher_service.bal");
+    }
+
+    /**
+     * Adds {@code self.nativeHandler.registerEvents(eventRoutes, serviceType);} to the addServiceRef function, so that
+     * the native handler resolves what it needs to dispatch the events of a service, when the service is attached.
+     */
+    private ModulePartNode getRootWithEventRegistration(ModulePartNode oldRoot) throws BallerinaAsyncApiException {
+        FunctionDefinitionNode addServiceFunctionDefinitionNode = null;
         for (ModuleMemberDeclarationNode node : oldRoot.members()) {
             if (node.kind() == SyntaxKind.CLASS_DEFINITION) {
                 for (Node funcNode : ((ClassDefinitionNode) node).members()) {
                     if ((funcNode.kind() == SyntaxKind.OBJECT_METHOD_DEFINITION)
                             && ((FunctionDefinitionNode) funcNode).functionName().text().equals(
-                            Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME)) {
-                        return (FunctionDefinitionNode) funcNode;
+                            Constants.DISPATCHER_SERVICE_ADD_SERVICE_FUNCTION_NAME)) {
+                        addServiceFunctionDefinitionNode = (FunctionDefinitionNode) funcNode;
                     }
                 }
             }
         }
-        return null;
+        if (addServiceFunctionDefinitionNode == null) {
+            throw new BallerinaAsyncApiException("Function '"
+                    + Constants.DISPATCHER_SERVICE_ADD_SERVICE_FUNCTION_NAME
+                    + "', is not found in the dispatcher_service.bal");
+        }
+
+        SeparatedNodeList<FunctionArgumentNode> arguments = createSeparatedNodeList(
+                createPositionalArgumentNode(
+                        createSimpleNameReferenceNode(createIdentifierToken(Constants.EVENT_ROUTES_VAR_NAME))),
+                createToken(SyntaxKind.COMMA_TOKEN),
+                createPositionalArgumentNode(createSimpleNameReferenceNode(createIdentifierToken("serviceType"))));
+        MethodCallExpressionNode registerEventsCall = createMethodCallExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken(Constants.SELF_KEYWORD + ".nativeHandler")),
+                createToken(DOT_TOKEN), createSimpleNameReferenceNode(createIdentifierToken("registerEvents")),
+                createToken(OPEN_PAREN_TOKEN), arguments, createToken(CLOSE_PAREN_TOKEN));
+        StatementNode registerEventsStatement = createExpressionStatementNode(SyntaxKind.CALL_STATEMENT,
+                registerEventsCall, createToken(SEMICOLON_TOKEN));
+
+        FunctionBodyBlockNode functionBodyBlockNode =
+                (FunctionBodyBlockNode) addServiceFunctionDefinitionNode.functionBody();
+        FunctionBodyBlockNode functionBodyBlockNodeNew = functionBodyBlockNode.modify()
+                .withStatements(functionBodyBlockNode.statements().add(registerEventsStatement)).apply();
+        return oldRoot.replace(functionBodyBlockNode, functionBodyBlockNodeNew);
     }
 
-    private FunctionDefinitionNode getPostFuncNode(ModulePartNode oldRoot) {
+    /**
+     * Acknowledges the events, which have been received before with the same dedup key, without dispatching those.
+     * The check is done just before the event is dispatched, hence after the payload is validated. The key is
+     * forgotten if the event could not be dispatched, so that the event is dispatched when the provider retries it.
+     */
+    private ModulePartNode getRootWithDedup(ModulePartNode oldRoot) throws BallerinaAsyncApiException {
+        FunctionDefinitionNode postFunctionDefinitionNode = getPostFuncNode(oldRoot);
+        if (postFunctionDefinitionNode == null) {
+            throw new BallerinaAsyncApiException("Resource function '"
+                    + Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME
+                    + "', is not found in the dispatcher_service.bal");
+        }
+        FunctionBodyBlockNode postFunctionBodyBlockNode =
+                (FunctionBodyBlockNode) postFunctionDefinitionNode.functionBody();
+        Generator generateDedupStatement = new GenerateDedupStatementNode(eventDedupPath);
+        List<StatementNode> postStatements = new ArrayList<>();
+        for (StatementNode statement : postFunctionBodyBlockNode.statements()) {
+            MethodCallExpressionNode matchRemoteFuncCall = getCheckedMethodCall(statement,
+                    Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME);
+            if (matchRemoteFuncCall != null) {
+                // {@code check self.matchRemoteFunc(genericDataType);} to
+                // {@code error? dispatchResult = self.matchRemoteFunc(genericDataType); if dispatchResult is ...}
+                postStatements.add(generateDedupStatement.generate());
+                postStatements.add(getDispatchResultNode(matchRemoteFuncCall));
+                Generator generateForgetEventStatement = new GenerateForgetEventStatementNode(eventDedupPath, true);
+                postStatements.add(generateForgetEventStatement.generate());
+            } else if (isDispatchResultDeclaration(statement)) {
+                // The dispatch result is handled by the rejection handling statements, which follow
+                postStatements.add(generateDedupStatement.generate());
+                postStatements.add(statement);
+                Generator generateForgetEventStatement = new GenerateForgetEventStatementNode(eventDedupPath, false);
+                postStatements.add(generateForgetEventStatement.generate());
+            } else {
+                postStatements.add(statement);
+            }
+        }
+        FunctionBodyBlockNode postFunctionBodyBlockNodeNew = postFunctionBodyBlockNode.modify()
+                .withStatements(createNodeList(postStatements)).apply();
+        return oldRoot.replace(postFunctionBodyBlockNode, postFunctionBodyBlockNodeNew);
+    }
+
+    private VariableDeclarationNode getDispatchResultNode(MethodCallExpressionNode dispatchExpression) {
+        // {@code error? dispatchResult = self.matchRemoteFunc(genericDataType);}
+        return createVariableDeclarationNode(createEmptyNodeList(), null,
+                createTypedBindingPatternNode(createSimpleNameReferenceNode(createIdentifierToken("error?")),
+                        createCaptureBindingPatternNode(createIdentifierToken(Constants.DISPATCH_RESULT_VAR_NAME))),
+                createToken(EQUAL_TOKEN), dispatchExpression, createToken(SEMICOLON_TOKEN));
+    }
+
+    private boolean isDispatchResultDeclaration(StatementNode statement) {
+        return statement instanceof VariableDeclarationNode && ((VariableDeclarationNode) statement)
+                .typedBindingPattern().bindingPattern().toSourceCode().trim()
+                .equals(Constants.DISPATCH_RESULT_VAR_NAME);
+    }
+
+    /**
+     * Acknowledges the events which none of the attached services implements the remote function of, before the
+     * payload is converted to the data type of the event.
+     */
+    private ModulePartNode getRootWithUnimplementedEventAck(ModulePartNode oldRoot) throws BallerinaAsyncApiException {
+        FunctionDefinitionNode postFunctionDefinitionNode = getPostFuncNode(oldRoot);
+        if (postFunctionDefinitionNode == null) {
+            throw new BallerinaAsyncApiException("Resource function '"
+                    + Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME
+                    + "', is not found in the dispatcher_service.bal");
+        }
+        String eventIdentifier = Constants.PAYLOAD_VAR_NAME.concat(".").concat(this.eventIdentifierPath);
+        if (this.eventIdentifierType.equals(Constants.X_BALLERINA_EVENT_TYPE_HEADER)) {
+            eventIdentifier = Constants.EVENT_IDENTIFIER_VAR_NAME;
+        }
+        FunctionBodyBlockNode postFunctionBodyBlockNode =
+                (FunctionBodyBlockNode) postFunctionDefinitionNode.functionBody();
+        List<StatementNode> postStatements = new ArrayList<>();
+        boolean inserted = false;
+        for (StatementNode statement : postFunctionBodyBlockNode.statements()) {
+            // Inserted before the payload is converted, or before it is dispatched when it is converted per event
+            if (!inserted && (isCloneWithTypeDeclaration(statement) || getCheckedMethodCall(statement,
+                    Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME) != null)) {
+                Generator generateUnimplementedEventStatement =
+                        new GenerateUnimplementedEventStatementNode(eventIdentifier);
+                postStatements.add(generateUnimplementedEventStatement.generate());
+                inserted = true;
+            }
+            postStatements.add(statement);
+        }
+        FunctionBodyBlockNode postFunctionBodyBlockNodeNew = postFunctionBodyBlockNode.modify()
+                .withStatements(createNodeList(postStatements)).apply();
+        return oldRoot.replace(postFunctionBodyBlockNode, postFunctionBodyBlockNodeNew);
+    }
+
+    private boolean isCloneWithTypeDeclaration(StatementNode statement) {
+        return statement instanceof VariableDeclarationNode && ((VariableDeclarationNode) statement)
+                .typedBindingPattern().bindingPattern().toSourceCode().trim()
+                .equals(Constants.CLONE_WITH_TYPE_VAR_NAME);
+    }
+
+    /**
+     * Responds with 503 to the events rejected by {@code dispatchToService} of the native handler, which enforces the
+     * dispatch limits.
+     */
+    private ModulePartNode getRootWithDispatchLimits(ModulePartNode oldRoot) throws BallerinaAsyncApiException {
+        FunctionDefinitionNode postFunctionDefinitionNode = getPostFuncNode(oldRoot);
+        if (postFunctionDefinitionNode == null) {
+            throw new BallerinaAsyncApiException("Resource function '"
+                    + Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME
+                    + "', is not found in the dispatcher_service.bal");
+        }
+        FunctionBodyBlockNode postFunctionBodyBlockNode =
+                (FunctionBodyBlockNode) postFunctionDefinitionNode.functionBody();
+        List<StatementNode> postStatements = new ArrayList<>();
+        for (StatementNode statement : postFunctionBodyBlockNode.statements()) {
+            MethodCallExpressionNode matchRemoteFuncCall = getCheckedMethodCall(statement,
+                    Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME);
+            if (matchRemoteFuncCall == null) {
+                postStatements.add(statement);
+                continue;
+            }
+            Generator generateRejectionHandling = new GenerateRejectionHandlingStatementNodes(matchRemoteFuncCall);
+            NodeList<StatementNode> rejectionHandlingStatements = generateRejectionHandling.generate();
+            rejectionHandlingStatements.forEach(postStatements::add);
+        }
+        FunctionBodyBlockNode postFunctionBodyBlockNodeNew = postFunctionBodyBlockNode.modify()
+                .withStatements(createNodeList(postStatements)).apply();
+        return oldRoot.replace(postFunctionBodyBlockNode, postFunctionBodyBlockNodeNew);
+    }
+
+    /**
+     * Adds the init function to the DispatcherService, before its first method, which configures the native handler
+     * with the ListenerConfigs.
+     */
+    private ModulePartNode getRootWithDispatcherInit(ModulePartNode oldRoot) throws BallerinaAsyncApiException {
         for (ModuleMemberDeclarationNode node : oldRoot.members()) {
             if (node.kind() == SyntaxKind.CLASS_DEFINITION) {
-                for (Node funcNode : ((ClassDefinitionNode) node).members()) {
-                    if ((funcNode.kind() == SyntaxKind.RESOURCE_ACCESSOR_DEFINITION)
-                            && ((FunctionDefinitionNode) funcNode).functionName().text().equals(
-                            Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME)) {
-                        return (FunctionDefinitionNode) funcNode;
-                    }
+                ClassDefinitionNode classDefinitionNode = (ClassDefinitionNode) node;
+                NodeList<Node> classMembers = classDefinitionNode.members();
+                int initIndex = 0;
+                while (initIndex < classMembers.size()
+                        && classMembers.get(initIndex).kind() != SyntaxKind.OBJECT_METHOD_DEFINITION) {
+                    initIndex++;
                 }
+                Generator generateDispatcherInit =
+                        new GenerateDispatcherInitNode(dispatchLimits, !eventDedupPath.isEmpty(), asyncAck);
+                FunctionDefinitionNode initNode = generateDispatcherInit.generate();
+                ClassDefinitionNode classDefinitionNodeNew = classDefinitionNode.modify()
+                        .withMembers(classMembers.add(initIndex, initNode)).apply();
+                return oldRoot.replace(classDefinitionNode, classDefinitionNodeNew);
+            }
+        }
+        throw new BallerinaAsyncApiException("Class 'DispatcherService', is not found in the dispatcher_service.bal");
+    }
+
+    /**
+     * Returns the method call in {@code check self.<methodName>(...);} if the statement is so, otherwise null.
+     */
+    private MethodCallExpressionNode getCheckedMethodCall(StatementNode statement, String methodName) {
+        if (!(statement instanceof ExpressionStatementNode)
+                || !(((ExpressionStatementNode) statement).expression() instanceof CheckExpressionNode)) {
+            return null;
+        }
+        Node expression = ((CheckExpressionNode) ((ExpressionStatementNode) statement).expression()).expression();
+        if (!(expression instanceof MethodCallExpressionNode)
+                || !((MethodCallExpressionNode) expression).methodName().toSourceCode().trim().equals(methodName)) {
+            return null;
+        }
+        return (MethodCallExpressionNode) expression;
+    }
+
+    private StatementNode getStatementWithPayloadArgument(StatementNode statement) {
+        // {@code check self.matchRemoteFunc(genericDataType);} to {@code check self.matchRemoteFunc(payload);}
+        if (!(statement instanceof ExpressionStatementNode)
+                || !(((ExpressionStatementNode) statement).expression() instanceof CheckExpressionNode)) {
+            return statement;
+        }
+        Node expression = ((CheckExpressionNode) ((ExpressionStatementNode) statement).expression()).expression();
+        if (!(expression instanceof MethodCallExpressionNode) || !((MethodCallExpressionNode) expression).methodName()
+                .toSourceCode().trim().equals(Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME)) {
+            return statement;
+        }
+        for (FunctionArgumentNode argument : ((MethodCallExpressionNode) expression).arguments()) {
+            if (argument.toSourceCode().trim().equals(Constants.CLONE_WITH_TYPE_VAR_NAME)) {
+                return statement.replace(argument, createPositionalArgumentNode(
+                        createSimpleNameReferenceNode(createIdentifierToken(Constants.PAYLOAD_VAR_NAME))));
             }
         }
-        return null;
+        return statement;
+    }
+
+    private VariableDeclarationNode getEventIdentifierFromPayloadNode() {
+        // {@code json eventIdentifier = check payload.event.'type;}
+        TypedBindingPatternNode typedBindingPatternNode = createTypedBindingPatternNode(
+                createBuiltinSimpleNameReferenceNode(null, createToken(JSON_KEYWORD)),
+                createCaptureBindingPatternNode(createIdentifierToken(Constants.EVENT_IDENTIFIER_VAR_NAME)));
+        CheckExpressionNode initializer = createCheckExpressionNode(SyntaxKind.CHECK_EXPRESSION,
+                createToken(CHECK_KEYWORD), createSimpleNameReferenceNode(createIdentifierToken(
+                        Constants.PAYLOAD_VAR_NAME.concat(".").concat(this.eventIdentifierPath))));
+        return createVariableDeclarationNode(createEmptyNodeList(), null, typedBindingPatternNode,
+                createToken(EQUAL_TOKEN), initializer, createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Looks up the function in the given root node, unless it is the root node of the template, whose functions
+     * are already located.
+     */
+    private FunctionDefinitionNode getResourceFuncNode(BalTemplate balTemplate, ModulePartNode oldRoot) {
+        return balTemplate.getClassFunction(oldRoot, SyntaxKind.OBJECT_METHOD_DEFINITION,
+                Constants.DISPATCHER_SERVICE_RESOURCE_FILTER_FUNCTION_NAME);
+    }
+
+    private FunctionDefinitionNode getPostFuncNode(BalTemplate balTemplate, ModulePartNode oldRoot) {
+        return balTemplate.getClassFunction(oldRoot, SyntaxKind.RESOURCE_ACCESSOR_DEFINITION,
+                Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME);
+    }
+
+    private FunctionDefinitionNode getPostFuncNode(ModulePartNode oldRoot) {
+        return BalTemplate.findClassFunction(oldRoot, SyntaxKind.RESOURCE_ACCESSOR_DEFINITION,
+                Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME);
     }
 
     private VariableDeclarationNode getEventIdentifierNode() {
@@ -176,7 +559,7 @@ public class DispatcherController implements BalController {
         BuiltinSimpleNameReferenceNode typeBindingPattern = createBuiltinSimpleNameReferenceNode(null,
                 createToken(STRING_KEYWORD));
         CaptureBindingPatternNode bindingPattern = createCaptureBindingPatternNode(
-                createIdentifierToken("eventIdentifier"));
+                createIdentifierToken(Constants.EVENT_IDENTIFIER_VAR_NAME));
         TypedBindingPatternNode typedBindingPatternNode = createTypedBindingPatternNode(typeBindingPattern,
                 bindingPattern);
 
@@ -200,5 +583,3 @@ public class DispatcherController implements BalController {
         return eventIdentifierNode;
     }
 }
-
-
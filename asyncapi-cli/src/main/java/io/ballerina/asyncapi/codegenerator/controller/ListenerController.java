@@ -20,45 +20,96 @@ package io.ballerina.asyncapi.codegenerator.controller;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
 import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.asyncapi.codegenerator.repository.SourceWriter;
+import io.ballerina.asyncapi.codegenerator.usecase.GenerateFlatListenerStatementNodes;
 import io.ballerina.asyncapi.codegenerator.usecase.GenerateListenerStatementNode;
 import io.ballerina.asyncapi.codegenerator.usecase.Generator;
-import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.AssignmentStatementNode;
+import io.ballerina.compiler.syntax.tree.ExplicitNewExpressionNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
-import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.ReturnStatementNode;
+import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.StatementNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
-import io.ballerina.tools.text.TextDocument;
-import io.ballerina.tools.text.TextDocuments;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createCaptureBindingPatternNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createCheckExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createDefaultableParameterNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createExpressionStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFieldAccessExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMappingConstructorExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMethodCallExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createParenthesizedArgList;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createPositionalArgumentNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypedBindingPatternNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createVariableDeclarationNode;
 
 /**
  * This file contains the logics and functions related to code generation of the listener.bal.
  */
 public class ListenerController implements BalController {
     private final List<ServiceType> serviceTypes;
+    private final boolean dispatchLimits;
+    private final boolean dedup;
+    private final boolean asyncAck;
+    private final boolean flatServiceTypeTests;
 
     public ListenerController(List<ServiceType> serviceTypes) {
+        this(serviceTypes, new GenerationOptions());
+    }
+
+    /**
+     * @param options the dispatch limits option makes the listener accept a ListenerConfigs value, which is passed to
+     *                the dispatcher service. The async ack option makes the graceful stop of the listener wait for
+     *                the events being dispatched in the background, up to the drain timeout in the ListenerConfigs.
+     *                The flat service type tests option generates the type tests of the getServiceTypeStr function as
+     *                a sequence of if statements
+     */
+    public ListenerController(List<ServiceType> serviceTypes, GenerationOptions options) {
+        this(serviceTypes, "", options);
+    }
+
+    /**
+     * @param eventDedupPath the listener accepts a ListenerConfigs value with the dedup configs, if the events are
+     *                       deduplicated by this path
+     */
+    public ListenerController(List<ServiceType> serviceTypes, String eventDedupPath, GenerationOptions options) {
         this.serviceTypes = serviceTypes;
+        this.dispatchLimits = options.isDispatchLimits();
+        this.dedup = !eventDedupPath.isEmpty();
+        this.asyncAck = options.isAsyncAck();
+        this.flatServiceTypeTests = options.isFlatServiceTypeTests();
     }
 
     @Override
-    public String generateBalCode(String balTemplate) throws BallerinaAsyncApiException {
-        TextDocument textDocument = TextDocuments.from(balTemplate);
-        SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
-        ModulePartNode oldRoot = syntaxTree.rootNode();
-        FunctionDefinitionNode functionDefinitionNode = getServiceTypeStrFuncNode(oldRoot);
+    public SourceWriter generateBalSource(BalTemplate balTemplate) throws BallerinaAsyncApiException {
+        SyntaxTree syntaxTree = balTemplate.getSyntaxTree();
+        ModulePartNode oldRoot = balTemplate.getRootNode();
+        FunctionDefinitionNode functionDefinitionNode = balTemplate.getClassFunction(oldRoot,
+                SyntaxKind.OBJECT_METHOD_DEFINITION, Constants.LISTENER_SERVICE_TYPE_FILTER_FUNCTION_NAME);
 
         if (functionDefinitionNode == null) {
             throw new BallerinaAsyncApiException("Function 'getServiceTypeStr', is not found in the listener.bal");
@@ -67,34 +118,140 @@ public class ListenerController implements BalController {
         FunctionBodyBlockNode functionBodyBlockNode = (FunctionBodyBlockNode) functionDefinitionNode.functionBody();
         List<String> serviceTypeNames = serviceTypes.stream()
                 .map(ServiceType::getServiceTypeName).collect(Collectors.toList());
-        Generator genIfElseNode = new GenerateListenerStatementNode(serviceTypeNames);
-        StatementNode ifElseStatementNode = genIfElseNode.generate();
-        NodeList<StatementNode> statements = createNodeList(ifElseStatementNode);
+        NodeList<StatementNode> statements;
+        if (flatServiceTypeTests) {
+            Generator genTypeTestNodes = new GenerateFlatListenerStatementNodes(serviceTypeNames);
+            statements = genTypeTestNodes.generate();
+        } else {
+            Generator genIfElseNode = new GenerateListenerStatementNode(serviceTypeNames);
+            StatementNode ifElseStatementNode = genIfElseNode.generate();
+            statements = createNodeList(ifElseStatementNode);
+        }
 
         FunctionBodyBlockNode functionBodyBlockNodeNew = functionBodyBlockNode
                 .modify().withStatements(statements).apply();
         SyntaxTree modifiedTree = syntaxTree.replaceNode(functionBodyBlockNode, functionBodyBlockNodeNew);
+        if (dispatchLimits || dedup || asyncAck) {
+            ModulePartNode midRoot = modifiedTree.rootNode();
+            modifiedTree = modifiedTree.replaceNode(midRoot, getRootWithListenerConfigs(midRoot));
+        }
+        if (asyncAck) {
+            ModulePartNode midRoot = modifiedTree.rootNode();
+            modifiedTree = modifiedTree.replaceNode(midRoot, getRootWithDrainingGracefulStop(midRoot));
+        }
 
         try {
-            return Formatter.format(modifiedTree).toSourceCode();
+            return new SyntaxTreeSourceWriter(Formatter.format(modifiedTree));
         } catch (FormatterException e) {
             throw new BallerinaAsyncApiException("Could not format the generated code, " +
                     "may be a syntax issue in the generated code", e);
         }
     }
 
-    private FunctionDefinitionNode getServiceTypeStrFuncNode(ModulePartNode oldRoot) {
-        for (ModuleMemberDeclarationNode node: oldRoot.members()) {
-            if (node.kind() == SyntaxKind.CLASS_DEFINITION) {
-                for (Node funcNode: ((ClassDefinitionNode) node).members()) {
-                    if ((funcNode.kind() == SyntaxKind.OBJECT_METHOD_DEFINITION)
-                            && ((FunctionDefinitionNode) funcNode).functionName().text().equals(
-                                    Constants.LISTENER_SERVICE_TYPE_FILTER_FUNCTION_NAME)) {
-                        return (FunctionDefinitionNode) funcNode;
-                    }
-                }
+    /**
+     * Adds {@code ListenerConfigs listenerConfigs = {}} as the last parameter of the init function of the listener
+     * and passes it to the dispatcher service, as {@code self.dispatcherService = new (listenerConfigs);}.
+     */
+    private ModulePartNode getRootWithListenerConfigs(ModulePartNode oldRoot) throws BallerinaAsyncApiException {
+        FunctionDefinitionNode initFunctionDefinitionNode = getMethodNode(oldRoot, "init");
+        if (initFunctionDefinitionNode == null) {
+            throw new BallerinaAsyncApiException("Function 'init', is not found in the listener.bal");
+        }
+
+        FunctionBodyBlockNode functionBodyBlockNode =
+                (FunctionBodyBlockNode) initFunctionDefinitionNode.functionBody();
+        List<StatementNode> statements = new ArrayList<>();
+        for (StatementNode statement : functionBodyBlockNode.statements()) {
+            if (statement.kind() == SyntaxKind.ASSIGNMENT_STATEMENT
+                    && ((AssignmentStatementNode) statement).varRef().toSourceCode().trim()
+                    .equals("self.dispatcherService")
+                    && ((AssignmentStatementNode) statement).expression() instanceof ExplicitNewExpressionNode) {
+                ExplicitNewExpressionNode newExpression =
+                        (ExplicitNewExpressionNode) ((AssignmentStatementNode) statement).expression();
+                statement = ((AssignmentStatementNode) statement).modify().withExpression(newExpression.modify()
+                        .withParenthesizedArgList(createParenthesizedArgList(
+                                createToken(SyntaxKind.OPEN_PAREN_TOKEN),
+                                createSeparatedNodeList(createPositionalArgumentNode(createSimpleNameReferenceNode(
+                                        createIdentifierToken(Constants.LISTENER_CONFIGS_VAR_NAME)))),
+                                createToken(SyntaxKind.CLOSE_PAREN_TOKEN)))
+                        .apply()).apply();
             }
+            statements.add(statement);
+        }
+
+        FunctionSignatureNode functionSignatureNode = initFunctionDefinitionNode.functionSignature();
+        SeparatedNodeList<ParameterNode> parameters = functionSignatureNode.parameters();
+        List<Node> newParameters = new ArrayList<>();
+        for (int i = 0; i < parameters.size(); i++) {
+            newParameters.add(parameters.get(i));
+            newParameters.add(createToken(SyntaxKind.COMMA_TOKEN));
         }
-        return null;
+        newParameters.add(createDefaultableParameterNode(createEmptyNodeList(),
+                createSimpleNameReferenceNode(createIdentifierToken(Constants.LISTENER_CONFIGS_TYPE)),
+                createIdentifierToken(Constants.LISTENER_CONFIGS_VAR_NAME), createToken(SyntaxKind.EQUAL_TOKEN),
+                createMappingConstructorExpressionNode(createToken(SyntaxKind.OPEN_BRACE_TOKEN),
+                        createSeparatedNodeList(), createToken(SyntaxKind.CLOSE_BRACE_TOKEN))));
+
+        FunctionDefinitionNode initFunctionDefinitionNodeNew = initFunctionDefinitionNode.modify()
+                .withFunctionSignature(functionSignatureNode.modify()
+                        .withParameters(createSeparatedNodeList(newParameters)).apply())
+                .withFunctionBody(functionBodyBlockNode.modify().withStatements(createNodeList(statements)).apply())
+                .apply();
+        return oldRoot.replace(initFunctionDefinitionNode, initFunctionDefinitionNodeNew);
+    }
+
+    /**
+     * Makes the graceful stop of the listener wait for the events which are being dispatched in the background, as
+     * {@code error? stopResult = self.httpListener.gracefulStop();
+     * check self.dispatcherService.waitForInFlightDispatches(); return stopResult;}. The wait returns an error if
+     * the events have not completed within the drain timeout.
+     */
+    private ModulePartNode getRootWithDrainingGracefulStop(ModulePartNode oldRoot)
+            throws BallerinaAsyncApiException {
+        FunctionDefinitionNode gracefulStopFunctionDefinitionNode =
+                getMethodNode(oldRoot, Constants.LISTENER_GRACEFUL_STOP_FUNCTION_NAME);
+        if (gracefulStopFunctionDefinitionNode == null) {
+            throw new BallerinaAsyncApiException("Function '" + Constants.LISTENER_GRACEFUL_STOP_FUNCTION_NAME
+                    + "', is not found in the listener.bal");
+        }
+
+        FunctionBodyBlockNode functionBodyBlockNode =
+                (FunctionBodyBlockNode) gracefulStopFunctionDefinitionNode.functionBody();
+        List<StatementNode> statements = new ArrayList<>();
+        for (StatementNode statement : functionBodyBlockNode.statements()) {
+            if (statement.kind() != SyntaxKind.RETURN_STATEMENT
+                    || ((ReturnStatementNode) statement).expression().isEmpty()) {
+                statements.add(statement);
+                continue;
+            }
+            ExpressionNode stopExpression = ((ReturnStatementNode) statement).expression().get();
+            statements.add(createVariableDeclarationNode(createEmptyNodeList(), null,
+                    createTypedBindingPatternNode(createSimpleNameReferenceNode(createIdentifierToken("error?")),
+                            createCaptureBindingPatternNode(createIdentifierToken(Constants.STOP_RESULT_VAR_NAME))),
+                    createToken(SyntaxKind.EQUAL_TOKEN), stopExpression, createToken(SyntaxKind.SEMICOLON_TOKEN)));
+            statements.add(createExpressionStatementNode(SyntaxKind.CALL_STATEMENT,
+                    createCheckExpressionNode(SyntaxKind.CHECK_EXPRESSION, createToken(SyntaxKind.CHECK_KEYWORD),
+                            createMethodCallExpressionNode(createFieldAccessExpressionNode(
+                                            createSimpleNameReferenceNode(createIdentifierToken("self")),
+                                            createToken(SyntaxKind.DOT_TOKEN),
+                                            createSimpleNameReferenceNode(createIdentifierToken("dispatcherService"))),
+                                    createToken(SyntaxKind.DOT_TOKEN),
+                                    createSimpleNameReferenceNode(
+                                            createIdentifierToken(Constants.DISPATCHER_SERVICE_WAIT_FUNCTION_NAME)),
+                                    createToken(SyntaxKind.OPEN_PAREN_TOKEN), createSeparatedNodeList(),
+                                    createToken(SyntaxKind.CLOSE_PAREN_TOKEN))),
+                    createToken(SyntaxKind.SEMICOLON_TOKEN)));
+            statements.add(createReturnStatementNode(createToken(SyntaxKind.RETURN_KEYWORD),
+                    createSimpleNameReferenceNode(createIdentifierToken(Constants.STOP_RESULT_VAR_NAME)),
+                    createToken(SyntaxKind.SEMICOLON_TOKEN)));
+        }
+
+        FunctionBodyBlockNode functionBodyBlockNodeNew = functionBodyBlockNode.modify()
+                .withStatements(createNodeList(statements)).apply();
+        return oldRoot.replace(functionBodyBlockNode, functionBodyBlockNodeNew);
+    }
+
+    private FunctionDefinitionNode getMethodNode(ModulePartNode oldRoot, String methodName) {
+        return BalTemplate.findClassFunction(oldRoot, SyntaxKind.OBJECT_METHOD_DEFINITION, methodName);
     }
 }
@@ -20,17 +20,23 @@ package io.ballerina.asyncapi.codegenerator.controller;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
 import io.ballerina.asyncapi.codegenerator.entity.Schema;
+import io.ballerina.asyncapi.codegenerator.repository.SourceWriter;
 import io.ballerina.asyncapi.codegenerator.usecase.GenerateModuleMemberDeclarationNode;
 import io.ballerina.asyncapi.codegenerator.usecase.GenerateUnionDescriptorNode;
 import io.ballerina.asyncapi.codegenerator.usecase.Generator;
+import io.ballerina.asyncapi.codegenerator.usecase.TypeDescriptorCache;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
-import io.ballerina.tools.text.TextDocument;
-import io.ballerina.tools.text.TextDocuments;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
@@ -39,24 +45,70 @@ import java.util.List;
 import java.util.Map;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createImportDeclarationNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createImportOrgNameNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createQualifiedNameReferenceNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeReferenceNode;
 
 /**
  * This file contains the logics and functions related to code generation of the data_types.bal.
  */
 public class SchemaController implements BalController {
     private final Map<String, Schema> schemas;
+    private final boolean dispatchLimits;
+    private final boolean dedup;
+    private final boolean asyncAck;
+    private final boolean sharded;
+    private final BalCodeEmitter codeEmitter;
 
     public SchemaController(Map<String, Schema> schemas) {
+        this(schemas, new GenerationOptions());
+    }
+
+    /**
+     * @param options the dispatch limits option includes the dispatch limits of the native handler in the
+     *                ListenerConfigs record, and the async ack option includes the drain configs. The direct emit
+     *                option emits the generated records without running the formatter over those. When the data
+     *                types are sharded, only the GenericDataType union is generated here, and the records are
+     *                generated into the shards by the SchemaShardController
+     */
+    public SchemaController(Map<String, Schema> schemas, GenerationOptions options) {
+        this(schemas, "", options);
+    }
+
+    /**
+     * @param eventDedupPath the dedup configs of the native handler are included in the ListenerConfigs record, if
+     *                       the events are deduplicated by this path
+     */
+    public SchemaController(Map<String, Schema> schemas, String eventDedupPath, GenerationOptions options) {
         this.schemas = schemas;
+        this.dispatchLimits = options.isDispatchLimits();
+        this.dedup = !eventDedupPath.isEmpty();
+        this.asyncAck = options.isAsyncAck();
+        this.sharded = options.getDataTypesShardSize() > 0;
+        this.codeEmitter = options.isDirectEmit() ? new BalCodeEmitter(options.isValidateDirectEmit()) : null;
     }
 
     @Override
-    public String generateBalCode(String balTemplate) throws BallerinaAsyncApiException {
+    public SourceWriter generateBalSource(BalTemplate balTemplate) throws BallerinaAsyncApiException {
         List<ModuleMemberDeclarationNode> recordNodes = new ArrayList<>();
         List<TypeDescriptorNode> typeDescriptorNodes = new ArrayList<>();
+        // The repeated inline records are generated once for the whole file
+        TypeDescriptorCache typeDescriptorCache = new TypeDescriptorCache();
         for (Map.Entry<String, Schema> fields : schemas.entrySet()) {
-            Generator generateRecordNode = new GenerateModuleMemberDeclarationNode(fields);
+            GenerateModuleMemberDeclarationNode generateRecordNode =
+                    new GenerateModuleMemberDeclarationNode(fields, typeDescriptorCache);
+            if (sharded) {
+                // The records are in the shards, only the names of those are needed for the union
+                if (fields.getValue().getEnum() == null) {
+                    typeDescriptorNodes.add(
+                            createSimpleNameReferenceNode(createIdentifierToken(generateRecordNode.getTypeName())));
+                }
+                continue;
+            }
             ModuleMemberDeclarationNode typeDefinitionNode = generateRecordNode.generate();
             if (typeDefinitionNode instanceof TypeDefinitionNode) {
                 typeDescriptorNodes.add(
@@ -69,17 +121,75 @@ public class SchemaController implements BalController {
         Generator generateUnionNode = new GenerateUnionDescriptorNode(typeDescriptorNodes, Constants.GENERIC_DATA_TYPE);
         recordNodes.add(generateUnionNode.generate());
 
-        TextDocument textDocument = TextDocuments.from(balTemplate);
-        SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
-        ModulePartNode oldRoot = syntaxTree.rootNode();
+        SyntaxTree syntaxTree = balTemplate.getSyntaxTree();
+        ModulePartNode oldRoot = balTemplate.getRootNode();
+        List<String> handlerConfigTypes = new ArrayList<>();
+        if (dispatchLimits) {
+            handlerConfigTypes.add(Constants.DISPATCH_LIMITS_TYPE);
+        }
+        if (dedup) {
+            handlerConfigTypes.add(Constants.DEDUP_CONFIGS_TYPE);
+        }
+        if (asyncAck) {
+            handlerConfigTypes.add(Constants.DRAIN_CONFIGS_TYPE);
+        }
+        if (!handlerConfigTypes.isEmpty()) {
+            syntaxTree = syntaxTree.replaceNode(oldRoot, getRootWithHandlerConfigs(oldRoot, handlerConfigTypes));
+            oldRoot = syntaxTree.rootNode();
+        }
+        if (codeEmitter != null) {
+            return SourceWriter.of(codeEmitter.emitBalCode(balTemplate, syntaxTree, recordNodes,
+                    Constants.DATA_TYPES_BAL_FILE_NAME));
+        }
         ModulePartNode newRoot = oldRoot.modify().withMembers(oldRoot.members().addAll(recordNodes)).apply();
         SyntaxTree modifiedTree = syntaxTree.replaceNode(oldRoot, newRoot);
 
         try {
-            return Formatter.format(modifiedTree).toSourceCode();
+            return new SyntaxTreeSourceWriter(Formatter.format(modifiedTree));
         } catch (FormatterException e) {
             throw new BallerinaAsyncApiException("Could not format the generated code, " +
                     "may be a syntax issue in the generated code", e);
         }
     }
+
+    /**
+     * Includes the given config records of the native handler in the ListenerConfigs record.
+     * eg: {@code public type ListenerConfigs record { *handler:DispatchLimits; };}
+     */
+    private ModulePartNode getRootWithHandlerConfigs(ModulePartNode oldRoot, List<String> handlerConfigTypes)
+            throws BallerinaAsyncApiException {
+        RecordTypeDescriptorNode listenerConfigsNode = null;
+        for (ModuleMemberDeclarationNode node : oldRoot.members()) {
+            if (node.kind() == SyntaxKind.TYPE_DEFINITION
+                    && ((TypeDefinitionNode) node).typeName().text().equals(Constants.LISTENER_CONFIGS_TYPE)
+                    && ((TypeDefinitionNode) node).typeDescriptor().kind() == SyntaxKind.RECORD_TYPE_DESC) {
+                listenerConfigsNode = (RecordTypeDescriptorNode) ((TypeDefinitionNode) node).typeDescriptor();
+            }
+        }
+        if (listenerConfigsNode == null) {
+            throw new BallerinaAsyncApiException("Record '" + Constants.LISTENER_CONFIGS_TYPE
+                    + "', is not found in the data_types.bal");
+        }
+        NodeList<Node> fields = listenerConfigsNode.fields();
+        for (String handlerConfigType : handlerConfigTypes) {
+            fields = fields.add(createTypeReferenceNode(createToken(SyntaxKind.ASTERISK_TOKEN),
+                    createQualifiedNameReferenceNode(
+                            createIdentifierToken(Constants.NATIVE_HANDLER_MODULE_PREFIX),
+                            createToken(SyntaxKind.COLON_TOKEN),
+                            createIdentifierToken(handlerConfigType)),
+                    createToken(SyntaxKind.SEMICOLON_TOKEN)));
+        }
+        RecordTypeDescriptorNode listenerConfigsNodeNew = listenerConfigsNode.modify().withFields(fields).apply();
+        ModulePartNode midRoot = oldRoot.replace(listenerConfigsNode, listenerConfigsNodeNew);
+
+        // {@code import ballerinax/asyncapi.native.handler;}
+        ImportDeclarationNode handlerImportNode = createImportDeclarationNode(
+                createToken(SyntaxKind.IMPORT_KEYWORD),
+                createImportOrgNameNode(createIdentifierToken("ballerinax"), createToken(SyntaxKind.SLASH_TOKEN)),
+                createSeparatedNodeList(createIdentifierToken("asyncapi"), createToken(SyntaxKind.DOT_TOKEN),
+                        createIdentifierToken("native"), createToken(SyntaxKind.DOT_TOKEN),
+                        createIdentifierToken(Constants.NATIVE_HANDLER_MODULE_PREFIX)),
+                null, createToken(SyntaxKind.SEMICOLON_TOKEN));
+        return midRoot.modify().withImports(midRoot.imports().add(handlerImportNode)).apply();
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.controller;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
+import io.ballerina.asyncapi.codegenerator.entity.Schema;
+import io.ballerina.asyncapi.codegenerator.repository.SourceWriter;
+import io.ballerina.asyncapi.codegenerator.usecase.GenerateModuleMemberDeclarationNode;
+import io.ballerina.asyncapi.codegenerator.usecase.Generator;
+import io.ballerina.asyncapi.codegenerator.usecase.TypeDescriptorCache;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This file contains the logics and functions related to code generation of a shard of the data types,
+ * eg: data_types_1.bal. The data_types.bal contains the GenericDataType union of the records in all the shards.
+ */
+public class SchemaShardController implements BalController {
+    private final Map<String, Schema> schemas;
+    private final String fileName;
+    private final BalCodeEmitter codeEmitter;
+
+    /**
+     * @param schemas  the schemas in the shard
+     * @param fileName the name of the shard file, which is used in the error messages
+     * @param options  the direct emit option emits the generated records without running the formatter over those
+     */
+    public SchemaShardController(Map<String, Schema> schemas, String fileName, GenerationOptions options) {
+        this.schemas = schemas;
+        this.fileName = fileName;
+        this.codeEmitter = options.isDirectEmit() ? new BalCodeEmitter(options.isValidateDirectEmit()) : null;
+    }
+
+    @Override
+    public SourceWriter generateBalSource(BalTemplate balTemplate) throws BallerinaAsyncApiException {
+        List<ModuleMemberDeclarationNode> recordNodes = new ArrayList<>();
+        // The repeated inline records are generated once for the whole shard
+        TypeDescriptorCache typeDescriptorCache = new TypeDescriptorCache();
+        for (Map.Entry<String, Schema> fields : schemas.entrySet()) {
+            Generator generateRecordNode = new GenerateModuleMemberDeclarationNode(fields, typeDescriptorCache);
+            recordNodes.add(generateRecordNode.generate());
+        }
+
+        SyntaxTree syntaxTree = balTemplate.getSyntaxTree();
+        if (codeEmitter != null) {
+            return SourceWriter.of(codeEmitter.emitBalCode(balTemplate, syntaxTree, recordNodes, fileName));
+        }
+        ModulePartNode oldRoot = balTemplate.getRootNode();
+        ModulePartNode newRoot = oldRoot.modify().withMembers(oldRoot.members().addAll(recordNodes)).apply();
+        SyntaxTree modifiedTree = syntaxTree.replaceNode(oldRoot, newRoot);
+
+        try {
+            return new SyntaxTreeSourceWriter(Formatter.format(modifiedTree));
+        } catch (FormatterException e) {
+            throw new BallerinaAsyncApiException("Could not format the generated code, " +
+                    "may be a syntax issue in the generated code", e);
+        }
+    }
+}
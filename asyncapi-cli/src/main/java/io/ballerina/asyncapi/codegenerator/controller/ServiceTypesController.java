@@ -20,7 +20,9 @@ package io.ballerina.asyncapi.codegenerator.controller;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
 import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.asyncapi.codegenerator.repository.SourceWriter;
 import io.ballerina.asyncapi.codegenerator.usecase.GenerateServiceTypeNode;
 import io.ballerina.asyncapi.codegenerator.usecase.GenerateUnionDescriptorNode;
 import io.ballerina.asyncapi.codegenerator.usecase.Generator;
@@ -29,8 +31,6 @@ import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
-import io.ballerina.tools.text.TextDocument;
-import io.ballerina.tools.text.TextDocuments;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
@@ -45,13 +45,23 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameRefe
  */
 public class ServiceTypesController implements BalController {
     private final List<ServiceType> serviceTypes;
+    private final BalCodeEmitter codeEmitter;
 
     public ServiceTypesController(List<ServiceType> serviceTypes) {
+        this(serviceTypes, new GenerationOptions());
+    }
+
+    /**
+     * @param options the direct emit option emits the generated service types without running the formatter over
+     *                those
+     */
+    public ServiceTypesController(List<ServiceType> serviceTypes, GenerationOptions options) {
         this.serviceTypes = serviceTypes;
+        this.codeEmitter = options.isDirectEmit() ? new BalCodeEmitter(options.isValidateDirectEmit()) : null;
     }
 
     @Override
-    public String generateBalCode(String balTemplate) throws BallerinaAsyncApiException {
+    public SourceWriter generateBalSource(BalTemplate balTemplate) throws BallerinaAsyncApiException {
         List<ModuleMemberDeclarationNode> serviceNodes = new ArrayList<>();
         List<TypeDescriptorNode> serviceTypeNodes = new ArrayList<>();
         for (ServiceType service : serviceTypes) {
@@ -66,14 +76,17 @@ public class ServiceTypesController implements BalController {
         Generator generateUnionNode = new GenerateUnionDescriptorNode(serviceTypeNodes, Constants.GENERIC_SERVICE_TYPE);
         serviceNodes.add(generateUnionNode.generate());
 
-        TextDocument textDocument = TextDocuments.from(balTemplate);
-        SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
-        ModulePartNode oldRoot = syntaxTree.rootNode();
+        SyntaxTree syntaxTree = balTemplate.getSyntaxTree();
+        if (codeEmitter != null) {
+            return SourceWriter.of(codeEmitter.emitBalCode(balTemplate, syntaxTree, serviceNodes,
+                    Constants.SERVICE_TYPES_BAL_FILE_NAME));
+        }
+        ModulePartNode oldRoot = balTemplate.getRootNode();
         ModulePartNode newRoot = oldRoot.modify().withMembers(oldRoot.members().addAll(serviceNodes)).apply();
         SyntaxTree modifiedTree = syntaxTree.replaceNode(oldRoot, newRoot);
 
         try {
-            return Formatter.format(modifiedTree).toSourceCode();
+            return new SyntaxTreeSourceWriter(Formatter.format(modifiedTree));
         } catch (FormatterException e) {
             throw new BallerinaAsyncApiException("Could not format the generated code, " +
                     "may be a syntax issue in the generated code", e);
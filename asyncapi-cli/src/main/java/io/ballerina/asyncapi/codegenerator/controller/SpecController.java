@@ -18,6 +18,7 @@
 
 package io.ballerina.asyncapi.codegenerator.controller;
 
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.entity.Schema;
 import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
 
@@ -32,4 +33,6 @@ public interface SpecController {
     Map<String, Schema> getSchemas();
     String getEventIdentifierType();
     String getEventIdentifierPath();
+    String getEventDedupPath();
+    Map<String, String> getInputHashes() throws BallerinaAsyncApiException;
 }
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.controller;
+
+import io.ballerina.asyncapi.codegenerator.repository.SourceWriter;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Writes the source code of a syntax tree token by token, which is the same as {@code syntaxTree.toSourceCode()},
+ * without building the source code of the whole tree as a single string.
+ */
+class SyntaxTreeSourceWriter implements SourceWriter {
+    private final SyntaxTree syntaxTree;
+
+    SyntaxTreeSourceWriter(SyntaxTree syntaxTree) {
+        this.syntaxTree = syntaxTree;
+    }
+
+    @Override
+    public void writeTo(Writer writer) throws IOException {
+        // The nodes are visited with a stack instead of recursion, since the generated trees can be very deep
+        Deque<Node> nodes = new ArrayDeque<>();
+        nodes.push(syntaxTree.rootNode());
+        List<Node> children = new ArrayList<>();
+        while (!nodes.isEmpty()) {
+            Node node = nodes.pop();
+            if (node instanceof Token) {
+                // Includes the leading and trailing minutiae (whitespaces, newlines and comments) of the token
+                writer.write(node.toSourceCode());
+            } else if (node instanceof NonTerminalNode) {
+                children.clear();
+                for (Node child : ((NonTerminalNode) node).children()) {
+                    if (child != null) {
+                        children.add(child);
+                    }
+                }
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    nodes.push(children.get(i));
+                }
+            }
+        }
+    }
+}
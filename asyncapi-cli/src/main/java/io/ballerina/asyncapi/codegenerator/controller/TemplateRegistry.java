@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.controller;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This reads and parses each Ballerina template only once, and hands out the same parsed template to all the
+ * controllers. This lets the specs generated in the same process (batch, watch and daemon modes) share the parsed
+ * templates.
+ */
+public class TemplateRegistry {
+    private final FileRepository fileRepository;
+    private final Map<String, BalTemplate> templates = new ConcurrentHashMap<>();
+
+    public TemplateRegistry(FileRepository fileRepository) {
+        this.fileRepository = fileRepository;
+    }
+
+    /**
+     * @param fileName name of the template in the resources
+     * @return the parsed template
+     */
+    public BalTemplate getTemplate(String fileName) throws BallerinaAsyncApiException {
+        BalTemplate template = templates.get(fileName);
+        if (template == null) {
+            // The specs generated at the same time wait for the one which reads the template, so that it is read
+            // only once
+            synchronized (this) {
+                template = templates.get(fileName);
+                if (template == null) {
+                    template = BalTemplate.parse(fileRepository.getFileContentFromResources(fileName));
+                    templates.put(fileName, template);
+                }
+            }
+        }
+        return template;
+    }
+}
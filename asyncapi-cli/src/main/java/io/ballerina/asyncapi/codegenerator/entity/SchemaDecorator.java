@@ -267,16 +267,25 @@ public class SchemaDecorator implements Schema {
 
     @Override
     public List<Schema> getAllOf() {
+        if (aaiSchema.allOf == null) {
+            return null;
+        }
         return aaiSchema.allOf.stream().map(SchemaDecorator::new).collect(Collectors.toList());
     }
 
     @Override
     public List<Schema> getOneOf() {
+        if (aaiSchema.oneOf == null) {
+            return null;
+        }
         return aaiSchema.oneOf.stream().map(SchemaDecorator::new).collect(Collectors.toList());
     }
 
     @Override
     public List<Schema> getAnyOf() {
+        if (aaiSchema.anyOf == null) {
+            return null;
+        }
         return aaiSchema.anyOf.stream().map(SchemaDecorator::new).collect(Collectors.toList());
     }
 
@@ -368,4 +377,18 @@ public class SchemaDecorator implements Schema {
     public Object getExtraProperty(String name) {
         return aaiSchema.getExtraProperty(name);
     }
+
+    /**
+     * The decorators are created again on every access to the nested schemas, hence two decorators are equal when
+     * those decorate the same schema of the specification.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SchemaDecorator && ((SchemaDecorator) other).aaiSchema == aaiSchema;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(aaiSchema);
+    }
 }
@@ -18,6 +18,7 @@
 
 package io.ballerina.asyncapi.codegenerator.repository;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 
 /**
@@ -25,8 +26,20 @@ import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiExcept
  */
 public interface FileRepository {
     String getFileContent(String filePath) throws BallerinaAsyncApiException;
+    boolean isFileExists(String filePath);
     String getFileContentFromResources(String fileName) throws BallerinaAsyncApiException;
     void writeToFile(String filePath, String content) throws BallerinaAsyncApiException;
+
+    /**
+     * Streams the source into the file, without keeping the whole source in memory. The file is left as it is, if it
+     * already has the same content.
+     *
+     * @return whether the file was written
+     */
+    boolean writeToFile(String filePath, SourceWriter sourceWriter) throws BallerinaAsyncApiException;
+    void deleteFile(String filePath) throws BallerinaAsyncApiException;
     String convertYamlToJson(String yaml) throws BallerinaAsyncApiException;
     boolean validateJson(String jsonString) throws BallerinaAsyncApiException;
+    JsonNode getJsonTreeFromFile(String filePath) throws BallerinaAsyncApiException;
+    JsonNode getYamlTreeFromFile(String filePath) throws BallerinaAsyncApiException;
 }
@@ -19,23 +19,42 @@
 package io.ballerina.asyncapi.codegenerator.repository;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
 
 /**
  * Implementation of the FileRepository which includes the file reading and converting related tasks.
  */
 public class FileRepositoryImpl implements FileRepository {
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private final SpecParser specParser;
+
+    public FileRepositoryImpl() {
+        this(SpecParser.getDefaultInstance());
+    }
+
+    public FileRepositoryImpl(SpecParser specParser) {
+        this.specParser = specParser;
+    }
 
     @Override
     public String getFileContent(String filePath) throws BallerinaAsyncApiException {
@@ -47,6 +66,11 @@ public class FileRepositoryImpl implements FileRepository {
         }
     }
 
+    @Override
+    public boolean isFileExists(String filePath) {
+        return new File(filePath).isFile();
+    }
+
     @Override
     public String getFileContentFromResources(String fileName) throws BallerinaAsyncApiException {
         try (InputStream inputStream = getFileFromResourceAsStream(fileName)) {
@@ -58,22 +82,70 @@ public class FileRepositoryImpl implements FileRepository {
 
     @Override
     public void writeToFile(String filePath, String content) throws BallerinaAsyncApiException {
-        File file = new File(filePath);
+        writeToFile(filePath, SourceWriter.of(content));
+    }
+
+    /**
+     * Writes the source into a temporary file in the same directory, through a buffered writer over a file channel,
+     * and then renames the temporary file to the given file. Hence, the file never contains a partially written
+     * source, even when the generation is interrupted or fails while writing.
+     */
+    @Override
+    public boolean writeToFile(String filePath, SourceWriter sourceWriter) throws BallerinaAsyncApiException {
+        Path path = Paths.get(filePath).toAbsolutePath();
+        Path tempPath = null;
         try {
-            FileUtils.writeStringToFile(file, content, StandardCharsets.UTF_8);
+            Files.createDirectories(path.getParent());
+            // Not Files.createTempFile, which would leave the generated file readable only by the owner
+            tempPath = path.resolveSibling("." + path.getFileName() + "." + UUID.randomUUID() + TEMP_FILE_SUFFIX);
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.WRITE);
+                 Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8),
+                         WRITE_BUFFER_SIZE)) {
+                sourceWriter.writeTo(writer);
+            }
+            if (Files.isRegularFile(path) && Files.mismatch(path, tempPath) == -1) {
+                return false;
+            }
+            try {
+                Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tempPath = null;
+            return true;
         } catch (IOException e) {
             throw new BallerinaAsyncApiException(
                     "Could not write the contents to the relevant path: ".concat(filePath), e);
+        } finally {
+            deleteTempFile(tempPath);
+        }
+    }
+
+    private void deleteTempFile(Path tempPath) {
+        if (tempPath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempPath);
+        } catch (IOException e) {
+            // The temporary file is hidden, and the error of writing the file (if any) is the one to be reported
+        }
+    }
+
+    @Override
+    public void deleteFile(String filePath) throws BallerinaAsyncApiException {
+        try {
+            Files.deleteIfExists(Paths.get(filePath));
+        } catch (IOException e) {
+            throw new BallerinaAsyncApiException("Could not delete the file in the given path: ".concat(filePath), e);
         }
     }
 
     @Override
     public String convertYamlToJson(String yaml) throws BallerinaAsyncApiException {
-        ObjectMapper yamlReader = new ObjectMapper(new YAMLFactory());
         try {
-            Object obj = yamlReader.readValue(yaml, Object.class);
-            ObjectMapper jsonWriter = new ObjectMapper();
-            return jsonWriter.writeValueAsString(obj);
+            return specParser.writeJson(specParser.readYamlTree(yaml));
         } catch (JsonProcessingException e) {
             throw new BallerinaAsyncApiException("Error when converting the given yaml file to json, " +
                     "Please validate the yaml file", e);
@@ -83,15 +155,44 @@ public class FileRepositoryImpl implements FileRepository {
     @Override
     public boolean validateJson(String jsonString) throws BallerinaAsyncApiException {
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            objectMapper.enable(DeserializationFeature.FAIL_ON_READING_DUP_TREE_KEY);
-            objectMapper.readTree(jsonString);
+            specParser.readJsonTree(jsonString);
             return true;
         } catch (JsonProcessingException e) {
             throw new BallerinaAsyncApiException("Error parsing the json, please validate the json file", e);
         }
     }
 
+    /**
+     * Parses the JSON file into a tree while streaming it from the disk, hence the file content is never kept as a
+     * string. Duplicate keys are validated in the same pass, as in {@link #validateJson(String)}.
+     */
+    @Override
+    public JsonNode getJsonTreeFromFile(String filePath) throws BallerinaAsyncApiException {
+        try (InputStream inputStream = Files.newInputStream(Paths.get(filePath))) {
+            return specParser.readJsonTree(inputStream);
+        } catch (JsonProcessingException e) {
+            throw new BallerinaAsyncApiException("Error parsing the json, please validate the json file", e);
+        } catch (IOException e) {
+            throw new BallerinaAsyncApiException("File not found in the given path: ".concat(filePath), e);
+        }
+    }
+
+    /**
+     * Parses the YAML file into a JSON tree while streaming it from the disk, without converting it to a JSON
+     * string as in {@link #convertYamlToJson(String)}.
+     */
+    @Override
+    public JsonNode getYamlTreeFromFile(String filePath) throws BallerinaAsyncApiException {
+        try (InputStream inputStream = Files.newInputStream(Paths.get(filePath))) {
+            return specParser.readYamlTree(inputStream);
+        } catch (JsonProcessingException e) {
+            throw new BallerinaAsyncApiException("Error when converting the given yaml file to json, " +
+                    "Please validate the yaml file", e);
+        } catch (IOException e) {
+            throw new BallerinaAsyncApiException("File not found in the given path: ".concat(filePath), e);
+        }
+    }
+
     private InputStream getFileFromResourceAsStream(String fileName) {
         ClassLoader classLoader = getClass().getClassLoader();
         InputStream inputStream = classLoader.getResourceAsStream(fileName);
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Parses YAML and JSON specifications into JSON trees. The readers and writers are configured once and are
+ * immutable, hence a single instance can be shared across threads and across the specs of a generation run.
+ * JSON is validated for duplicate keys while the tree is built, so a validated tree never has to be parsed again.
+ */
+public class SpecParser {
+    private static final SpecParser DEFAULT_INSTANCE = new SpecParser();
+
+    private final ObjectReader jsonReader;
+    private final ObjectReader yamlReader;
+    private final ObjectWriter jsonWriter;
+
+    public SpecParser() {
+        ObjectMapper jsonMapper = new ObjectMapper();
+        this.jsonReader = jsonMapper.reader().with(DeserializationFeature.FAIL_ON_READING_DUP_TREE_KEY);
+        this.jsonWriter = jsonMapper.writer();
+        this.yamlReader = new ObjectMapper(new YAMLFactory()).reader();
+    }
+
+    /**
+     * Returns the instance shared by the file repositories, which do not have a parser of their own.
+     */
+    public static SpecParser getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+    }
+
+    public JsonNode readJsonTree(String json) throws JsonProcessingException {
+        return jsonReader.readTree(json);
+    }
+
+    public JsonNode readJsonTree(InputStream inputStream) throws IOException {
+        return jsonReader.readTree(inputStream);
+    }
+
+    public JsonNode readYamlTree(String yaml) throws JsonProcessingException {
+        return yamlReader.readTree(yaml);
+    }
+
+    public JsonNode readYamlTree(InputStream inputStream) throws IOException {
+        return yamlReader.readTree(inputStream);
+    }
+
+    public String writeJson(JsonNode tree) throws JsonProcessingException {
+        return jsonWriter.writeValueAsString(tree);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.apicurio.datamodels.asyncapi.models.AaiDocument;
+import io.apicurio.datamodels.core.models.Extension;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+
+/**
+ * Extract the path of the field, which uniquely identifies a delivery of an event, from the AsyncAPI specification.
+ * An empty path is returned if the events are not deduplicated.
+ */
+public class ExtractDedupPathFromSpec implements Extractor {
+    private final AaiDocument asyncApiSpec;
+
+    public ExtractDedupPathFromSpec(AaiDocument asyncApiSpec) {
+        this.asyncApiSpec = asyncApiSpec;
+    }
+
+    @Override
+    public String extract() throws BallerinaAsyncApiException {
+        Extension dedupPath = asyncApiSpec.getExtension(Constants.X_BALLERINA_EVENT_DEDUP_PATH);
+        if (dedupPath == null) {
+            return "";
+        }
+        if (!(dedupPath.value instanceof String) || ((String) dedupPath.value).isBlank()) {
+            throw new BallerinaAsyncApiException("The value of the attribute "
+                    .concat(Constants.X_BALLERINA_EVENT_DEDUP_PATH)
+                    .concat(" should be a path of a field in the event payload, eg: event_id"));
+        }
+        StringBuilder dedupPathString = new StringBuilder();
+        String prefix = "";
+        for (String dedupPathPart : ((String) dedupPath.value).trim().split("\\.")) {
+            dedupPathString.append(prefix);
+            prefix = ".";
+            if (Constants.BAL_KEYWORDS.stream()
+                    .anyMatch(dedupPathPart::equals)) {
+                dedupPathString.append("'").append(dedupPathPart);
+            } else {
+                dedupPathString.append(dedupPathPart);
+            }
+        }
+        return dedupPathString.toString();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.asyncapi.models.AaiChannelItem;
+import io.apicurio.datamodels.asyncapi.models.AaiDocument;
+import io.apicurio.datamodels.asyncapi.models.AaiSchema;
+import io.apicurio.datamodels.compat.JsonCompat;
+import io.apicurio.datamodels.core.models.Extension;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.usecase.utils.HashUtils;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Extract the content hashes of the schemas, channels, the event identifier and the event dedup path from the
+ * AsyncAPI specification.
+ * These hashes are used to find out which inputs have been changed since the last code generation.
+ */
+public class ExtractInputHashesFromSpec implements Extractor {
+    private final AaiDocument asyncApiSpec;
+    private final HashUtils hashUtils = new HashUtils();
+
+    public ExtractInputHashesFromSpec(AaiDocument asyncApiSpec) {
+        this.asyncApiSpec = asyncApiSpec;
+    }
+
+    @Override
+    public Map<String, String> extract() throws BallerinaAsyncApiException {
+        Map<String, String> inputHashes = new TreeMap<>();
+        if (asyncApiSpec.components != null && asyncApiSpec.components.schemas != null) {
+            for (Map.Entry<String, AaiSchema> schema : asyncApiSpec.components.schemas.entrySet()) {
+                inputHashes.put(Constants.INPUT_HASH_SCHEMA_PREFIX.concat(schema.getKey()),
+                        hashUtils.getContentHash(JsonCompat.stringify(Library.writeNode(schema.getValue()))));
+            }
+        }
+        if (asyncApiSpec.channels != null) {
+            for (Map.Entry<String, AaiChannelItem> channel : asyncApiSpec.channels.entrySet()) {
+                inputHashes.put(Constants.INPUT_HASH_CHANNEL_PREFIX.concat(channel.getKey()),
+                        hashUtils.getContentHash(JsonCompat.stringify(Library.writeNode(channel.getValue()))));
+            }
+        }
+        Extension identifier = asyncApiSpec.getExtension(Constants.X_BALLERINA_EVENT_FIELD_IDENTIFIER);
+        if (identifier != null) {
+            inputHashes.put(Constants.X_BALLERINA_EVENT_FIELD_IDENTIFIER,
+                    hashUtils.getContentHash(String.valueOf(identifier.value)));
+        }
+        Extension dedupPath = asyncApiSpec.getExtension(Constants.X_BALLERINA_EVENT_DEDUP_PATH);
+        if (dedupPath != null) {
+            inputHashes.put(Constants.X_BALLERINA_EVENT_DEDUP_PATH,
+                    hashUtils.getContentHash(String.valueOf(dedupPath.value)));
+        }
+        return inputHashes;
+    }
+}
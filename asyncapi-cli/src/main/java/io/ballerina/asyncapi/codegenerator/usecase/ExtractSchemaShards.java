@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.ballerina.asyncapi.codegenerator.entity.Schema;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Partition the schemas into shards of at most the given number of schemas, by reference locality. The schemas
+ * which reference each other, directly or through other schemas, are kept in the same shard, unless there are
+ * more of those than the shard size. Such a group of schemas is split in the breadth first order of the references,
+ * so that the schemas end up near the schemas they reference.
+ */
+public class ExtractSchemaShards implements Extractor {
+    private final Map<String, Schema> schemas;
+    private final int shardSize;
+
+    /**
+     * @param schemas   the schemas to partition, the shards are filled in the iteration order of this map
+     * @param shardSize the maximum number of schemas in a shard
+     */
+    public ExtractSchemaShards(Map<String, Schema> schemas, int shardSize) {
+        this.schemas = schemas;
+        this.shardSize = Math.max(1, shardSize);
+    }
+
+    @Override
+    public List<Map<String, Schema>> extract() {
+        // The references are followed in both directions, to find the schemas related to each other. Those are
+        // kept in the iteration order of the schemas, to get the same shards every time
+        Map<String, Set<String>> references = new HashMap<>();
+        for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
+            Set<String> referencedSchemas = new LinkedHashSet<>();
+            addReferencedSchemas(schema.getValue(), referencedSchemas);
+            for (String referencedSchema : referencedSchemas) {
+                references.computeIfAbsent(schema.getKey(), name -> new LinkedHashSet<>()).add(referencedSchema);
+                references.computeIfAbsent(referencedSchema, name -> new LinkedHashSet<>()).add(schema.getKey());
+            }
+        }
+
+        List<Map<String, Schema>> shards = new ArrayList<>();
+        Map<String, Schema> shard = new LinkedHashMap<>();
+        Set<String> visitedSchemas = new HashSet<>();
+        for (String schemaName : schemas.keySet()) {
+            if (visitedSchemas.contains(schemaName)) {
+                continue;
+            }
+            List<String> relatedSchemas = getRelatedSchemas(schemaName, references, visitedSchemas);
+            if (!shard.isEmpty() && shard.size() + relatedSchemas.size() > shardSize) {
+                shards.add(shard);
+                shard = new LinkedHashMap<>();
+            }
+            for (String relatedSchema : relatedSchemas) {
+                if (shard.size() == shardSize) {
+                    shards.add(shard);
+                    shard = new LinkedHashMap<>();
+                }
+                shard.put(relatedSchema, schemas.get(relatedSchema));
+            }
+        }
+        if (!shard.isEmpty()) {
+            shards.add(shard);
+        }
+        return shards;
+    }
+
+    /**
+     * Finds the schemas related to the given schema through references, in the breadth first order.
+     */
+    private List<String> getRelatedSchemas(String schemaName, Map<String, Set<String>> references,
+                                           Set<String> visitedSchemas) {
+        List<String> relatedSchemas = new ArrayList<>();
+        Deque<String> pendingSchemas = new ArrayDeque<>();
+        pendingSchemas.add(schemaName);
+        visitedSchemas.add(schemaName);
+        while (!pendingSchemas.isEmpty()) {
+            String pendingSchema = pendingSchemas.poll();
+            relatedSchemas.add(pendingSchema);
+            for (String referencedSchema : references.getOrDefault(pendingSchema, Set.of())) {
+                if (visitedSchemas.add(referencedSchema)) {
+                    pendingSchemas.add(referencedSchema);
+                }
+            }
+        }
+        return relatedSchemas;
+    }
+
+    private void addReferencedSchemas(Object schema, Set<String> referencedSchemas) {
+        if (schema instanceof List) {
+            for (Object item : (List<?>) schema) {
+                addReferencedSchemas(item, referencedSchemas);
+            }
+            return;
+        }
+        if (!(schema instanceof Schema)) {
+            return;
+        }
+        Schema schemaEntity = (Schema) schema;
+        if (schemaEntity.getRef() != null) {
+            String referencedSchema = schemaEntity.getRef().substring(schemaEntity.getRef().lastIndexOf('/') + 1);
+            if (schemas.containsKey(referencedSchema)) {
+                referencedSchemas.add(referencedSchema);
+            }
+        }
+        if (schemaEntity.getSchemaProperties() != null) {
+            addReferencedSchemas(new ArrayList<>(schemaEntity.getSchemaProperties().values()), referencedSchemas);
+        }
+        addReferencedSchemas(schemaEntity.getItems(), referencedSchemas);
+        addReferencedSchemas(schemaEntity.getAllOf(), referencedSchemas);
+        addReferencedSchemas(schemaEntity.getOneOf(), referencedSchemas);
+        addReferencedSchemas(schemaEntity.getAnyOf(), referencedSchemas);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createAssignmentStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createExpressionStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionBodyBlockNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionDefinitionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionSignatureNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createImplicitNewExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMethodCallExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createParenthesizedArgList;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createPositionalArgumentNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRequiredParameterNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+
+/**
+ * Generate the init function of the DispatcherService in dispatcher_service.bal, which configures the native handler
+ * with the dispatch limits and the dedup configs in the listener configs, and keeps the drain timeout of the graceful
+ * stop.
+ * eg: {@code isolated function init(ListenerConfigs listenerConfigs) { self.nativeHandler = new (listenerConfigs); }}
+ */
+public class GenerateDispatcherInitNode implements Generator {
+    private final boolean dispatchLimits;
+    private final boolean dedup;
+    private final boolean drain;
+
+    public GenerateDispatcherInitNode() {
+        this(true, false);
+    }
+
+    /**
+     * @param dispatchLimits whether the native handler is created with the dispatch limits
+     * @param dedup          whether the dedup configs are set in the native handler
+     */
+    public GenerateDispatcherInitNode(boolean dispatchLimits, boolean dedup) {
+        this(dispatchLimits, dedup, false);
+    }
+
+    /**
+     * @param drain whether the drain timeout in the listener configs is kept in the dispatcher service, for the events
+     *              which are dispatched in the background
+     */
+    public GenerateDispatcherInitNode(boolean dispatchLimits, boolean dedup, boolean drain) {
+        this.dispatchLimits = dispatchLimits;
+        this.dedup = dedup;
+        this.drain = drain;
+    }
+
+    @Override
+    public FunctionDefinitionNode generate() throws BallerinaAsyncApiException {
+        List<StatementNode> statements = new ArrayList<>();
+        if (dispatchLimits) {
+            statements.add(createAssignmentStatementNode(
+                    createSimpleNameReferenceNode(createIdentifierToken(Constants.SELF_KEYWORD + ".nativeHandler")),
+                    createToken(SyntaxKind.EQUAL_TOKEN),
+                    createImplicitNewExpressionNode(createToken(SyntaxKind.NEW_KEYWORD),
+                            createParenthesizedArgList(createToken(SyntaxKind.OPEN_PAREN_TOKEN),
+                                    createSeparatedNodeList(createPositionalArgumentNode(
+                                            createSimpleNameReferenceNode(
+                                                    createIdentifierToken(Constants.LISTENER_CONFIGS_VAR_NAME)))),
+                                    createToken(SyntaxKind.CLOSE_PAREN_TOKEN))),
+                    createToken(SyntaxKind.SEMICOLON_TOKEN)));
+        }
+        if (dedup) {
+            // {@code self.nativeHandler.setDedupConfigs(listenerConfigs);}
+            statements.add(createExpressionStatementNode(SyntaxKind.CALL_STATEMENT,
+                    createMethodCallExpressionNode(
+                            createSimpleNameReferenceNode(
+                                    createIdentifierToken(Constants.SELF_KEYWORD + ".nativeHandler")),
+                            createToken(SyntaxKind.DOT_TOKEN),
+                            createSimpleNameReferenceNode(
+                                    createIdentifierToken(Constants.NATIVE_HANDLER_SET_DEDUP_CONFIGS_FUNCTION_NAME)),
+                            createToken(SyntaxKind.OPEN_PAREN_TOKEN),
+                            createSeparatedNodeList(createPositionalArgumentNode(createSimpleNameReferenceNode(
+                                    createIdentifierToken(Constants.LISTENER_CONFIGS_VAR_NAME)))),
+                            createToken(SyntaxKind.CLOSE_PAREN_TOKEN)),
+                    createToken(SyntaxKind.SEMICOLON_TOKEN)));
+        }
+        if (drain) {
+            // {@code self.drainTimeout = listenerConfigs.drainTimeout;}
+            statements.add(createAssignmentStatementNode(
+                    createSimpleNameReferenceNode(
+                            createIdentifierToken(Constants.SELF_KEYWORD + "." + Constants.DRAIN_TIMEOUT_FIELD_NAME)),
+                    createToken(SyntaxKind.EQUAL_TOKEN),
+                    createSimpleNameReferenceNode(createIdentifierToken(
+                            Constants.LISTENER_CONFIGS_VAR_NAME + "." + Constants.DRAIN_TIMEOUT_FIELD_NAME)),
+                    createToken(SyntaxKind.SEMICOLON_TOKEN)));
+        }
+
+        return createFunctionDefinitionNode(SyntaxKind.OBJECT_METHOD_DEFINITION, null,
+                createNodeList(createToken(SyntaxKind.ISOLATED_KEYWORD)), createToken(SyntaxKind.FUNCTION_KEYWORD),
+                createIdentifierToken("init"), createEmptyNodeList(),
+                createFunctionSignatureNode(createToken(SyntaxKind.OPEN_PAREN_TOKEN),
+                        createSeparatedNodeList(createRequiredParameterNode(createEmptyNodeList(),
+                                createSimpleNameReferenceNode(createIdentifierToken(Constants.LISTENER_CONFIGS_TYPE)),
+                                createIdentifierToken(Constants.LISTENER_CONFIGS_VAR_NAME))),
+                        createToken(SyntaxKind.CLOSE_PAREN_TOKEN), null),
+                createFunctionBodyBlockNode(createToken(SyntaxKind.OPEN_BRACE_TOKEN), null,
+                        createNodeList(statements), createToken(SyntaxKind.CLOSE_BRACE_TOKEN), null));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.usecase.utils.CodegenUtils;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.ReturnStatementNode;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyMinutiaeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createLiteralValueToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBasicLiteralNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBlockStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createIfElseStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeTestExpressionNode;
+
+/**
+ * Generate the statements of the getServiceTypeStr function in listener.bal as a flat sequence of type tests, as
+ * {@code if serviceRef is X { return "X"; }} for each service type, followed by {@code return "Y";} for the last
+ * one. Unlike the if else chain generated by {@link GenerateListenerStatementNode}, the depth of the generated
+ * syntax does not grow with the number of service types.
+ */
+public class GenerateFlatListenerStatementNodes implements Generator {
+    private final List<String> serviceTypes;
+    private final CodegenUtils codegenUtils = new CodegenUtils();
+
+    public GenerateFlatListenerStatementNodes(List<String> serviceTypes) {
+        this.serviceTypes = serviceTypes;
+    }
+
+    @Override
+    public NodeList<StatementNode> generate() throws BallerinaAsyncApiException {
+        if (serviceTypes.isEmpty()) {
+            throw new BallerinaAsyncApiException("No service types found, " +
+                    "probably there are no channels defined in the async api spec");
+        }
+        List<StatementNode> statements = new ArrayList<>(serviceTypes.size());
+        for (int i = 0; i < serviceTypes.size() - 1; i++) {
+            String serviceTypeName = codegenUtils.getServiceTypeNameByServiceName(serviceTypes.get(i));
+            ExpressionNode condition = createTypeTestExpressionNode(
+                    createSimpleNameReferenceNode(createIdentifierToken("serviceRef")),
+                    createToken(SyntaxKind.IS_KEYWORD),
+                    createSimpleNameReferenceNode(createIdentifierToken(serviceTypeName)));
+            statements.add(createIfElseStatementNode(createToken(SyntaxKind.IF_KEYWORD), condition,
+                    createBlockStatementNode(createToken(SyntaxKind.OPEN_BRACE_TOKEN),
+                            createNodeList(getReturnStatementNode(serviceTypeName)),
+                            createToken(SyntaxKind.CLOSE_BRACE_TOKEN)),
+                    null));
+        }
+        statements.add(getReturnStatementNode(
+                codegenUtils.getServiceTypeNameByServiceName(serviceTypes.get(serviceTypes.size() - 1))));
+        return createNodeList(statements);
+    }
+
+    private ReturnStatementNode getReturnStatementNode(String serviceTypeName) {
+        return createReturnStatementNode(
+                createToken(SyntaxKind.RETURN_KEYWORD),
+                createBasicLiteralNode(
+                        SyntaxKind.STRING_LITERAL,
+                        createLiteralValueToken(SyntaxKind.STRING_LITERAL_TOKEN, '"' + serviceTypeName + '"',
+                                createEmptyMinutiaeList(), createEmptyMinutiaeList())),
+                createToken(SyntaxKind.SEMICOLON_TOKEN));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.compiler.syntax.tree.IfElseStatementNode;
+import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBlockStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createExpressionStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createIfElseStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMethodCallExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createPositionalArgumentNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeTestExpressionNode;
+
+/**
+ * Generate the statement of the post resource function in dispatcher_service.bal, which forgets the dedup key of an
+ * event when it could not be dispatched, so that the event is dispatched when the provider retries it.
+ * eg: {@code if dispatchResult is error { self.nativeHandler.forgetEvent(payload.event_id); return dispatchResult; }}
+ */
+public class GenerateForgetEventStatementNode implements Generator {
+    private final String dedupPath;
+    private final boolean returnError;
+
+    /**
+     * @param dedupPath   the path of the dedup key in the JSON payload, eg: {@code event_id}
+     * @param returnError whether the error of the dispatch is returned after the key is forgotten. It is not, when
+     *                    the error is handled by the statements which follow
+     */
+    public GenerateForgetEventStatementNode(String dedupPath, boolean returnError) {
+        this.dedupPath = dedupPath;
+        this.returnError = returnError;
+    }
+
+    @Override
+    public IfElseStatementNode generate() throws BallerinaAsyncApiException {
+        // {@code self.nativeHandler.forgetEvent(payload.event_id);}
+        MethodCallExpressionNode forgetCall = createMethodCallExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken(Constants.SELF_KEYWORD + ".nativeHandler")),
+                createToken(SyntaxKind.DOT_TOKEN),
+                createSimpleNameReferenceNode(
+                        createIdentifierToken(Constants.NATIVE_HANDLER_FORGET_EVENT_FUNCTION_NAME)),
+                createToken(SyntaxKind.OPEN_PAREN_TOKEN),
+                createSeparatedNodeList(createPositionalArgumentNode(createSimpleNameReferenceNode(
+                        createIdentifierToken(Constants.PAYLOAD_VAR_NAME + "." + dedupPath)))),
+                createToken(SyntaxKind.CLOSE_PAREN_TOKEN));
+        List<StatementNode> statements = new ArrayList<>();
+        statements.add(createExpressionStatementNode(SyntaxKind.CALL_STATEMENT, forgetCall,
+                createToken(SyntaxKind.SEMICOLON_TOKEN)));
+        if (returnError) {
+            statements.add(createReturnStatementNode(createToken(SyntaxKind.RETURN_KEYWORD),
+                    createSimpleNameReferenceNode(createIdentifierToken(Constants.DISPATCH_RESULT_VAR_NAME)),
+                    createToken(SyntaxKind.SEMICOLON_TOKEN)));
+        }
+        return createIfElseStatementNode(createToken(SyntaxKind.IF_KEYWORD),
+                createTypeTestExpressionNode(
+                        createSimpleNameReferenceNode(createIdentifierToken(Constants.DISPATCH_RESULT_VAR_NAME)),
+                        createToken(SyntaxKind.IS_KEYWORD),
+                        createSimpleNameReferenceNode(createIdentifierToken("error"))),
+                createBlockStatementNode(createToken(SyntaxKind.OPEN_BRACE_TOKEN), createNodeList(statements),
+                        createToken(SyntaxKind.CLOSE_BRACE_TOKEN)),
+                null);
+    }
+}
@@ -59,26 +59,48 @@ public class GenerateListenerStatementNode implements Generator {
         return createIfElseNode(serviceTypes);
     }
 
-    private IfElseStatementNode createIfElseNode(List<String> remainingList) {
-        String serviceType = remainingList.get(0);
-        ExpressionNode serviceTypeNode = NodeFactory.createSimpleNameReferenceNode(
-                AbstractNodeFactory.createIdentifierToken("serviceRef"));
-        ExpressionNode condition = NodeFactory.createTypeTestExpressionNode(
-                serviceTypeNode,
-                createToken(SyntaxKind.IS_KEYWORD),
-                NodeFactory.createSimpleNameReferenceNode(AbstractNodeFactory.
-                        createIdentifierToken(codegenUtils.getServiceTypeNameByServiceName(serviceType)))
-        );
-        ReturnStatementNode returnStatementNode = getReturnStatementNode(serviceType);
+    /**
+     * Builds the if else chain from the last service type to the first, so that the number of service types is not
+     * limited by the depth of the recursion.
+     */
+    private IfElseStatementNode createIfElseNode(List<String> serviceTypes) {
+        Node elseBody = NodeFactory.createElseBlockNode(createToken(SyntaxKind.ELSE_KEYWORD),
+                NodeFactory.createBlockStatementNode(
+                        createToken(SyntaxKind.OPEN_BRACE_TOKEN),
+                        createNodeList(getReturnStatementNode(serviceTypes.get(serviceTypes.size() - 1))),
+                        createToken(SyntaxKind.CLOSE_BRACE_TOKEN)
+                ));
+        IfElseStatementNode ifElseStatementNode = null;
+        for (int i = serviceTypes.size() - 2; i >= 0; i--) {
+            if (ifElseStatementNode != null) {
+                elseBody = NodeFactory.createElseBlockNode(createToken(SyntaxKind.ELSE_KEYWORD), ifElseStatementNode);
+            }
+            ifElseStatementNode = createIfElseNode(serviceTypes.get(i), elseBody);
+        }
+        return ifElseStatementNode;
+    }
+
+    private IfElseStatementNode createIfElseNode(String serviceType, Node elseBody) {
         return NodeFactory.createIfElseStatementNode(
                 createToken(SyntaxKind.IF_KEYWORD),
-                condition,
+                getTypeTestNode(serviceType),
                 NodeFactory.createBlockStatementNode(
                         createToken(SyntaxKind.OPEN_BRACE_TOKEN),
-                        createNodeList(returnStatementNode),
+                        createNodeList(getReturnStatementNode(serviceType)),
                         createToken(SyntaxKind.CLOSE_BRACE_TOKEN)
                 ),
-                getElseNode(remainingList)
+                elseBody
+        );
+    }
+
+    private ExpressionNode getTypeTestNode(String serviceType) {
+        ExpressionNode serviceTypeNode = NodeFactory.createSimpleNameReferenceNode(
+                AbstractNodeFactory.createIdentifierToken("serviceRef"));
+        return NodeFactory.createTypeTestExpressionNode(
+                serviceTypeNode,
+                createToken(SyntaxKind.IS_KEYWORD),
+                NodeFactory.createSimpleNameReferenceNode(AbstractNodeFactory.
+                        createIdentifierToken(codegenUtils.getServiceTypeNameByServiceName(serviceType)))
         );
     }
 
@@ -93,18 +115,4 @@ public class GenerateListenerStatementNode implements Generator {
                                 createEmptyMinutiaeList(), createEmptyMinutiaeList())),
                 createToken(SyntaxKind.SEMICOLON_TOKEN));
     }
-
-    private Node getElseNode(List<String> list) {
-        if (list.size() == 2) {
-            return NodeFactory.createElseBlockNode(createToken(SyntaxKind.ELSE_KEYWORD),
-                    NodeFactory.createBlockStatementNode(
-                            createToken(SyntaxKind.OPEN_BRACE_TOKEN),
-                            createNodeList(getReturnStatementNode(list.get(1))),
-                            createToken(SyntaxKind.CLOSE_BRACE_TOKEN)
-                    ));
-        } else {
-            return NodeFactory.createElseBlockNode(createToken(SyntaxKind.ELSE_KEYWORD),
-                    createIfElseNode(list.subList(1, list.size())));
-        }
-    }
 }
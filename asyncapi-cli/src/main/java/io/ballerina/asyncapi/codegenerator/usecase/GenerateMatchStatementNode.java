@@ -30,12 +30,15 @@ import io.ballerina.compiler.syntax.tree.MatchClauseNode;
 import io.ballerina.compiler.syntax.tree.MatchStatementNode;
 import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
+import io.ballerina.compiler.syntax.tree.StatementNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyMinutiaeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createLiteralValueToken;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
@@ -43,6 +46,7 @@ import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSepara
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBasicLiteralNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBlockStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createCaptureBindingPatternNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createCheckExpressionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createExpressionStatementNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMatchClauseNode;
@@ -50,6 +54,8 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createMatchStatement
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createMethodCallExpressionNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createPositionalArgumentNode;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypedBindingPatternNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createVariableDeclarationNode;
 
 /**
  * Generate the match statement node for dispatcher_service.bal.
@@ -58,10 +64,21 @@ public class GenerateMatchStatementNode implements Generator {
     private final CodegenUtils codegenUtils = new CodegenUtils();
     private final List<ServiceType> serviceTypes;
     private final String eventIdentifierPath;
+    private final boolean perEventConversion;
 
     public GenerateMatchStatementNode(List<ServiceType> serviceTypes, String eventIdentifierPath) {
+        this(serviceTypes, eventIdentifierPath, false);
+    }
+
+    /**
+     * @param perEventConversion if true, each match clause converts the json payload to the record type of its
+     *                           event, instead of using an already converted GenericDataType value
+     */
+    public GenerateMatchStatementNode(List<ServiceType> serviceTypes, String eventIdentifierPath,
+                                      boolean perEventConversion) {
         this.serviceTypes = serviceTypes;
         this.eventIdentifierPath = eventIdentifierPath;
+        this.perEventConversion = perEventConversion;
     }
 
     @Override
@@ -79,7 +96,8 @@ public class GenerateMatchStatementNode implements Generator {
             for (RemoteFunction remoteFunction : service.getRemoteFunctions()) {
                 String eventName = remoteFunction.getEventName();
                 String formattedEventName = codegenUtils.getFunctionNameByEventName(eventName);
-                MatchClauseNode matchClause = generateMatchClause(serviceName, eventName, formattedEventName);
+                MatchClauseNode matchClause = generateMatchClause(serviceName, eventName, formattedEventName,
+                        remoteFunction.getEventType());
                 matchClauseNodes.add(matchClause);
             }
         }
@@ -95,7 +113,8 @@ public class GenerateMatchStatementNode implements Generator {
     /**
      * Generates each match clause which filters event types in dispatcher_service.bal.
      */
-    private MatchClauseNode generateMatchClause(String serviceTypeName, String eventName, String formattedEventName) {
+    private MatchClauseNode generateMatchClause(String serviceTypeName, String eventName, String formattedEventName,
+                                                String eventType) {
         SeparatedNodeList<FunctionArgumentNode> argumentsList = createSeparatedNodeList(
                 createPositionalArgumentNode(createSimpleNameReferenceNode(
                         createIdentifierToken(Constants.CLONE_WITH_TYPE_VAR_NAME))),
@@ -121,11 +140,16 @@ public class GenerateMatchStatementNode implements Generator {
 
         CheckExpressionNode lineNode = createCheckExpressionNode(SyntaxKind.CHECK_EXPRESSION,
                 createToken(SyntaxKind.CHECK_KEYWORD), methodCallExpressionNode);
+        List<StatementNode> statements = new ArrayList<>();
+        if (perEventConversion) {
+            statements.add(generateConversionStatement(eventType));
+        }
+        statements.add(createExpressionStatementNode(SyntaxKind.CALL_STATEMENT,
+                lineNode,
+                createToken(SyntaxKind.SEMICOLON_TOKEN)));
         BlockStatementNode blockStatement = createBlockStatementNode(
                 createToken(SyntaxKind.OPEN_BRACE_TOKEN),
-                createNodeList(createExpressionStatementNode(SyntaxKind.CALL_STATEMENT,
-                        lineNode,
-                        createToken(SyntaxKind.SEMICOLON_TOKEN))),
+                createNodeList(statements),
                 createToken(SyntaxKind.CLOSE_BRACE_TOKEN));
 
         return createMatchClauseNode(createSeparatedNodeList(
@@ -138,4 +162,28 @@ public class GenerateMatchStatementNode implements Generator {
                         createEmptyMinutiaeList(), createEmptyMinutiaeList()),
                 blockStatement);
     }
+
+    /**
+     * Generates the statement which converts the json payload only to the record type of the matched event.
+     * eg: {@code AppMentionEvent genericDataType = check payload.cloneWithType(AppMentionEvent);}
+     */
+    private VariableDeclarationNode generateConversionStatement(String eventType) {
+        String eventTypeName = codegenUtils.getValidName(codegenUtils.escapeIdentifier(eventType.trim()), true);
+        MethodCallExpressionNode cloneWithTypeCall = createMethodCallExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken(Constants.PAYLOAD_VAR_NAME)),
+                createToken(SyntaxKind.DOT_TOKEN),
+                createSimpleNameReferenceNode(createIdentifierToken("cloneWithType")),
+                createToken(SyntaxKind.OPEN_PAREN_TOKEN),
+                createSeparatedNodeList(createPositionalArgumentNode(
+                        createSimpleNameReferenceNode(createIdentifierToken(eventTypeName)))),
+                createToken(SyntaxKind.CLOSE_PAREN_TOKEN));
+        return createVariableDeclarationNode(createEmptyNodeList(), null,
+                createTypedBindingPatternNode(
+                        createSimpleNameReferenceNode(createIdentifierToken(eventTypeName)),
+                        createCaptureBindingPatternNode(createIdentifierToken(Constants.CLONE_WITH_TYPE_VAR_NAME))),
+                createToken(SyntaxKind.EQUAL_TOKEN),
+                createCheckExpressionNode(SyntaxKind.CHECK_EXPRESSION, createToken(SyntaxKind.CHECK_KEYWORD),
+                        cloneWithTypeCall),
+                createToken(SyntaxKind.SEMICOLON_TOKEN));
+    }
 }
@@ -73,19 +73,36 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
  */
 public class GenerateModuleMemberDeclarationNode implements Generator {
     private final Map.Entry<String, Schema> recordFields;
+    private final TypeDescriptorCache typeDescriptorCache;
 
     private final CodegenUtils codegenUtils = new CodegenUtils();
     private final DocCommentsUtils commentsUtils = new DocCommentsUtils();
 
     public GenerateModuleMemberDeclarationNode(Map.Entry<String, Schema> recordFields) {
+        this(recordFields, new TypeDescriptorCache());
+    }
+
+    /**
+     * @param typeDescriptorCache the type descriptors of the inline records and arrays are taken from this cache, if
+     *                            a structurally identical schema has been generated already, eg: by another record
+     *                            of the same file
+     */
+    public GenerateModuleMemberDeclarationNode(Map.Entry<String, Schema> recordFields,
+                                               TypeDescriptorCache typeDescriptorCache) {
         this.recordFields = recordFields;
+        this.typeDescriptorCache = typeDescriptorCache;
+    }
+
+    /**
+     * Returns the name of the type generated for the schema, without generating the type.
+     */
+    public String getTypeName() {
+        return codegenUtils.getValidName(codegenUtils.escapeIdentifier(recordFields.getKey().trim()), true);
     }
 
     @Override
     public ModuleMemberDeclarationNode generate() throws BallerinaAsyncApiException {
-        IdentifierToken typeName = AbstractNodeFactory
-                .createIdentifierToken(codegenUtils.getValidName(
-                        codegenUtils.escapeIdentifier(recordFields.getKey().trim()), true));
+        IdentifierToken typeName = AbstractNodeFactory.createIdentifierToken(getTypeName());
         TypeDefinitionNode typeDefinitionNode;
         List<Node> schemaDoc = new ArrayList<>();
         MarkdownDocumentationNode documentationNode =
@@ -177,6 +194,20 @@ public class GenerateModuleMemberDeclarationNode implements Generator {
 
     private TypeDescriptorNode getTypeDescriptorNode(Schema schema)
             throws BallerinaAsyncApiException {
+        if (schema.getSchemaProperties() == null && schema.getItems() == null) {
+            // The type descriptors of the other schemas are a single name, which is not worth caching
+            return generateTypeDescriptorNode(schema);
+        }
+        TypeDescriptorNode typeDescriptorNode = typeDescriptorCache.get(schema);
+        if (typeDescriptorNode == null) {
+            typeDescriptorNode = generateTypeDescriptorNode(schema);
+            typeDescriptorCache.put(schema, typeDescriptorNode);
+        }
+        return typeDescriptorNode;
+    }
+
+    private TypeDescriptorNode generateTypeDescriptorNode(Schema schema)
+            throws BallerinaAsyncApiException {
         if (schema.getType() != null || schema.getSchemaProperties() != null) {
             TypeDescriptorNode originalTypeDesc = getTypeDescriptorNodeForObjects(schema);
             return addNullableType(schema, originalTypeDesc);
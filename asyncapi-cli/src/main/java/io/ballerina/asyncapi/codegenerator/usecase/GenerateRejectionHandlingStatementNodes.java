@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.compiler.syntax.tree.BlockStatementNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.IfElseStatementNode;
+import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.RemoteMethodCallActionNode;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBlockStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createCaptureBindingPatternNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createCheckExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createElseBlockNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createExpressionStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createIfElseStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMappingConstructorExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMethodCallExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createPositionalArgumentNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createQualifiedNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRemoteMethodCallActionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSpecificFieldNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeCastExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeCastParamNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeTestExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypedBindingPatternNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createVariableDeclarationNode;
+
+/**
+ * Generate the statements of the post resource function in dispatcher_service.bal, which respond with the status
+ * 503 (Service Unavailable) when the native handler rejects an event, since its service is busy.
+ */
+public class GenerateRejectionHandlingStatementNodes implements Generator {
+    private final ExpressionNode dispatchExpression;
+
+    /**
+     * @param dispatchExpression the expression which dispatches the event, eg: {@code self.matchRemoteFunc(payload)}
+     */
+    public GenerateRejectionHandlingStatementNodes(ExpressionNode dispatchExpression) {
+        this.dispatchExpression = dispatchExpression;
+    }
+
+    @Override
+    public NodeList<StatementNode> generate() throws BallerinaAsyncApiException {
+        // {@code error? dispatchResult = self.matchRemoteFunc(genericDataType);}
+        VariableDeclarationNode dispatchResultNode = createVariableDeclarationNode(createEmptyNodeList(), null,
+                createTypedBindingPatternNode(createSimpleNameReferenceNode(createIdentifierToken("error?")),
+                        createCaptureBindingPatternNode(createIdentifierToken(Constants.DISPATCH_RESULT_VAR_NAME))),
+                createToken(SyntaxKind.EQUAL_TOKEN), dispatchExpression, createToken(SyntaxKind.SEMICOLON_TOKEN));
+
+        // {@code if dispatchResult is handler:EventRejectedError {...} else if dispatchResult is error {...}}
+        BlockStatementNode returnErrorBlock = createBlockStatementNode(createToken(SyntaxKind.OPEN_BRACE_TOKEN),
+                createNodeList(createReturnStatementNode(createToken(SyntaxKind.RETURN_KEYWORD),
+                        createSimpleNameReferenceNode(createIdentifierToken(Constants.DISPATCH_RESULT_VAR_NAME)),
+                        createToken(SyntaxKind.SEMICOLON_TOKEN))),
+                createToken(SyntaxKind.CLOSE_BRACE_TOKEN));
+        IfElseStatementNode errorNode = createIfElseStatementNode(createToken(SyntaxKind.IF_KEYWORD),
+                createTypeTestExpressionNode(
+                        createSimpleNameReferenceNode(createIdentifierToken(Constants.DISPATCH_RESULT_VAR_NAME)),
+                        createToken(SyntaxKind.IS_KEYWORD),
+                        createSimpleNameReferenceNode(createIdentifierToken("error"))),
+                returnErrorBlock, null);
+        BlockStatementNode rejectedBlock = createBlockStatementNode(createToken(SyntaxKind.OPEN_BRACE_TOKEN),
+                createNodeList(getRespondServiceUnavailableNode(),
+                        createReturnStatementNode(createToken(SyntaxKind.RETURN_KEYWORD), null,
+                                createToken(SyntaxKind.SEMICOLON_TOKEN))),
+                createToken(SyntaxKind.CLOSE_BRACE_TOKEN));
+        IfElseStatementNode rejectedNode = createIfElseStatementNode(createToken(SyntaxKind.IF_KEYWORD),
+                createTypeTestExpressionNode(
+                        createSimpleNameReferenceNode(createIdentifierToken(Constants.DISPATCH_RESULT_VAR_NAME)),
+                        createToken(SyntaxKind.IS_KEYWORD),
+                        createQualifiedNameReferenceNode(
+                                createIdentifierToken(Constants.NATIVE_HANDLER_MODULE_PREFIX),
+                                createToken(SyntaxKind.COLON_TOKEN),
+                                createIdentifierToken(Constants.EVENT_REJECTED_ERROR_TYPE))),
+                rejectedBlock, createElseBlockNode(createToken(SyntaxKind.ELSE_KEYWORD), errorNode));
+        return createNodeList(dispatchResultNode, rejectedNode);
+    }
+
+    private StatementNode getRespondServiceUnavailableNode() {
+        // {@code <http:ServiceUnavailable>{body: dispatchResult.message()}}
+        MappingConstructorExpressionNode responseBody = createMappingConstructorExpressionNode(
+                createToken(SyntaxKind.OPEN_BRACE_TOKEN),
+                createSeparatedNodeList(createSpecificFieldNode(null, createIdentifierToken("body"),
+                        createToken(SyntaxKind.COLON_TOKEN),
+                        createMethodCallExpressionNode(
+                                createSimpleNameReferenceNode(
+                                        createIdentifierToken(Constants.DISPATCH_RESULT_VAR_NAME)),
+                                createToken(SyntaxKind.DOT_TOKEN),
+                                createSimpleNameReferenceNode(createIdentifierToken("message")),
+                                createToken(SyntaxKind.OPEN_PAREN_TOKEN), createSeparatedNodeList(),
+                                createToken(SyntaxKind.CLOSE_PAREN_TOKEN)))),
+                createToken(SyntaxKind.CLOSE_BRACE_TOKEN));
+        ExpressionNode response = createTypeCastExpressionNode(createToken(SyntaxKind.LT_TOKEN),
+                createTypeCastParamNode(createEmptyNodeList(), createQualifiedNameReferenceNode(
+                        createIdentifierToken("http"), createToken(SyntaxKind.COLON_TOKEN),
+                        createIdentifierToken("ServiceUnavailable"))),
+                createToken(SyntaxKind.GT_TOKEN), responseBody);
+
+        // {@code check caller->respond(<http:ServiceUnavailable>{body: dispatchResult.message()});}
+        RemoteMethodCallActionNode respondAction = createRemoteMethodCallActionNode(
+                createSimpleNameReferenceNode(createIdentifierToken("caller")),
+                createToken(SyntaxKind.RIGHT_ARROW_TOKEN),
+                createSimpleNameReferenceNode(createIdentifierToken("respond")),
+                createToken(SyntaxKind.OPEN_PAREN_TOKEN),
+                createSeparatedNodeList(createPositionalArgumentNode(response)),
+                createToken(SyntaxKind.CLOSE_PAREN_TOKEN));
+        return createExpressionStatementNode(SyntaxKind.ACTION_STATEMENT,
+                createCheckExpressionNode(SyntaxKind.CHECK_ACTION, createToken(SyntaxKind.CHECK_KEYWORD),
+                        respondAction),
+                createToken(SyntaxKind.SEMICOLON_TOKEN));
+    }
+}
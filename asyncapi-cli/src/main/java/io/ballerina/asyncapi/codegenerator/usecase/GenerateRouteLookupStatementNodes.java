@@ -0,0 +1,184 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
+import io.ballerina.compiler.syntax.tree.IfElseStatementNode;
+import io.ballerina.compiler.syntax.tree.IndexedExpressionNode;
+import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyMinutiaeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createLiteralValueToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBasicLiteralNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBlockStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createCaptureBindingPatternNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createCheckExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createExpressionStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createIfElseStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createIndexedExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMethodCallExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createPositionalArgumentNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeTestExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypedBindingPatternNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createVariableDeclarationNode;
+
+/**
+ * Generate the statements of the matchRemoteFunc function in dispatcher_service.bal, which look up the event in the
+ * module level event routing table (see {@link GenerateRouteTableNode}) and execute the relevant remote function.
+ */
+public class GenerateRouteLookupStatementNodes implements Generator {
+    private final String eventIdentifierPath;
+    private final boolean perEventConversion;
+
+    public GenerateRouteLookupStatementNodes(String eventIdentifierPath) {
+        this(eventIdentifierPath, false);
+    }
+
+    /**
+     * @param perEventConversion if true, the json payload is converted to the record type in the matched route,
+     *                           instead of using an already converted GenericDataType value
+     */
+    public GenerateRouteLookupStatementNodes(String eventIdentifierPath, boolean perEventConversion) {
+        this.eventIdentifierPath = eventIdentifierPath;
+        this.perEventConversion = perEventConversion;
+    }
+
+    @Override
+    public NodeList<StatementNode> generate() throws BallerinaAsyncApiException {
+        if (eventIdentifierPath.isEmpty()) {
+            throw new BallerinaAsyncApiException("Event identifier path is empty");
+        }
+        return createNodeList(getEventNameNode(), getEventRouteNode(), getExecuteRemoteFuncNode());
+    }
+
+    private VariableDeclarationNode getEventNameNode() {
+        // {@code string eventName = genericDataType.event.'type.toString();}
+        MethodCallExpressionNode toStringCall = createMethodCallExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken(eventIdentifierPath)),
+                createToken(SyntaxKind.DOT_TOKEN),
+                createSimpleNameReferenceNode(createIdentifierToken("toString")),
+                createToken(SyntaxKind.OPEN_PAREN_TOKEN), createSeparatedNodeList(),
+                createToken(SyntaxKind.CLOSE_PAREN_TOKEN));
+        return createVariableDeclarationNode(createEmptyNodeList(), null,
+                createTypedBindingPatternNode(
+                        createBuiltinSimpleNameReferenceNode(null, createToken(SyntaxKind.STRING_KEYWORD)),
+                        createCaptureBindingPatternNode(createIdentifierToken(Constants.EVENT_NAME_VAR_NAME))),
+                createToken(SyntaxKind.EQUAL_TOKEN), toStringCall, createToken(SyntaxKind.SEMICOLON_TOKEN));
+    }
+
+    private String getEventRouteType() {
+        return perEventConversion ? Constants.EVENT_ROUTE_TYPE_WITH_DATA_TYPE : Constants.EVENT_ROUTE_TYPE;
+    }
+
+    private VariableDeclarationNode getEventRouteNode() {
+        // {@code [string, string]? eventRoute = eventRoutes[eventName];}
+        IndexedExpressionNode routeLookup = createIndexedExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken(Constants.EVENT_ROUTES_VAR_NAME)),
+                createToken(SyntaxKind.OPEN_BRACKET_TOKEN),
+                createSeparatedNodeList(
+                        createSimpleNameReferenceNode(createIdentifierToken(Constants.EVENT_NAME_VAR_NAME))),
+                createToken(SyntaxKind.CLOSE_BRACKET_TOKEN));
+        return createVariableDeclarationNode(createEmptyNodeList(), null,
+                createTypedBindingPatternNode(
+                        createSimpleNameReferenceNode(createIdentifierToken(getEventRouteType() + "?")),
+                        createCaptureBindingPatternNode(createIdentifierToken(Constants.EVENT_ROUTE_VAR_NAME))),
+                createToken(SyntaxKind.EQUAL_TOKEN), routeLookup, createToken(SyntaxKind.SEMICOLON_TOKEN));
+    }
+
+    private IfElseStatementNode getExecuteRemoteFuncNode() {
+        // {@code check self.executeRemoteFunc(genericDataType, eventName, eventRoute[0], eventRoute[1]);}
+        SeparatedNodeList<FunctionArgumentNode> arguments = createSeparatedNodeList(
+                createPositionalArgumentNode(createSimpleNameReferenceNode(
+                        createIdentifierToken(Constants.CLONE_WITH_TYPE_VAR_NAME))),
+                createToken(SyntaxKind.COMMA_TOKEN),
+                createPositionalArgumentNode(createSimpleNameReferenceNode(
+                        createIdentifierToken(Constants.EVENT_NAME_VAR_NAME))),
+                createToken(SyntaxKind.COMMA_TOKEN),
+                createPositionalArgumentNode(getEventRouteMemberNode(0)),
+                createToken(SyntaxKind.COMMA_TOKEN),
+                createPositionalArgumentNode(getEventRouteMemberNode(1)));
+        MethodCallExpressionNode executeRemoteFuncCall = createMethodCallExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken(Constants.SELF_KEYWORD)),
+                createToken(SyntaxKind.DOT_TOKEN),
+                createSimpleNameReferenceNode(createIdentifierToken(Constants.INTEROP_INVOKE_FUNCTION_NAME)),
+                createToken(SyntaxKind.OPEN_PAREN_TOKEN), arguments, createToken(SyntaxKind.CLOSE_PAREN_TOKEN));
+        StatementNode executeStatement = createExpressionStatementNode(SyntaxKind.CALL_STATEMENT,
+                createCheckExpressionNode(SyntaxKind.CHECK_EXPRESSION, createToken(SyntaxKind.CHECK_KEYWORD),
+                        executeRemoteFuncCall),
+                createToken(SyntaxKind.SEMICOLON_TOKEN));
+
+        // {@code if eventRoute is [string, string] {...}}
+        TypeDescriptorNode routeType = createSimpleNameReferenceNode(createIdentifierToken(getEventRouteType()));
+        ExpressionNode condition = createTypeTestExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken(Constants.EVENT_ROUTE_VAR_NAME)),
+                createToken(SyntaxKind.IS_KEYWORD), routeType);
+        NodeList<StatementNode> routeStatements = createNodeList(executeStatement);
+        if (perEventConversion) {
+            routeStatements = routeStatements.add(0, getConversionNode());
+        }
+        return createIfElseStatementNode(createToken(SyntaxKind.IF_KEYWORD), condition,
+                createBlockStatementNode(createToken(SyntaxKind.OPEN_BRACE_TOKEN), routeStatements,
+                        createToken(SyntaxKind.CLOSE_BRACE_TOKEN)), null);
+    }
+
+    private VariableDeclarationNode getConversionNode() {
+        // {@code GenericDataType genericDataType = check payload.cloneWithType(eventRoute[2]);}
+        MethodCallExpressionNode cloneWithTypeCall = createMethodCallExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken(Constants.PAYLOAD_VAR_NAME)),
+                createToken(SyntaxKind.DOT_TOKEN),
+                createSimpleNameReferenceNode(createIdentifierToken("cloneWithType")),
+                createToken(SyntaxKind.OPEN_PAREN_TOKEN),
+                createSeparatedNodeList(createPositionalArgumentNode(getEventRouteMemberNode(2))),
+                createToken(SyntaxKind.CLOSE_PAREN_TOKEN));
+        return createVariableDeclarationNode(createEmptyNodeList(), null,
+                createTypedBindingPatternNode(
+                        createSimpleNameReferenceNode(createIdentifierToken(Constants.GENERIC_DATA_TYPE)),
+                        createCaptureBindingPatternNode(createIdentifierToken(Constants.CLONE_WITH_TYPE_VAR_NAME))),
+                createToken(SyntaxKind.EQUAL_TOKEN),
+                createCheckExpressionNode(SyntaxKind.CHECK_EXPRESSION, createToken(SyntaxKind.CHECK_KEYWORD),
+                        cloneWithTypeCall),
+                createToken(SyntaxKind.SEMICOLON_TOKEN));
+    }
+
+    private IndexedExpressionNode getEventRouteMemberNode(int index) {
+        return createIndexedExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken(Constants.EVENT_ROUTE_VAR_NAME)),
+                createToken(SyntaxKind.OPEN_BRACKET_TOKEN),
+                createSeparatedNodeList(createBasicLiteralNode(SyntaxKind.NUMERIC_LITERAL,
+                        createLiteralValueToken(SyntaxKind.DECIMAL_INTEGER_LITERAL_TOKEN, String.valueOf(index),
+                                createEmptyMinutiaeList(), createEmptyMinutiaeList()))),
+                createToken(SyntaxKind.CLOSE_BRACKET_TOKEN));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
+import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.asyncapi.codegenerator.usecase.utils.CodegenUtils;
+import io.ballerina.compiler.syntax.tree.BasicLiteralNode;
+import io.ballerina.compiler.syntax.tree.ModuleVariableDeclarationNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyMinutiaeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createLiteralValueToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBasicLiteralNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createCaptureBindingPatternNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createListConstructorExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMappingConstructorExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createModuleVariableDeclarationNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSpecificFieldNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypedBindingPatternNode;
+
+/**
+ * Generate the module level event routing table for dispatcher_service.bal.
+ * The table maps each event identifier to the service type and the remote function, which handles the event.
+ * Since the table is immutable and built once when the module is initialized, dispatching an event is a single
+ * map lookup instead of comparing the event identifier with every event in a match statement.
+ */
+public class GenerateRouteTableNode implements Generator {
+    private final CodegenUtils codegenUtils = new CodegenUtils();
+    private final List<ServiceType> serviceTypes;
+    private final boolean perEventConversion;
+
+    public GenerateRouteTableNode(List<ServiceType> serviceTypes) {
+        this(serviceTypes, false);
+    }
+
+    /**
+     * @param perEventConversion if true, the record type of the event is added to each route as well, so that the
+     *                           payload can be converted only to that type
+     */
+    public GenerateRouteTableNode(List<ServiceType> serviceTypes, boolean perEventConversion) {
+        this.serviceTypes = serviceTypes;
+        this.perEventConversion = perEventConversion;
+    }
+
+    @Override
+    public ModuleVariableDeclarationNode generate() throws BallerinaAsyncApiException {
+        if (serviceTypes.isEmpty()) {
+            throw new BallerinaAsyncApiException("No service types found, " +
+                    "probably there are no channels defined in the async api spec");
+        }
+        List<Node> routeFields = new ArrayList<>();
+        Set<String> routedEvents = new HashSet<>();
+        for (ServiceType service : serviceTypes) {
+            String serviceTypeName = codegenUtils.getServiceTypeNameByServiceName(service.getServiceTypeName());
+            for (RemoteFunction remoteFunction : service.getRemoteFunctions()) {
+                String eventName = remoteFunction.getEventName();
+                // Same as in the match statement, the first service type which has the event handles it
+                if (!routedEvents.add(eventName)) {
+                    continue;
+                }
+                if (!routeFields.isEmpty()) {
+                    routeFields.add(createToken(SyntaxKind.COMMA_TOKEN));
+                }
+                List<Node> routeMembers = new ArrayList<>();
+                routeMembers.add(createStringLiteralNode(serviceTypeName));
+                routeMembers.add(createToken(SyntaxKind.COMMA_TOKEN));
+                routeMembers.add(createStringLiteralNode(codegenUtils.getFunctionNameByEventName(eventName)));
+                if (perEventConversion) {
+                    routeMembers.add(createToken(SyntaxKind.COMMA_TOKEN));
+                    routeMembers.add(createSimpleNameReferenceNode(createIdentifierToken(codegenUtils.getValidName(
+                            codegenUtils.escapeIdentifier(remoteFunction.getEventType().trim()), true))));
+                }
+                routeFields.add(createSpecificFieldNode(null, createStringLiteralNode(eventName),
+                        createToken(SyntaxKind.COLON_TOKEN),
+                        createListConstructorExpressionNode(createToken(SyntaxKind.OPEN_BRACKET_TOKEN),
+                                createSeparatedNodeList(routeMembers),
+                                createToken(SyntaxKind.CLOSE_BRACKET_TOKEN))));
+            }
+        }
+
+        // {@code final readonly & map<[string, string]> eventRoutes}
+        String routeType = perEventConversion ? Constants.EVENT_ROUTE_TYPE_WITH_DATA_TYPE : Constants.EVENT_ROUTE_TYPE;
+        TypedBindingPatternNode typedBindingPatternNode = createTypedBindingPatternNode(
+                createSimpleNameReferenceNode(createIdentifierToken("readonly & map<" + routeType + ">")),
+                createCaptureBindingPatternNode(createIdentifierToken(Constants.EVENT_ROUTES_VAR_NAME)));
+        return createModuleVariableDeclarationNode(null, null,
+                createNodeList(createToken(SyntaxKind.FINAL_KEYWORD)), typedBindingPatternNode,
+                createToken(SyntaxKind.EQUAL_TOKEN),
+                createMappingConstructorExpressionNode(createToken(SyntaxKind.OPEN_BRACE_TOKEN),
+                        createSeparatedNodeList(routeFields), createToken(SyntaxKind.CLOSE_BRACE_TOKEN)),
+                createToken(SyntaxKind.SEMICOLON_TOKEN));
+    }
+
+    private BasicLiteralNode createStringLiteralNode(String value) {
+        return createBasicLiteralNode(SyntaxKind.STRING_LITERAL,
+                createLiteralValueToken(SyntaxKind.STRING_LITERAL_TOKEN, "\"" + value + "\"",
+                        createEmptyMinutiaeList(), createEmptyMinutiaeList()));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
+import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.asyncapi.codegenerator.usecase.utils.CodegenUtils;
+import io.ballerina.compiler.syntax.tree.BasicLiteralNode;
+import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyMinutiaeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createLiteralValueToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBasicLiteralNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMappingConstructorExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSpecificFieldNode;
+
+/**
+ * Generate the value of the module level serviceEvents table in dispatcher_service.bal.
+ * The table maps each service type to the events dispatched to it and their remote functions, so that the native
+ * handler can resolve the remote functions of a service, when the service is attached.
+ */
+public class GenerateServiceEventsNode implements Generator {
+    private final CodegenUtils codegenUtils = new CodegenUtils();
+    private final List<ServiceType> serviceTypes;
+
+    public GenerateServiceEventsNode(List<ServiceType> serviceTypes) {
+        this.serviceTypes = serviceTypes;
+    }
+
+    @Override
+    public MappingConstructorExpressionNode generate() throws BallerinaAsyncApiException {
+        if (serviceTypes.isEmpty()) {
+            throw new BallerinaAsyncApiException("No service types found, " +
+                    "probably there are no channels defined in the async api spec");
+        }
+        List<Node> serviceFields = new ArrayList<>();
+        Set<String> dispatchedEvents = new HashSet<>();
+        for (ServiceType service : serviceTypes) {
+            List<Node> eventFields = new ArrayList<>();
+            for (RemoteFunction remoteFunction : service.getRemoteFunctions()) {
+                String eventName = remoteFunction.getEventName();
+                // Same as in the match statement, the first service type which has the event handles it
+                if (!dispatchedEvents.add(eventName)) {
+                    continue;
+                }
+                if (!eventFields.isEmpty()) {
+                    eventFields.add(createToken(SyntaxKind.COMMA_TOKEN));
+                }
+                eventFields.add(createSpecificFieldNode(null, createStringLiteralNode(eventName),
+                        createToken(SyntaxKind.COLON_TOKEN),
+                        createStringLiteralNode(codegenUtils.getFunctionNameByEventName(eventName))));
+            }
+            if (!serviceFields.isEmpty()) {
+                serviceFields.add(createToken(SyntaxKind.COMMA_TOKEN));
+            }
+            serviceFields.add(createSpecificFieldNode(null, createStringLiteralNode(
+                    codegenUtils.getServiceTypeNameByServiceName(service.getServiceTypeName())),
+                    createToken(SyntaxKind.COLON_TOKEN),
+                    createMappingConstructorExpressionNode(createToken(SyntaxKind.OPEN_BRACE_TOKEN),
+                            createSeparatedNodeList(eventFields), createToken(SyntaxKind.CLOSE_BRACE_TOKEN))));
+        }
+
+        return createMappingConstructorExpressionNode(createToken(SyntaxKind.OPEN_BRACE_TOKEN),
+                createSeparatedNodeList(serviceFields), createToken(SyntaxKind.CLOSE_BRACE_TOKEN));
+    }
+
+    private BasicLiteralNode createStringLiteralNode(String value) {
+        return createBasicLiteralNode(SyntaxKind.STRING_LITERAL,
+                createLiteralValueToken(SyntaxKind.STRING_LITERAL_TOKEN, "\"" + value + "\"",
+                        createEmptyMinutiaeList(), createEmptyMinutiaeList()));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.compiler.syntax.tree.BlockStatementNode;
+import io.ballerina.compiler.syntax.tree.IfElseStatementNode;
+import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
+import io.ballerina.compiler.syntax.tree.RemoteMethodCallActionNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBlockStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createCheckExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createExpressionStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createIfElseStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMethodCallExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createPositionalArgumentNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createQualifiedNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRemoteMethodCallActionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createUnaryExpressionNode;
+
+/**
+ * Generate the statement of the post resource function in dispatcher_service.bal, which acknowledges an event
+ * without converting and dispatching it, when none of the attached services implements the remote function of the
+ * event.
+ * eg: {@code if !self.nativeHandler.isEventDispatched(payload.event.'type) { check caller->respond(http:STATUS_OK);
+ * return; }}
+ */
+public class GenerateUnimplementedEventStatementNode implements Generator {
+    private final String eventIdentifier;
+
+    /**
+     * @param eventIdentifier the expression which gives the event identifier of the received event,
+     *                        eg: {@code payload.event.'type}
+     */
+    public GenerateUnimplementedEventStatementNode(String eventIdentifier) {
+        this.eventIdentifier = eventIdentifier;
+    }
+
+    @Override
+    public IfElseStatementNode generate() throws BallerinaAsyncApiException {
+        MethodCallExpressionNode dispatchCheck = createMethodCallExpressionNode(
+                createSimpleNameReferenceNode(createIdentifierToken(Constants.SELF_KEYWORD + ".nativeHandler")),
+                createToken(SyntaxKind.DOT_TOKEN),
+                createSimpleNameReferenceNode(
+                        createIdentifierToken(Constants.NATIVE_HANDLER_DISPATCH_CHECK_FUNCTION_NAME)),
+                createToken(SyntaxKind.OPEN_PAREN_TOKEN),
+                createSeparatedNodeList(createPositionalArgumentNode(
+                        createSimpleNameReferenceNode(createIdentifierToken(eventIdentifier)))),
+                createToken(SyntaxKind.CLOSE_PAREN_TOKEN));
+
+        // {@code check caller->respond(http:STATUS_OK);}
+        RemoteMethodCallActionNode respondAction = createRemoteMethodCallActionNode(
+                createSimpleNameReferenceNode(createIdentifierToken("caller")),
+                createToken(SyntaxKind.RIGHT_ARROW_TOKEN),
+                createSimpleNameReferenceNode(createIdentifierToken("respond")),
+                createToken(SyntaxKind.OPEN_PAREN_TOKEN),
+                createSeparatedNodeList(createPositionalArgumentNode(createQualifiedNameReferenceNode(
+                        createIdentifierToken("http"), createToken(SyntaxKind.COLON_TOKEN),
+                        createIdentifierToken("STATUS_OK")))),
+                createToken(SyntaxKind.CLOSE_PAREN_TOKEN));
+        BlockStatementNode acknowledgeBlock = createBlockStatementNode(createToken(SyntaxKind.OPEN_BRACE_TOKEN),
+                createNodeList(
+                        createExpressionStatementNode(SyntaxKind.ACTION_STATEMENT,
+                                createCheckExpressionNode(SyntaxKind.CHECK_ACTION,
+                                        createToken(SyntaxKind.CHECK_KEYWORD), respondAction),
+                                createToken(SyntaxKind.SEMICOLON_TOKEN)),
+                        createReturnStatementNode(createToken(SyntaxKind.RETURN_KEYWORD), null,
+                                createToken(SyntaxKind.SEMICOLON_TOKEN))),
+                createToken(SyntaxKind.CLOSE_BRACE_TOKEN));
+        return createIfElseStatementNode(createToken(SyntaxKind.IF_KEYWORD),
+                createUnaryExpressionNode(createToken(SyntaxKind.EXCLAMATION_MARK_TOKEN), dispatchCheck),
+                acknowledgeBlock, null);
+    }
+}
@@ -56,13 +56,15 @@ public class GenerateUnionDescriptorNode implements Generator {
                 getUnionDescriptorNode(nodes), createToken(SEMICOLON_TOKEN));
     }
 
+    /**
+     * Folds the nodes from left to right, as {@code ((A|B)|C)|D}, without recursing over the list.
+     */
     private TypeDescriptorNode getUnionDescriptorNode(List<TypeDescriptorNode> nodes) {
-        if (nodes.size() == 1) {
-            return nodes.get(0);
+        TypeDescriptorNode unionDescriptorNode = nodes.get(0);
+        for (int i = 1; i < nodes.size(); i++) {
+            unionDescriptorNode = createUnionTypeDescriptorNode(
+                    unionDescriptorNode, createToken(SyntaxKind.PIPE_TOKEN), nodes.get(i));
         }
-        return createUnionTypeDescriptorNode(
-                getUnionDescriptorNode(nodes.subList(0, nodes.size() - 1)),
-                createToken(SyntaxKind.PIPE_TOKEN),
-                nodes.get(nodes.size() - 1));
+        return unionDescriptorNode;
     }
 }
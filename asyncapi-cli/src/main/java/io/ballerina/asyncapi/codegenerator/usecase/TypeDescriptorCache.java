@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.apicurio.datamodels.core.models.Extension;
+import io.ballerina.asyncapi.codegenerator.entity.Schema;
+import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches the type descriptors generated for the schemas, by the structure of the schemas. Each schema is given a
+ * structure id, which is the same for the schemas with the same type, format, reference, required fields,
+ * nullability and the same properties and items, ie: the schemas which are generated into the same type
+ * descriptor. eg: the inline `file` object repeated in many events of the Slack API.
+ * <p>
+ * The structure ids are calculated bottom up and kept for each schema, hence the structure of a schema is read only
+ * once, however many schemas it is nested in. Since the syntax tree nodes are immutable, a cached type descriptor
+ * can be used in many records. A cache is not thread safe, and is meant to be used for the records of a file.
+ */
+public class TypeDescriptorCache {
+    private static final String NULLABLE_EXTENSION = "x-nullable";
+
+    private final Map<Schema, Integer> structureIds = new HashMap<>();
+    private final Map<String, Integer> structureIdsBySignature = new HashMap<>();
+    private final Map<Integer, TypeDescriptorNode> typeDescriptorNodes = new HashMap<>();
+
+    public TypeDescriptorNode get(Schema schema) {
+        return typeDescriptorNodes.get(getStructureId(schema));
+    }
+
+    public void put(Schema schema, TypeDescriptorNode typeDescriptorNode) {
+        typeDescriptorNodes.put(getStructureId(schema), typeDescriptorNode);
+    }
+
+    /**
+     * Returns the structure id of the given schema, which is the same for the structurally identical schemas.
+     */
+    public int getStructureId(Schema schema) {
+        Integer structureId = structureIds.get(schema);
+        if (structureId != null) {
+            return structureId;
+        }
+        StringBuilder signature = new StringBuilder();
+        appendValue(signature, schema.getType());
+        appendValue(signature, schema.getFormat());
+        appendValue(signature, schema.getRef());
+        // Only the boolean true makes the type nullable, hence any other value is the same as no value at all
+        Object nullable = schema.getExtension(NULLABLE_EXTENSION);
+        boolean isNullable = nullable instanceof Extension && Boolean.TRUE.equals(((Extension) nullable).value);
+        signature.append(isNullable ? '?' : '-');
+        List<String> required = schema.getRequired();
+        if (required == null) {
+            signature.append('-');
+        } else {
+            signature.append('[');
+            for (String field : required) {
+                appendValue(signature, field);
+            }
+            signature.append(']');
+        }
+        Map<String, Schema> properties = schema.getSchemaProperties();
+        if (properties == null) {
+            signature.append('-');
+        } else {
+            // The properties are in the order those are generated into the record fields. The title and description
+            // of a property are generated into the documentation of the field
+            signature.append('{');
+            for (Map.Entry<String, Schema> property : properties.entrySet()) {
+                appendValue(signature, property.getKey());
+                appendValue(signature, property.getValue().getTitle());
+                appendValue(signature, property.getValue().getDescription());
+                signature.append(getStructureId(property.getValue())).append(',');
+            }
+            signature.append('}');
+        }
+        Object items = schema.getItems();
+        if (items instanceof Schema) {
+            signature.append('<').append(getStructureId((Schema) items)).append('>');
+        } else if (items instanceof List) {
+            signature.append('<');
+            for (Object item : (List<?>) items) {
+                signature.append(item instanceof Schema ? getStructureId((Schema) item) : -1).append(',');
+            }
+            signature.append('>');
+        } else {
+            signature.append('-');
+        }
+
+        structureId = structureIdsBySignature.get(signature.toString());
+        if (structureId == null) {
+            structureId = structureIdsBySignature.size();
+            structureIdsBySignature.put(signature.toString(), structureId);
+        }
+        structureIds.put(schema, structureId);
+        return structureId;
+    }
+
+    /**
+     * Appends the value with its length, so that the signatures of different schemas never run into each other.
+     */
+    private static void appendValue(StringBuilder signature, String value) {
+        if (value == null) {
+            signature.append('-');
+        } else {
+            signature.append(value.length()).append(':').append(value);
+        }
+    }
+}
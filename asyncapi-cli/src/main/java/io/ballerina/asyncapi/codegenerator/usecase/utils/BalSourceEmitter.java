@@ -0,0 +1,256 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase.utils;
+
+import io.ballerina.compiler.syntax.tree.ArrayDimensionNode;
+import io.ballerina.compiler.syntax.tree.ArrayTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.BuiltinSimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.MarkdownDocumentationLineNode;
+import io.ballerina.compiler.syntax.tree.MarkdownDocumentationNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.MethodDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.ObjectTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.OptionalTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.RecordFieldNode;
+import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
+import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.compiler.syntax.tree.UnionTypeDescriptorNode;
+
+import java.util.Optional;
+
+/**
+ * This emits the source of the module members generated into the data_types.bal and the service_types.bal, in the
+ * format the Ballerina formatter gives those, without running the formatter over them.
+ * Only the shapes of the nodes generated by the tool, which have a known canonical format, are emitted. eg: the
+ * records with inline record fields are not emitted, as those are not given a canonical format by the formatter.
+ */
+public class BalSourceEmitter {
+    private static final String INDENTATION = "    ";
+
+    /**
+     * Emits a module member, as {@code public type Name record {\n    string name?;\n};\n}.
+     *
+     * @param member the type definition generated by the tool
+     * @return the source of the member, or null if the member has a shape which is not supported
+     */
+    public String emitModuleMember(ModuleMemberDeclarationNode member) {
+        if (!(member instanceof TypeDefinitionNode)) {
+            return null;
+        }
+        TypeDefinitionNode typeDefinitionNode = (TypeDefinitionNode) member;
+        if (!isEmptyMetadata(typeDefinitionNode.metadata())) {
+            return null;
+        }
+        StringBuilder source = new StringBuilder();
+        typeDefinitionNode.visibilityQualifier().ifPresent(
+                visibilityQualifier -> source.append(visibilityQualifier.text().trim()).append(' '));
+        source.append("type ").append(typeDefinitionNode.typeName().text().trim()).append(' ');
+        Node typeDescriptor = typeDefinitionNode.typeDescriptor();
+        boolean supported;
+        if (typeDescriptor instanceof RecordTypeDescriptorNode) {
+            supported = appendRecordTypeDescriptor(source, (RecordTypeDescriptorNode) typeDescriptor);
+        } else if (typeDescriptor instanceof ObjectTypeDescriptorNode) {
+            supported = appendObjectTypeDescriptor(source, (ObjectTypeDescriptorNode) typeDescriptor);
+        } else {
+            supported = appendTypeReference(source, typeDescriptor);
+        }
+        return supported ? source.append(";\n").toString() : null;
+    }
+
+    private boolean appendRecordTypeDescriptor(StringBuilder source, RecordTypeDescriptorNode recordNode) {
+        if (recordNode.fields().isEmpty() || recordNode.recordRestDescriptor().isPresent()) {
+            return false;
+        }
+        source.append("record {\n");
+        for (Node field : recordNode.fields()) {
+            if (!(field instanceof RecordFieldNode)) {
+                return false;
+            }
+            RecordFieldNode recordFieldNode = (RecordFieldNode) field;
+            if (recordFieldNode.readonlyKeyword().isPresent()
+                    || !appendDocumentation(source, recordFieldNode.metadata())) {
+                return false;
+            }
+            source.append(INDENTATION);
+            if (!appendTypeReference(source, recordFieldNode.typeName())) {
+                return false;
+            }
+            source.append(' ').append(recordFieldNode.fieldName().text().trim());
+            if (recordFieldNode.questionMarkToken().isPresent()) {
+                source.append('?');
+            }
+            source.append(";\n");
+        }
+        source.append('}');
+        return true;
+    }
+
+    private boolean appendObjectTypeDescriptor(StringBuilder source, ObjectTypeDescriptorNode objectNode) {
+        if (objectNode.members().isEmpty()) {
+            return false;
+        }
+        for (Token qualifier : objectNode.objectTypeQualifiers()) {
+            source.append(qualifier.text().trim()).append(' ');
+        }
+        source.append("object {\n");
+        for (Node member : objectNode.members()) {
+            if (!(member instanceof MethodDeclarationNode)) {
+                return false;
+            }
+            MethodDeclarationNode methodNode = (MethodDeclarationNode) member;
+            if (!isEmptyMetadata(methodNode.metadata()) || !methodNode.relativeResourcePath().isEmpty()) {
+                return false;
+            }
+            source.append(INDENTATION);
+            for (Token qualifier : methodNode.qualifierList()) {
+                source.append(qualifier.text().trim()).append(' ');
+            }
+            source.append("function ").append(methodNode.methodName().text().trim()).append('(');
+            SeparatedNodeList<ParameterNode> parameters = methodNode.methodSignature().parameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                if (!(parameters.get(i) instanceof RequiredParameterNode)) {
+                    return false;
+                }
+                RequiredParameterNode parameterNode = (RequiredParameterNode) parameters.get(i);
+                if (!parameterNode.annotations().isEmpty() || parameterNode.paramName().isEmpty()) {
+                    return false;
+                }
+                if (i > 0) {
+                    source.append(", ");
+                }
+                if (!appendTypeReference(source, parameterNode.typeName())) {
+                    return false;
+                }
+                source.append(' ').append(parameterNode.paramName().get().text().trim());
+            }
+            source.append(')');
+            Optional<ReturnTypeDescriptorNode> returnTypeNode = methodNode.methodSignature().returnTypeDesc();
+            if (returnTypeNode.isPresent()) {
+                if (!returnTypeNode.get().annotations().isEmpty()) {
+                    return false;
+                }
+                source.append(" returns ");
+                if (!appendTypeReference(source, returnTypeNode.get().type())) {
+                    return false;
+                }
+            }
+            source.append(";\n");
+        }
+        source.append('}');
+        return true;
+    }
+
+    /**
+     * Appends a type descriptor, which is not an inline record or object type, as {@code string[]?}.
+     */
+    private boolean appendTypeReference(StringBuilder source, Node typeNode) {
+        if (typeNode instanceof BuiltinSimpleNameReferenceNode) {
+            source.append(((BuiltinSimpleNameReferenceNode) typeNode).name().text().trim());
+        } else if (typeNode instanceof SimpleNameReferenceNode) {
+            source.append(((SimpleNameReferenceNode) typeNode).name().text().trim());
+        } else if (typeNode instanceof Token) {
+            source.append(((Token) typeNode).text().trim());
+        } else if (typeNode instanceof OptionalTypeDescriptorNode) {
+            if (!appendTypeReference(source, ((OptionalTypeDescriptorNode) typeNode).typeDescriptor())) {
+                return false;
+            }
+            source.append('?');
+        } else if (typeNode instanceof ArrayTypeDescriptorNode) {
+            ArrayTypeDescriptorNode arrayNode = (ArrayTypeDescriptorNode) typeNode;
+            if (!appendTypeReference(source, arrayNode.memberTypeDesc())) {
+                return false;
+            }
+            for (ArrayDimensionNode dimensionNode : arrayNode.dimensions()) {
+                if (dimensionNode.arrayLength().isPresent()) {
+                    return false;
+                }
+                source.append("[]");
+            }
+        } else if (typeNode instanceof UnionTypeDescriptorNode) {
+            UnionTypeDescriptorNode unionNode = (UnionTypeDescriptorNode) typeNode;
+            if (!appendTypeReference(source, unionNode.leftTypeDesc())) {
+                return false;
+            }
+            source.append('|');
+            return appendTypeReference(source, unionNode.rightTypeDesc());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Appends the description lines of a field, as {@code    # The description\n}.
+     */
+    private boolean appendDocumentation(StringBuilder source, Optional<MetadataNode> metadata) {
+        if (metadata.isEmpty()) {
+            return true;
+        }
+        if (!metadata.get().annotations().isEmpty()) {
+            return false;
+        }
+        Optional<Node> documentationString = metadata.get().documentationString();
+        if (documentationString.isEmpty()) {
+            return true;
+        }
+        if (!(documentationString.get() instanceof MarkdownDocumentationNode)) {
+            return false;
+        }
+        MarkdownDocumentationNode documentationNode = (MarkdownDocumentationNode) documentationString.get();
+        for (Node lineNode : documentationNode.documentationLines()) {
+            if (!(lineNode instanceof MarkdownDocumentationLineNode)
+                    || lineNode.kind() != SyntaxKind.DOCUMENTATION_DESCRIPTION) {
+                return false;
+            }
+            StringBuilder line = new StringBuilder();
+            for (Node element : ((MarkdownDocumentationLineNode) lineNode).documentElements()) {
+                if (!(element instanceof Token)) {
+                    return false;
+                }
+                line.append(((Token) element).text());
+            }
+            // The formatter could change the spaces around a description, hence those are left to the formatter
+            String description = line.toString();
+            if (description.isBlank() || !description.equals(description.strip())) {
+                return false;
+            }
+            source.append(INDENTATION).append("# ").append(description).append('\n');
+        }
+        return true;
+    }
+
+    private boolean isEmptyMetadata(Optional<MetadataNode> metadata) {
+        if (metadata.isEmpty()) {
+            return true;
+        }
+        Optional<Node> documentationNode = metadata.get().documentationString();
+        return metadata.get().annotations().isEmpty() && (documentationNode.isEmpty()
+                || (documentationNode.get() instanceof MarkdownDocumentationNode
+                && ((MarkdownDocumentationNode) documentationNode.get()).documentationLines().isEmpty()));
+    }
+}
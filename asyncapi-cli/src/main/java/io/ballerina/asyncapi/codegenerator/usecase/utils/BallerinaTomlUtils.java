@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * This Utils class contains the util functions to update the Ballerina.toml of the package, which the code is
+ * generated into.
+ */
+public class BallerinaTomlUtils {
+    private static final String DEPENDENCY_TABLE = "[[dependency]]";
+    private static final Pattern VERSION_LINE = Pattern.compile("\\s*version\\s*=.*");
+
+    /**
+     * Pins the version of a dependency in the given Ballerina.toml. The version of the {@code [[dependency]]} table
+     * of the package is replaced, or the table is appended if there is none.
+     *
+     * @param toml    content of the Ballerina.toml
+     * @param org     organization of the dependency
+     * @param name    name of the dependency
+     * @param version version, which the dependency is pinned to
+     * @return the content of the Ballerina.toml with the dependency pinned
+     */
+    public String pinDependency(String toml, String org, String name, String version) {
+        Pattern orgLine = Pattern.compile("\\s*org\\s*=\\s*\"" + Pattern.quote(org) + "\"\\s*");
+        Pattern nameLine = Pattern.compile("\\s*name\\s*=\\s*\"" + Pattern.quote(name) + "\"\\s*");
+        String versionLine = "version = \"" + version + "\"";
+        List<String> lines = new ArrayList<>(List.of(toml.split("\n", -1)));
+        int tableStart = -1;
+        for (int i = 0; i <= lines.size(); i++) {
+            boolean isTableEnd = i == lines.size() || lines.get(i).trim().startsWith("[");
+            if (isTableEnd && tableStart >= 0) {
+                List<String> table = lines.subList(tableStart, i);
+                if (table.stream().anyMatch(line -> orgLine.matcher(line).matches())
+                        && table.stream().anyMatch(line -> nameLine.matcher(line).matches())) {
+                    for (int j = 0; j < table.size(); j++) {
+                        if (VERSION_LINE.matcher(table.get(j)).matches()) {
+                            table.set(j, versionLine);
+                            return String.join("\n", lines);
+                        }
+                    }
+                    // A dependency without a version gets it after its name
+                    for (int j = 0; j < table.size(); j++) {
+                        if (nameLine.matcher(table.get(j)).matches()) {
+                            table.add(j + 1, versionLine);
+                            break;
+                        }
+                    }
+                    return String.join("\n", lines);
+                }
+            }
+            if (i < lines.size() && lines.get(i).trim().startsWith("[")) {
+                tableStart = lines.get(i).trim().equals(DEPENDENCY_TABLE) ? i : -1;
+            }
+        }
+
+        StringBuilder pinnedToml = new StringBuilder(toml);
+        if (pinnedToml.length() > 0 && pinnedToml.charAt(pinnedToml.length() - 1) != '\n') {
+            pinnedToml.append('\n');
+        }
+        if (pinnedToml.length() > 0) {
+            pinnedToml.append('\n');
+        }
+        return pinnedToml.append(DEPENDENCY_TABLE).append('\n')
+                .append("org = \"").append(org).append("\"\n")
+                .append("name = \"").append(name).append("\"\n")
+                .append(versionLine).append('\n').toString();
+    }
+}
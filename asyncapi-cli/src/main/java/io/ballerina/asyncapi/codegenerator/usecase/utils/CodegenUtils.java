@@ -21,13 +21,28 @@ package io.ballerina.asyncapi.codegenerator.usecase.utils;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Locale;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * This Utils class contains the code generation related util function.
  */
 public class CodegenUtils {
+    private static final Pattern ESCAPE_PATTERN = Pattern.compile(Constants.ESCAPE_PATTERN);
+    private static final Set<String> BAL_KEYWORDS = new HashSet<>(Constants.BAL_KEYWORDS);
+    private static final int ASCII_LIMIT = 128;
+    // The characters matched by the ESCAPE_PATTERN and by \s, both of which match only ASCII characters
+    private static final boolean[] ESCAPE_CHARS = getMatchingAsciiChars(ESCAPE_PATTERN);
+    private static final boolean[] WHITESPACE_CHARS = getMatchingAsciiChars(Pattern.compile("\\s"));
+    private static final int MEMO_SIZE = 8192;
+    private static final Map<String, String> ESCAPED_IDENTIFIERS = createMemo();
+    private static final Map<String, String> VALID_NAMES = createMemo();
+    private static final Map<String, String> CAPITALIZED_VALID_NAMES = createMemo();
 
     /**
      * This method will escape special characters used in method names and identifiers.
@@ -36,27 +51,35 @@ public class CodegenUtils {
      * @return - escaped string
      */
     public String escapeIdentifier(String identifier) {
-        if (identifier.matches("\\S*\\d+\\S*")) {
+        // Same as identifier.matches("\\S*\\d+\\S*")
+        if (isWithoutWhitespaceWithDigit(identifier)) {
             return "'" + identifier;
         }
-        if (!identifier.matches("\\b[_a-zA-Z][_a-zA-Z0-9]*\\b") || Constants.BAL_KEYWORDS.stream()
-                .anyMatch(identifier::equals)) {
-            identifier = identifier.replaceAll(Constants.ESCAPE_PATTERN, "\\\\$1");
-            if (identifier.endsWith("?")) {
-                if (identifier.charAt(identifier.length() - 2) == '\\') {
-                    StringBuilder stringBuilder = new StringBuilder(identifier);
-                    stringBuilder.deleteCharAt(identifier.length() - 2);
-                    identifier = stringBuilder.toString();
-                }
-                if (Constants.BAL_KEYWORDS.stream().anyMatch(Optional.of(identifier)
-                        .filter(sStr -> sStr.length() != 0)
-                        .map(sStr -> sStr.substring(0, sStr.length() - 1))
-                        .orElse(identifier)::equals)) {
-                    identifier = "'" + identifier;
-                }
-            } else if (Constants.BAL_KEYWORDS.stream().anyMatch(identifier::equals)) {
+        // Same as identifier.matches("\\b[_a-zA-Z][_a-zA-Z0-9]*\\b"), which is the most common case
+        if (isSimpleIdentifier(identifier) && !BAL_KEYWORDS.contains(identifier)) {
+            return identifier;
+        }
+        String escapedIdentifier = ESCAPED_IDENTIFIERS.get(identifier);
+        if (escapedIdentifier == null) {
+            escapedIdentifier = escapeSpecialCharacters(identifier);
+            ESCAPED_IDENTIFIERS.put(identifier, escapedIdentifier);
+        }
+        return escapedIdentifier;
+    }
+
+    private static String escapeSpecialCharacters(String identifier) {
+        identifier = ESCAPE_PATTERN.matcher(identifier).replaceAll("\\\\$1");
+        if (identifier.endsWith("?")) {
+            if (identifier.charAt(identifier.length() - 2) == '\\') {
+                StringBuilder stringBuilder = new StringBuilder(identifier);
+                stringBuilder.deleteCharAt(identifier.length() - 2);
+                identifier = stringBuilder.toString();
+            }
+            if (BAL_KEYWORDS.contains(identifier.substring(0, identifier.length() - 1))) {
                 identifier = "'" + identifier;
             }
+        } else if (BAL_KEYWORDS.contains(identifier)) {
+            identifier = "'" + identifier;
         }
         return identifier;
     }
@@ -68,22 +91,40 @@ public class CodegenUtils {
      * @return string with new generated name
      */
     public String getValidName(String identifier, boolean capitalizeFirstChar) {
+        // The names without any special characters are not split, which is the most common case
+        if (!hasEscapeChar(identifier) && !identifier.isBlank()) {
+            return changeFirstCharCase(identifier, capitalizeFirstChar);
+        }
+        Map<String, String> validNames = capitalizeFirstChar ? CAPITALIZED_VALID_NAMES : VALID_NAMES;
+        String validName = validNames.get(identifier);
+        if (validName == null) {
+            validName = changeFirstCharCase(removeSpecialCharacters(identifier), capitalizeFirstChar);
+            validNames.put(identifier, validName);
+        }
+        return validName;
+    }
+
+    private static String removeSpecialCharacters(String identifier) {
         // For the flatten enable we need to remove first Part of valid name check
         // this - > !identifier.matches("\\b[a-zA-Z][a-zA-Z0-9]*\\b") &&
-        if (!identifier.matches("\\b[0-9]*\\b")) {
-            String[] split = identifier.split(Constants.ESCAPE_PATTERN);
-            StringBuilder validName = new StringBuilder();
-            for (String part : split) {
-                if (!part.isBlank()) {
-                    if (split.length > 1) {
-                        part = part.substring(0, 1).toUpperCase(Locale.ENGLISH) +
-                                part.substring(1).toLowerCase(Locale.ENGLISH);
-                    }
-                    validName.append(part);
+        if (isDigits(identifier)) {
+            return identifier;
+        }
+        String[] split = ESCAPE_PATTERN.split(identifier);
+        StringBuilder validName = new StringBuilder();
+        for (String part : split) {
+            if (!part.isBlank()) {
+                if (split.length > 1) {
+                    part = part.substring(0, 1).toUpperCase(Locale.ENGLISH) +
+                            part.substring(1).toLowerCase(Locale.ENGLISH);
                 }
+                validName.append(part);
             }
-            identifier = validName.toString();
         }
+        return validName.toString();
+    }
+
+    private static String changeFirstCharCase(String identifier, boolean capitalizeFirstChar) {
         if (capitalizeFirstChar) {
             return identifier.substring(0, 1).toUpperCase(Locale.ENGLISH) + identifier.substring(1);
         } else {
@@ -91,6 +132,78 @@ public class CodegenUtils {
         }
     }
 
+    private static boolean isWithoutWhitespaceWithDigit(String identifier) {
+        boolean hasDigit = false;
+        for (int i = 0; i < identifier.length(); i++) {
+            char c = identifier.charAt(i);
+            if (c < ASCII_LIMIT && WHITESPACE_CHARS[c]) {
+                return false;
+            }
+            hasDigit |= c >= '0' && c <= '9';
+        }
+        return hasDigit;
+    }
+
+    private static boolean isSimpleIdentifier(String identifier) {
+        if (identifier.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < identifier.length(); i++) {
+            char c = identifier.charAt(i);
+            boolean isLetter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+            if (!isLetter && (i == 0 || c < '0' || c > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same as identifier.matches("\\b[0-9]*\\b"), which does not match an empty string.
+     */
+    private static boolean isDigits(String identifier) {
+        if (identifier.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < identifier.length(); i++) {
+            if (identifier.charAt(i) < '0' || identifier.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasEscapeChar(String identifier) {
+        for (int i = 0; i < identifier.length(); i++) {
+            char c = identifier.charAt(i);
+            if (c < ASCII_LIMIT && ESCAPE_CHARS[c]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean[] getMatchingAsciiChars(Pattern pattern) {
+        boolean[] matchingChars = new boolean[ASCII_LIMIT];
+        for (char c = 0; c < ASCII_LIMIT; c++) {
+            matchingChars[c] = pattern.matcher(String.valueOf(c)).matches();
+        }
+        return matchingChars;
+    }
+
+    /**
+     * Creates a memo of the given size, which drops the least recently used entry when it is full. The memos are
+     * shared by all the code generation threads, hence those are synchronized.
+     */
+    private static Map<String, String> createMemo() {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > MEMO_SIZE;
+            }
+        });
+    }
+
     /**
      * Resolve Ref field types.
      * @param referenceVariable value of the ref field
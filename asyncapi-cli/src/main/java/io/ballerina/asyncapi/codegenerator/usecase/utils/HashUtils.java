@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase.utils;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.repository.SourceWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * This Utils class contains the content hashing related util functions.
+ */
+public class HashUtils {
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Calculate the SHA-256 hash of the given content.
+     *
+     * @param content content to be hashed
+     * @return hash of the content as a hex string
+     * @throws BallerinaAsyncApiException if the hash algorithm is not available in the JVM
+     */
+    public String getContentHash(String content) throws BallerinaAsyncApiException {
+        MessageDigest messageDigest = getMessageDigest();
+        return toHexString(messageDigest.digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Calculate the SHA-256 hash of the source written by the given writer, which is the same as the hash of the
+     * source as a string, without building the string.
+     *
+     * @param sourceWriter writer of the content to be hashed
+     * @return hash of the content as a hex string
+     * @throws BallerinaAsyncApiException if the hash algorithm is not available in the JVM
+     */
+    public String getContentHash(SourceWriter sourceWriter) throws BallerinaAsyncApiException {
+        MessageDigest messageDigest = getMessageDigest();
+        try (Writer writer = new OutputStreamWriter(
+                new DigestOutputStream(OutputStream.nullOutputStream(), messageDigest), StandardCharsets.UTF_8)) {
+            sourceWriter.writeTo(writer);
+        } catch (IOException e) {
+            throw new BallerinaAsyncApiException("Could not calculate the content hash", e);
+        }
+        return toHexString(messageDigest.digest());
+    }
+
+    private MessageDigest getMessageDigest() throws BallerinaAsyncApiException {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new BallerinaAsyncApiException("Could not calculate the content hash", e);
+        }
+    }
+
+    private String toHexString(byte[] hash) {
+        StringBuilder hexString = new StringBuilder(hash.length * 2);
+        for (byte hashByte : hash) {
+            hexString.append(HEX_CHARS[(hashByte >> 4) & 0xF]).append(HEX_CHARS[hashByte & 0xF]);
+        }
+        return hexString.toString();
+    }
+}
@@ -1,23 +1,23 @@
 import ballerina/http;
+import ballerina/log;
 import ballerinax/asyncapi.native.handler;
 
+// The events and the remote functions of each service type
+final readonly & map<map<string>> serviceEvents = {};
+
 service class DispatcherService {
    *http:Service;
-   private map<GenericServiceType> services = {};
    private handler:NativeHandler nativeHandler = new ();
 
    isolated function addServiceRef(string serviceType, GenericServiceType genericService) returns error? {
-        if (self.services.hasKey(serviceType)) {
-             return error("Service of type " + serviceType + " has already been attached");
+        string[] unimplementedFunctions = check self.nativeHandler.addService(serviceType, genericService, serviceEvents[serviceType] ?: {});
+        if unimplementedFunctions.length() > 0 {
+             log:printInfo("Service of type " + serviceType + " does not implement the remote functions " + ", ".'join(...unimplementedFunctions) + ", hence those events are not dispatched to it");
         }
-        self.services[serviceType] = genericService;
    }
 
    isolated function removeServiceRef(string serviceType) returns error? {
-        if (!self.services.hasKey(serviceType)) {
-             return error("Cannot detach the service of type " + serviceType + ". Service has not been attached to the listener before");
-        }
-        _ = self.services.remove(serviceType);
+        check self.nativeHandler.removeService(serviceType);
    }
 
    // We are not using the (@http:payload GenericEventWrapperEvent g) notation because of a bug in Ballerina.
@@ -33,9 +33,6 @@ service class DispatcherService {
    private function matchRemoteFunc(GenericDataType genericDataType, string eventIdentifier) returns error? {}
 
    private function executeRemoteFunc(GenericDataType genericEvent, string eventName, string serviceTypeStr, string eventFunction) returns error? {
-         GenericServiceType? genericService = self.services[serviceTypeStr];
-         if genericService is GenericServiceType {
-              check self.nativeHandler.invokeRemoteFunction(genericEvent, eventName, eventFunction, genericService);
-         }
+         check self.nativeHandler.dispatchToService(genericEvent, eventName, serviceTypeStr, eventFunction);
    }
 }
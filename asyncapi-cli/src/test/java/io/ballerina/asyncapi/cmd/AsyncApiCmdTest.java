@@ -168,6 +168,40 @@ public class AsyncApiCmdTest {
         Assert.assertEquals(readOutput(true).trim(), AsyncApiMessages.MESSAGE_FOR_MISSING_INPUT);
     }
 
+    @Test(description = "Test the results of an asyncapi command execution with a manifest")
+    public void testExecuteWithManifest() throws IOException {
+        Path manifest = Files.writeString(this.tmpDir.resolve("manifest.yaml"), String.format(
+                "\"%s\": manifest_yaml%n\"%s\": manifest_json%n",
+                resourceDir.resolve(Paths.get("specs", "spec-complete-slack.yml")),
+                resourceDir.resolve(Paths.get("specs", "spec-complete-slack.json"))));
+        String[] args = {"--manifest", manifest.toString()};
+        AsyncApiCmd cmd = new AsyncApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String expectedListenerContent = readContent(resourceDir.resolve(Paths.get("expected_gen", "listener.bal")));
+        for (String outputDirectory : new String[]{"manifest_yaml", "manifest_json"}) {
+            Path listenerFile = this.tmpDir.resolve(outputDirectory).resolve("listener.bal");
+            if (!Files.exists(listenerFile)) {
+                Assert.fail("Code generation failed. : " + readOutput(true));
+            }
+            Assert.assertEquals(readContent(listenerFile), expectedListenerContent);
+        }
+    }
+
+    @Test(description = "Test the functionality of the asyncapi command when some of the input files are invalid")
+    public void testExecuteWithMultipleInputs() throws IOException {
+        Path specYaml = resourceDir.resolve(Paths.get("specs", "spec-complete-slack.yml"));
+        Path invalidSpec = resourceDir.resolve(Paths.get("specs", "invalid-file-name.yml"));
+        Path outputDirectory = this.tmpDir.resolve("multiple_inputs");
+        String[] args = {"--input", specYaml.toString(), invalidSpec.toString(), "-o", outputDirectory.toString()};
+        AsyncApiCmd cmd = new AsyncApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        Assert.assertTrue(Files.exists(outputDirectory.resolve("spec-complete-slack").resolve("listener.bal")));
+        Assert.assertTrue(readOutput(true).startsWith("Could not generate the Ballerina sources of some of the " +
+                "AsyncAPI specifications"));
+    }
+
     private String readContent(Path path) {
         String output = "";
         try (Stream<String> line = Files.lines(path)) {
@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.application;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Test the generation of many specs in a single process.
+ */
+public class BatchCodeGeneratorTest {
+    private final Path specsDir = Paths.get("src/test/resources/specs").toAbsolutePath();
+    private Path outputDir;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        outputDir = Files.createTempDirectory("asyncapi-batch-test-out-" + System.nanoTime());
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(outputDir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test(description = "Test the functionality of the 'generate' function")
+    public void testGenerate() throws BallerinaAsyncApiException {
+        Map<String, String> outputPaths = new LinkedHashMap<>();
+        outputPaths.put(specsDir.resolve("spec-complete-slack.yml").toString(), outputDir.resolve("yaml").toString());
+        outputPaths.put(specsDir.resolve("spec-complete-slack.json").toString(), outputDir.resolve("json").toString());
+        List<GenerationResult> results = new BatchCodeGenerator(new GenerationOptions()).generate(outputPaths);
+
+        Assert.assertEquals(results.size(), 2);
+        Assert.assertTrue(results.get(0).isSuccessful());
+        Assert.assertTrue(results.get(1).isSuccessful());
+        Assert.assertEquals(results.get(1).getSpecPath(), specsDir.resolve("spec-complete-slack.json").toString());
+        for (String fileName : List.of(Constants.DATA_TYPES_BAL_FILE_NAME, Constants.SERVICE_TYPES_BAL_FILE_NAME,
+                Constants.LISTENER_BAL_FILE_NAME, Constants.DISPATCHER_SERVICE_BAL_FILE_NAME)) {
+            Assert.assertTrue(Files.exists(outputDir.resolve("yaml").resolve(fileName)));
+            Assert.assertTrue(Files.exists(outputDir.resolve("json").resolve(fileName)));
+        }
+    }
+
+    @Test(description = "Test whether a failed spec does not stop the generation of the other specs")
+    public void testGenerateWithInvalidSpec() throws BallerinaAsyncApiException {
+        Map<String, String> outputPaths = new LinkedHashMap<>();
+        outputPaths.put(specsDir.resolve("invalid-file-name.yml").toString(), outputDir.resolve("invalid").toString());
+        outputPaths.put(specsDir.resolve("spec-complete-slack.yml").toString(), outputDir.resolve("slack").toString());
+        List<GenerationResult> results = new BatchCodeGenerator(new GenerationOptions()).generate(outputPaths);
+
+        Assert.assertFalse(results.get(0).isSuccessful());
+        Assert.assertTrue(results.get(0).getErrorMessage().startsWith("File not found in the given path: "));
+        Assert.assertTrue(results.get(1).isSuccessful());
+        Assert.assertTrue(Files.exists(outputDir.resolve("slack").resolve(Constants.LISTENER_BAL_FILE_NAME)));
+    }
+
+    @Test(description = "Test whether the templates are read only once for all the specs")
+    public void testGenerateWithSharedTemplates() throws BallerinaAsyncApiException {
+        AtomicInteger resourceReadCount = new AtomicInteger();
+        FileRepository fileRepository = new FileRepositoryImpl() {
+            @Override
+            public String getFileContentFromResources(String fileName) throws BallerinaAsyncApiException {
+                resourceReadCount.incrementAndGet();
+                return super.getFileContentFromResources(fileName);
+            }
+        };
+        Map<String, String> outputPaths = new LinkedHashMap<>();
+        outputPaths.put(specsDir.resolve("spec-complete-slack.yml").toString(), outputDir.resolve("yaml").toString());
+        outputPaths.put(specsDir.resolve("spec-complete-slack.json").toString(), outputDir.resolve("json").toString());
+        new BatchCodeGenerator(fileRepository, new GenerationOptions()).generate(outputPaths);
+
+        // The data types, listener and dispatcher templates
+        Assert.assertEquals(resourceReadCount.get(), 3);
+    }
+
+    @Test(description = "Test the generation of specs with the same output directory",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "The AsyncAPI specifications .* have the same output directory: .*")
+    public void testGenerateWithSameOutputDirectory() throws BallerinaAsyncApiException {
+        Map<String, String> outputPaths = BatchCodeGenerator.getOutputPaths(List.of(
+                specsDir.resolve("spec-complete-slack.yml").toString(),
+                specsDir.resolve("spec-complete-slack.json").toString()), outputDir.toString());
+        new BatchCodeGenerator(new GenerationOptions()).generate(outputPaths);
+    }
+
+    @Test(description = "Test the functionality of the 'getOutputPaths' function")
+    public void testGetOutputPaths() {
+        Map<String, String> outputPaths = BatchCodeGenerator.getOutputPaths(
+                List.of("specs/slack.yaml", "github.json", "trigger"), "out");
+
+        Assert.assertEquals(outputPaths, Map.of(
+                "specs/slack.yaml", Paths.get("out", "slack").toString(),
+                "github.json", Paths.get("out", "github").toString(),
+                "trigger", Paths.get("out", "trigger").toString()));
+    }
+
+    @Test(description = "Test the functionality of the 'readManifest' function")
+    public void testReadManifest() throws BallerinaAsyncApiException, IOException {
+        Path githubOutputDir = outputDir.resolve("github").toAbsolutePath();
+        Path manifest = Files.writeString(outputDir.resolve("manifest.yaml"), "slack.yaml: generated/slack\n\""
+                + specsDir.resolve("github.yaml") + "\": \"" + githubOutputDir + "\"\n");
+        Map<String, String> outputPaths = new BatchCodeGenerator(new GenerationOptions())
+                .readManifest(manifest.toString());
+
+        Assert.assertEquals(List.copyOf(outputPaths.keySet()), List.of(outputDir.resolve("slack.yaml").toString(),
+                specsDir.resolve("github.yaml").toString()));
+        Assert.assertEquals(outputPaths.get(outputDir.resolve("slack.yaml").toString()),
+                outputDir.resolve("generated/slack").toString());
+        Assert.assertEquals(outputPaths.get(specsDir.resolve("github.yaml").toString()), githubOutputDir.toString());
+    }
+
+    @Test(description = "Test reading a manifest, which does not map the specs to output directories",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "The output directory of the AsyncAPI specification slack.yaml " +
+                    "should be a string in the manifest: .*")
+    public void testReadInvalidManifest() throws BallerinaAsyncApiException, IOException {
+        Path manifest = Files.writeString(outputDir.resolve("manifest.yaml"), "slack.yaml:\n  - generated/slack\n");
+        new BatchCodeGenerator(new GenerationOptions()).readManifest(manifest.toString());
+    }
+}
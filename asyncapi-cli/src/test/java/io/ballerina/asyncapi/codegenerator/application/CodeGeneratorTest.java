@@ -19,9 +19,25 @@
 package io.ballerina.asyncapi.codegenerator.application;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import io.ballerina.asyncapi.codegenerator.repository.SourceWriter;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
 /**
  * Test the functionality of the Code Generator.
  */
@@ -35,6 +51,163 @@ public class CodeGeneratorTest {
         Assert.assertEquals(mockRepository.getWriteCount(), 4);
     }
 
+    @Test(description = "Test the functionality of the 'generate' function in the parallel mode")
+    public void testGenerateInParallel() throws BallerinaAsyncApiException {
+        MockFileRepositoryImpl sequentialRepository = new MockFileRepositoryImpl();
+        new CodeGenerator(sequentialRepository).generate("test.yaml", "/");
+
+        GenerationOptions options = new GenerationOptions();
+        options.setParallel(true);
+        MockFileRepositoryImpl parallelRepository = new MockFileRepositoryImpl();
+        new CodeGenerator(parallelRepository, options).generate("test.yaml", "/");
+
+        Assert.assertEquals(parallelRepository.getWriteCount(), 4);
+        Assert.assertEquals(new ArrayList<>(parallelRepository.getWrittenFiles().keySet()),
+                new ArrayList<>(sequentialRepository.getWrittenFiles().keySet()));
+        Assert.assertEquals(parallelRepository.getWrittenFiles(), sequentialRepository.getWrittenFiles());
+    }
+
+    @Test(description = "Test the functionality of the 'generate' function when the data types are sharded")
+    public void testGenerateWithDataTypesShards() throws BallerinaAsyncApiException {
+        GenerationOptions options = new GenerationOptions();
+        options.setDataTypesShardSize(1);
+        MockFileRepositoryImpl sequentialRepository = new MockFileRepositoryImpl();
+        new CodeGenerator(sequentialRepository, options).generate("test.yaml", "/");
+
+        options.setParallel(true);
+        MockFileRepositoryImpl parallelRepository = new MockFileRepositoryImpl();
+        new CodeGenerator(parallelRepository, options).generate("test.yaml", "/");
+
+        // The shards written are recorded in the shards manifest as well
+        Assert.assertEquals(parallelRepository.getWriteCount(), 7);
+        Assert.assertEquals(parallelRepository.getWrittenFiles(), sequentialRepository.getWrittenFiles());
+        Map<String, String> writtenFiles = sequentialRepository.getWrittenFiles();
+        Assert.assertEquals(new ArrayList<>(writtenFiles.keySet()), List.of("/" + Constants.DATA_TYPES_BAL_FILE_NAME,
+                "/data_types_1.bal", "/data_types_2.bal", "/" + Constants.SERVICE_TYPES_BAL_FILE_NAME,
+                "/" + Constants.LISTENER_BAL_FILE_NAME, "/" + Constants.DISPATCHER_SERVICE_BAL_FILE_NAME,
+                "/" + Constants.DATA_TYPES_SHARDS_MANIFEST_FILE_NAME));
+        Assert.assertEquals(writtenFiles.get("/" + Constants.DATA_TYPES_SHARDS_MANIFEST_FILE_NAME),
+                "data_types_1.bal\ndata_types_2.bal");
+        String dataTypes = writtenFiles.get("/" + Constants.DATA_TYPES_BAL_FILE_NAME);
+        Assert.assertTrue(dataTypes.contains("GenericDataType"));
+        Assert.assertFalse(dataTypes.contains("public type CustomTestSchema record"));
+        String shards = writtenFiles.get("/data_types_1.bal") + writtenFiles.get("/data_types_2.bal");
+        Assert.assertTrue(shards.contains("public type CustomTestSchema record"));
+        Assert.assertTrue(shards.contains("public type GenericEventWrapper record"));
+        Assert.assertFalse(shards.contains("GenericDataType"));
+    }
+
+    @Test(description = "Test whether the shards of a previous generation with more shards are deleted")
+    public void testGenerateWithFewerDataTypesShards() throws BallerinaAsyncApiException, IOException {
+        Path outputDir = Files.createTempDirectory("asyncapi-shards-test-out-" + System.nanoTime());
+        String specPath = Paths.get("src/test/resources/specs/spec-complete-slack.yml").toAbsolutePath().toString();
+        GenerationOptions options = new GenerationOptions();
+        try {
+            options.setDataTypesShardSize(1);
+            new CodeGenerator(new FileRepositoryImpl(), options).generate(specPath, outputDir.toString());
+            Assert.assertTrue(Files.exists(outputDir.resolve("data_types_1.bal")));
+            Assert.assertTrue(Files.exists(outputDir.resolve("data_types_2.bal")));
+
+            options.setDataTypesShardSize(2);
+            new CodeGenerator(new FileRepositoryImpl(), options).generate(specPath, outputDir.toString());
+            Assert.assertTrue(Files.exists(outputDir.resolve("data_types_1.bal")));
+            Assert.assertFalse(Files.exists(outputDir.resolve("data_types_2.bal")));
+        } finally {
+            try (Stream<Path> paths = Files.walk(outputDir)) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test(description = "Test whether the files of the user, which have the names of the shards, are not deleted")
+    public void testGenerateKeepsUnrecordedShards() throws BallerinaAsyncApiException, IOException {
+        Path outputDir = Files.createTempDirectory("asyncapi-shards-test-out-" + System.nanoTime());
+        String specPath = Paths.get("src/test/resources/specs/spec-complete-slack.yml").toAbsolutePath().toString();
+        String userContent = "public type UserRecord record {};\n";
+        try {
+            Files.writeString(outputDir.resolve("data_types_1.bal"), userContent);
+            Files.writeString(outputDir.resolve("data_types_3.bal"), userContent);
+            new CodeGenerator(new FileRepositoryImpl()).generate(specPath, outputDir.toString());
+            Assert.assertEquals(Files.readString(outputDir.resolve("data_types_1.bal")), userContent);
+            Assert.assertFalse(Files.exists(outputDir.resolve(Constants.DATA_TYPES_SHARDS_MANIFEST_FILE_NAME)));
+
+            // The shards of the generation overwrite the files, but the file after those is not a recorded shard
+            GenerationOptions options = new GenerationOptions();
+            options.setDataTypesShardSize(1);
+            new CodeGenerator(new FileRepositoryImpl(), options).generate(specPath, outputDir.toString());
+            options.setDataTypesShardSize(2);
+            new CodeGenerator(new FileRepositoryImpl(), options).generate(specPath, outputDir.toString());
+            Assert.assertFalse(Files.exists(outputDir.resolve("data_types_2.bal")));
+            Assert.assertEquals(Files.readString(outputDir.resolve("data_types_3.bal")), userContent);
+        } finally {
+            try (Stream<Path> paths = Files.walk(outputDir)) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test(description = "Test whether the version of the native handler is pinned in the Ballerina.toml of the " +
+            "package, which the code is generated into")
+    public void testGeneratePinsNativeHandlerVersion() throws BallerinaAsyncApiException, IOException {
+        Path outputDir = Files.createTempDirectory("asyncapi-toml-test-out-" + System.nanoTime());
+        String specPath = Paths.get("src/test/resources/specs/spec-complete-slack.yml").toAbsolutePath().toString();
+        try {
+            Files.writeString(outputDir.resolve(Constants.BALLERINA_TOML_FILE_NAME),
+                    "[package]\norg = \"foo\"\nname = \"bar\"\nversion = \"0.1.0\"\n");
+            new CodeGenerator(new FileRepositoryImpl()).generate(specPath, outputDir.toString());
+            String toml = Files.readString(outputDir.resolve(Constants.BALLERINA_TOML_FILE_NAME));
+            Assert.assertTrue(toml.endsWith("[[dependency]]\norg = \"ballerinax\"\n" +
+                    "name = \"asyncapi.native.handler\"\nversion = \"" + Constants.NATIVE_HANDLER_VERSION + "\"\n"));
+        } finally {
+            try (Stream<Path> paths = Files.walk(outputDir)) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test(description = "Test the functionality of the 'generate' function in the incremental mode")
+    public void testGenerateIncrementally() throws BallerinaAsyncApiException, IOException {
+        Path outputDir = Files.createTempDirectory("asyncapi-incremental-test-out-" + System.nanoTime());
+        String specPath = Paths.get("src/test/resources/specs/spec-complete-slack.yml").toAbsolutePath().toString();
+        GenerationOptions options = new GenerationOptions();
+        options.setIncremental(true);
+        List<String> writtenFiles = new ArrayList<>();
+        FileRepository fileRepository = new FileRepositoryImpl() {
+            @Override
+            public boolean writeToFile(String filePath, SourceWriter sourceWriter)
+                    throws BallerinaAsyncApiException {
+                writtenFiles.add(Paths.get(filePath).getFileName().toString());
+                return super.writeToFile(filePath, sourceWriter);
+            }
+        };
+        CodeGenerator codeGenerator = new CodeGenerator(fileRepository, options);
+        try {
+            codeGenerator.generate(specPath, outputDir.toString());
+            Assert.assertEquals(writtenFiles, List.of(Constants.DATA_TYPES_BAL_FILE_NAME,
+                    Constants.SERVICE_TYPES_BAL_FILE_NAME, Constants.LISTENER_BAL_FILE_NAME,
+                    Constants.DISPATCHER_SERVICE_BAL_FILE_NAME, Constants.GENERATION_CACHE_FILE_NAME));
+
+            // Nothing has been changed, hence only the cache should be written
+            writtenFiles.clear();
+            codeGenerator.generate(specPath, outputDir.toString());
+            Assert.assertEquals(writtenFiles, List.of(Constants.GENERATION_CACHE_FILE_NAME));
+
+            // A modified output file should be generated again
+            Path listenerFile = outputDir.resolve(Constants.LISTENER_BAL_FILE_NAME);
+            String listenerContent = Files.readString(listenerFile);
+            Files.writeString(listenerFile, "// modified");
+            writtenFiles.clear();
+            codeGenerator.generate(specPath, outputDir.toString());
+            Assert.assertEquals(writtenFiles, List.of(Constants.LISTENER_BAL_FILE_NAME,
+                    Constants.GENERATION_CACHE_FILE_NAME));
+            Assert.assertEquals(Files.readString(listenerFile), listenerContent);
+        } finally {
+            try (Stream<Path> paths = Files.walk(outputDir)) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
     @Test(description = "Test the functionality of the generate function " +
             "when AsyncAPI spec file has a different file extension than .yaml, .yml or .json",
             expectedExceptions = BallerinaAsyncApiException.class,
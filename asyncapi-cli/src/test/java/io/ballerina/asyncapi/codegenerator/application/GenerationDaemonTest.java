@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.application;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test the generation of the listeners by the generator daemon.
+ */
+public class GenerationDaemonTest {
+    private final String specPath = Paths.get("src/test/resources/specs/spec-complete-slack.yml")
+            .toAbsolutePath().toString();
+    private Path workDir;
+    private Path socketPath;
+    private GenerationDaemon generationDaemon;
+    private Thread daemonThread;
+
+    @BeforeMethod
+    public void setup() throws IOException, BallerinaAsyncApiException {
+        workDir = Files.createTempDirectory("asyncapi-daemon");
+        socketPath = workDir.resolve("daemon.sock");
+        generationDaemon = new GenerationDaemon(socketPath);
+        generationDaemon.setRequestTimeoutMillis(500);
+        generationDaemon.start();
+        daemonThread = new Thread(generationDaemon::serve);
+        daemonThread.start();
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException, InterruptedException {
+        generationDaemon.close();
+        daemonThread.join(10000);
+        try (Stream<Path> paths = Files.walk(workDir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test(description = "Test the functionality of the 'generate' function of the daemon client")
+    public void testGenerate() throws BallerinaAsyncApiException, IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        GenerationOptions options = new GenerationOptions();
+        options.setRouteTable(true);
+        new GenerationDaemonClient(socketPath, options, new PrintStream(output, true, StandardCharsets.UTF_8))
+                .generate(specPath, workDir.resolve("out").toString());
+
+        Assert.assertTrue(output.toString(StandardCharsets.UTF_8)
+                .startsWith("Following files were generated successfully:"));
+        // The listener is generated by the daemon with the options of the client
+        Path inProcessDir = workDir.resolve("in-process");
+        new CodeGenerator(options).generate(specPath, inProcessDir.toString());
+        for (String fileName : new String[]{Constants.DATA_TYPES_BAL_FILE_NAME, Constants.SERVICE_TYPES_BAL_FILE_NAME,
+                Constants.LISTENER_BAL_FILE_NAME, Constants.DISPATCHER_SERVICE_BAL_FILE_NAME}) {
+            Assert.assertEquals(Files.readString(workDir.resolve("out").resolve(fileName)),
+                    Files.readString(inProcessDir.resolve(fileName)));
+        }
+    }
+
+    @Test(description = "Test whether the errors of the daemon are reported by the daemon client",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "File not found in the given path: .*invalid-file-name.yml")
+    public void testGenerateWithInvalidSpecPath() throws BallerinaAsyncApiException {
+        new GenerationDaemonClient(socketPath, new GenerationOptions(), System.err)
+                .generate("src/test/resources/specs/invalid-file-name.yml", workDir.resolve("out").toString());
+    }
+
+    @Test(description = "Test whether a second daemon is not started on the same socket",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "An AsyncAPI generator daemon is already running on: .*")
+    public void testStartWhenDaemonIsRunning() throws BallerinaAsyncApiException {
+        new GenerationDaemon(socketPath).start();
+    }
+
+    @Test(description = "Test the functionality of the 'stop' function of the daemon client")
+    public void testStop() throws BallerinaAsyncApiException, InterruptedException {
+        Assert.assertTrue(GenerationDaemonClient.isDaemonRunning(socketPath));
+        new GenerationDaemonClient(socketPath, new GenerationOptions(), System.err).stop();
+        daemonThread.join(10000);
+
+        Assert.assertFalse(daemonThread.isAlive());
+        Assert.assertFalse(GenerationDaemonClient.isDaemonRunning(socketPath));
+        Assert.assertFalse(Files.exists(socketPath));
+    }
+
+    @Test(description = "Test whether the socket is bound in a private directory, which is removed once the socket "
+            + "is moved to the socket path, and only the user can connect to it")
+    public void testStartWithPrivateSocket() throws IOException {
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            return;
+        }
+        try (Stream<Path> paths = Files.list(workDir)) {
+            List<Path> files = paths.collect(Collectors.toList());
+            Assert.assertEquals(files, List.of(socketPath));
+        }
+        Assert.assertEquals(PosixFilePermissions.toString(Files.getPosixFilePermissions(socketPath)), "rw-------");
+    }
+
+    @Test(description = "Test whether a connection, which does not send a request, is closed by the daemon",
+            timeOut = 10000)
+    public void testIdleConnectionIsClosed() throws IOException, BallerinaAsyncApiException {
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+            Assert.assertEquals(channel.read(ByteBuffer.allocate(16)), -1);
+        }
+        // The daemon keeps serving the other requests
+        new GenerationDaemonClient(socketPath, new GenerationOptions(), System.err)
+                .generate(specPath, workDir.resolve("out").toString());
+        Assert.assertTrue(Files.exists(workDir.resolve("out").resolve(Constants.LISTENER_BAL_FILE_NAME)));
+    }
+
+    @Test(description = "Test whether the options are kept in the requests sent to the daemon")
+    public void testGenerationRequestToJson() throws BallerinaAsyncApiException {
+        GenerationOptions options = new GenerationOptions();
+        options.setIncremental(true);
+        options.setThreadCount(3);
+        options.setAsyncAck(true);
+        GenerationRequest request = GenerationRequest.fromJson(new GenerationRequest(
+                GenerationRequest.GENERATE_COMMAND, specPath, "out", options).toJson());
+
+        Assert.assertEquals(request.getCommand(), GenerationRequest.GENERATE_COMMAND);
+        Assert.assertEquals(request.getSpecPath(), specPath);
+        Assert.assertEquals(request.getOutputPath(), "out");
+        Assert.assertTrue(request.getOptions().isIncremental());
+        Assert.assertEquals(request.getOptions().getThreadCount(), 3);
+        Assert.assertTrue(request.getOptions().isAsyncAck());
+        Assert.assertFalse(request.getOptions().isRouteTable());
+    }
+}
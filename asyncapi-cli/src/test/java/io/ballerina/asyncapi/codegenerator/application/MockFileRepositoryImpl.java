@@ -18,16 +18,25 @@
 
 package io.ballerina.asyncapi.codegenerator.application;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import io.ballerina.asyncapi.codegenerator.repository.SourceWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Mock the FileRepositoryImpl to prevent file writing while testing.
  */
 public class MockFileRepositoryImpl implements FileRepository {
+    private static final String SPEC_PATH = "src/test/resources/specs/spec-complete-slack.yml";
     private final FileRepository fileRepository = new FileRepositoryImpl();
     private int writeCount = 0;
+    private final Map<String, String> writtenFiles = new LinkedHashMap<>();
 
     @Override
     public String getFileContent(String filePath) throws BallerinaAsyncApiException {
@@ -35,14 +44,37 @@ public class MockFileRepositoryImpl implements FileRepository {
                 .getFileContentFromResources("specs/spec-complete-slack.yml");
     }
 
+    @Override
+    public boolean isFileExists(String filePath) {
+        return false;
+    }
+
     @Override
     public String getFileContentFromResources(String fileName) throws BallerinaAsyncApiException {
         return fileRepository.getFileContentFromResources(fileName);
     }
 
     @Override
-    public void writeToFile(String filePath, String content) throws BallerinaAsyncApiException {
+    public synchronized void writeToFile(String filePath, String content) throws BallerinaAsyncApiException {
         writeCount += 1;
+        writtenFiles.put(filePath, content);
+    }
+
+    @Override
+    public boolean writeToFile(String filePath, SourceWriter sourceWriter) throws BallerinaAsyncApiException {
+        StringWriter writer = new StringWriter();
+        try {
+            sourceWriter.writeTo(writer);
+        } catch (IOException e) {
+            throw new BallerinaAsyncApiException("Could not write the contents to the relevant path: " + filePath, e);
+        }
+        writeToFile(filePath, writer.toString());
+        return true;
+    }
+
+    @Override
+    public synchronized void deleteFile(String filePath) throws BallerinaAsyncApiException {
+        writtenFiles.remove(filePath);
     }
 
     @Override
@@ -55,7 +87,21 @@ public class MockFileRepositoryImpl implements FileRepository {
         return true;
     }
 
-    public int getWriteCount() {
+    @Override
+    public JsonNode getJsonTreeFromFile(String filePath) throws BallerinaAsyncApiException {
+        return fileRepository.getYamlTreeFromFile(SPEC_PATH);
+    }
+
+    @Override
+    public JsonNode getYamlTreeFromFile(String filePath) throws BallerinaAsyncApiException {
+        return fileRepository.getYamlTreeFromFile(SPEC_PATH);
+    }
+
+    public synchronized int getWriteCount() {
         return writeCount;
     }
+
+    public synchronized Map<String, String> getWrittenFiles() {
+        return writtenFiles;
+    }
 }
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import io.ballerina.asyncapi.codegenerator.repository.SpecParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Test the generation of the listener on the changes of the spec.
+ */
+public class SpecWatcherTest {
+    private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    @Test(description = "Test whether the listener is generated again when the spec is changed")
+    public void testWatch() throws IOException, InterruptedException {
+        Path workDir = Files.createTempDirectory("asyncapi-watch-test-" + System.nanoTime());
+        Path spec = Files.copy(Paths.get("src/test/resources/specs/spec-complete-slack.yml"),
+                workDir.resolve("spec.yml"));
+        Path outputDir = workDir.resolve("out");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        SpecWatcher specWatcher = new SpecWatcher(new FileRepositoryImpl(), new GenerationOptions(),
+                new PrintStream(output, true, StandardCharsets.UTF_8), 100);
+        Thread watcherThread = new Thread(() -> {
+            try {
+                specWatcher.watch(spec.toString(), outputDir.toString());
+            } catch (BallerinaAsyncApiException e) {
+                Assert.fail(e.getMessage(), e);
+            }
+        });
+        watcherThread.start();
+        try {
+            Path serviceTypesFile = outputDir.resolve(Constants.SERVICE_TYPES_BAL_FILE_NAME);
+            waitFor(() -> output.toString(StandardCharsets.UTF_8).contains("Watching"));
+            Assert.assertTrue(Files.readString(serviceTypesFile).contains("AppCreatedHandlingService"));
+            String dataTypesContent = Files.readString(outputDir.resolve(Constants.DATA_TYPES_BAL_FILE_NAME));
+
+            output.reset();
+            Files.writeString(spec, Files.readString(spec)
+                    .replace("AppCreatedHandlingService", "AppInstalledHandlingService"));
+            waitFor(() -> output.toString(StandardCharsets.UTF_8).contains("Following files are up to date"));
+
+            Assert.assertTrue(Files.readString(serviceTypesFile).contains("AppInstalledHandlingService"));
+            // Only the files depending on the channels have been generated again
+            Assert.assertTrue(output.toString(StandardCharsets.UTF_8).contains(
+                    "Following files are up to date:\n--" + Constants.DATA_TYPES_BAL_FILE_NAME));
+            Assert.assertEquals(Files.readString(outputDir.resolve(Constants.DATA_TYPES_BAL_FILE_NAME)),
+                    dataTypesContent);
+        } finally {
+            specWatcher.close();
+            watcherThread.join(TIMEOUT_MILLIS);
+            try (Stream<Path> paths = Files.walk(workDir)) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+        Assert.assertFalse(watcherThread.isAlive());
+    }
+
+    @Test(description = "Test the functionality of the 'getReferencedFiles' function")
+    public void testGetReferencedFiles() throws IOException {
+        JsonNode spec = SpecParser.getDefaultInstance().readYamlTree(String.join("\n",
+                "components:",
+                "  schemas:",
+                "    Local:",
+                "      $ref: '#/components/schemas/Other'",
+                "    External:",
+                "      $ref: 'schemas/external.yaml#/External'",
+                "    Remote:",
+                "      $ref: 'https://example.com/remote.yaml'",
+                "    Nested:",
+                "      properties:",
+                "        field:",
+                "          $ref: '../common.json'"));
+        Path specDirectory = Paths.get("specs").toAbsolutePath();
+
+        Assert.assertEquals(SpecWatcher.getReferencedFiles(spec, specDirectory), Set.of(
+                specDirectory.resolve("schemas/external.yaml"), specDirectory.resolve("../common.json").normalize()));
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                Assert.fail("Timed out waiting for the listener to be generated");
+            }
+            Thread.sleep(50);
+        }
+    }
+}
@@ -18,12 +18,18 @@
 
 package io.ballerina.asyncapi.codegenerator.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Test the functionality and flow control of the data extraction process.
  */
@@ -86,4 +92,46 @@ public class AsyncApiSpecControllerTest {
         Assert.assertEquals(specController.getEventIdentifierType(), "body");
         Assert.assertEquals(specController.getEventIdentifierPath(), "event.'type");
     }
+
+    @Test(description = "Test whether the spec read from a YAML tree is the same as the spec read from a JSON string")
+    public void testConstructFromYamlTree() throws BallerinaAsyncApiException {
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml"));
+        SpecController specControllerFromString = new AsyncApiSpecController(asyncApiSpecJson);
+        JsonNode asyncApiSpecTree = fileRepository
+                .getYamlTreeFromFile("src/test/resources/specs/spec-complete-slack.yml");
+        SpecController specControllerFromTree = new AsyncApiSpecController(asyncApiSpecTree);
+
+        Assert.assertEquals(getServiceTypeNames(specControllerFromTree.getServiceTypes()),
+                getServiceTypeNames(specControllerFromString.getServiceTypes()));
+        Assert.assertEquals(specControllerFromTree.getSchemas().keySet(),
+                specControllerFromString.getSchemas().keySet());
+        Assert.assertEquals(specControllerFromTree.getEventIdentifierType(),
+                specControllerFromString.getEventIdentifierType());
+        Assert.assertEquals(specControllerFromTree.getEventIdentifierPath(),
+                specControllerFromString.getEventIdentifierPath());
+        Assert.assertEquals(specControllerFromTree.getInputHashes(), specControllerFromString.getInputHashes());
+    }
+
+    @Test(description = "Test the functionality of reading the spec from a JSON tree")
+    public void testConstructFromJsonTree() throws BallerinaAsyncApiException {
+        JsonNode asyncApiSpecTree = fileRepository
+                .getJsonTreeFromFile("src/test/resources/specs/spec-complete-slack.json");
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecTree);
+
+        Assert.assertEquals(getServiceTypeNames(specController.getServiceTypes()), List.of(
+                "AppMentionHandlingService", "AppRateLimitedHandlingService", "AppCreatedHandlingService"));
+        Assert.assertEquals(specController.getEventIdentifierPath(), "event.'type");
+    }
+
+    @Test(description = "Test reading the spec from a JSON tree, which is not an object",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "The AsyncAPI specification should be an object")
+    public void testConstructFromNonObjectTree() throws BallerinaAsyncApiException {
+        new AsyncApiSpecController(JsonNodeFactory.instance.arrayNode());
+    }
+
+    private List<String> getServiceTypeNames(List<ServiceType> serviceTypes) {
+        return serviceTypes.stream().map(ServiceType::getServiceTypeName).collect(Collectors.toList());
+    }
 }
@@ -20,9 +20,11 @@ package io.ballerina.asyncapi.codegenerator.controller;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
 import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
@@ -32,14 +34,18 @@ import java.util.ArrayList;
  */
 public class DispatcherControllerTest {
     FileRepository fileRepository = new FileRepositoryImpl();
+    SpecController specController;
 
-    @Test(description = "Test the functionality of the 'generateBalCode' function")
-    public void testGenerateBalCode() throws BallerinaAsyncApiException {
+    @BeforeClass
+    public void setup() throws BallerinaAsyncApiException {
         String asyncApiSpecStr = fileRepository
                 .getFileContentFromResources("specs/spec-complete-slack.yml");
         String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
-        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+        this.specController = new AsyncApiSpecController(asyncApiSpecJson);
+    }
 
+    @Test(description = "Test the functionality of the 'generateBalCode' function")
+    public void testGenerateBalCode() throws BallerinaAsyncApiException {
         String dispatcherTemplate = fileRepository
                 .getFileContentFromResources(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME);
         String dispatcherResult = fileRepository
@@ -50,6 +56,96 @@ public class DispatcherControllerTest {
         Assert.assertEquals(dispatcherController.generateBalCode(dispatcherTemplate), dispatcherResult);
     }
 
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the routing table")
+    public void testGenerateBalCodeWithRouteTable() throws BallerinaAsyncApiException {
+        GenerationOptions options = new GenerationOptions();
+        options.setRouteTable(true);
+        BalController dispatcherController = new DispatcherController(
+                specController.getServiceTypes(), specController.getEventIdentifierType(),
+                specController.getEventIdentifierPath(), options);
+        assertGeneratedCode(dispatcherController, Constants.DISPATCHER_SERVICE_BAL_FILE_NAME,
+                "dispatcher_service_route_table.bal");
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the per event conversion")
+    public void testGenerateBalCodeWithPerEventConversion() throws BallerinaAsyncApiException {
+        GenerationOptions options = new GenerationOptions();
+        options.setPerEventConversion(true);
+        BalController dispatcherController = new DispatcherController(
+                specController.getServiceTypes(), specController.getEventIdentifierType(),
+                specController.getEventIdentifierPath(), options);
+        assertGeneratedCode(dispatcherController, Constants.DISPATCHER_SERVICE_BAL_FILE_NAME,
+                "dispatcher_service_per_event_conversion.bal");
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the dispatch limits")
+    public void testGenerateBalCodeWithDispatchLimits() throws BallerinaAsyncApiException {
+        GenerationOptions options = new GenerationOptions();
+        options.setDispatchLimits(true);
+        BalController dispatcherController = new DispatcherController(
+                specController.getServiceTypes(), specController.getEventIdentifierType(),
+                specController.getEventIdentifierPath(), options);
+        assertGeneratedCode(dispatcherController, Constants.DISPATCHER_SERVICE_BAL_FILE_NAME,
+                "dispatcher_service_dispatch_limits.bal");
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the async ack template, " +
+            "where the events are admitted before those are acknowledged, hence a rejected event is responded with 503")
+    public void testGenerateBalCodeWithAsyncAck() throws BallerinaAsyncApiException {
+        GenerationOptions options = new GenerationOptions();
+        options.setDispatchLimits(true);
+        BalController dispatcherController = new DispatcherController(
+                specController.getServiceTypes(), specController.getEventIdentifierType(),
+                specController.getEventIdentifierPath(), options);
+        assertGeneratedCode(dispatcherController,
+                Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_BODY_WITH_ASYNC_ACK,
+                "dispatcher_service_async_ack_dispatch_limits.bal");
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the async ack, where the " +
+            "graceful stop waits for the events being dispatched for at most the drain timeout")
+    public void testGenerateBalCodeWithAsyncAckDrainTimeout() throws BallerinaAsyncApiException {
+        GenerationOptions options = new GenerationOptions();
+        options.setAsyncAck(true);
+        BalController dispatcherController = new DispatcherController(
+                specController.getServiceTypes(), specController.getEventIdentifierType(),
+                specController.getEventIdentifierPath(), options);
+        assertGeneratedCode(dispatcherController,
+                Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_BODY_WITH_ASYNC_ACK,
+                "dispatcher_service_async_ack_drain_timeout.bal");
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with an event dedup path")
+    public void testGenerateBalCodeWithDedupPath() throws BallerinaAsyncApiException {
+        BalController dispatcherController = new DispatcherController(
+                specController.getServiceTypes(), specController.getEventIdentifierType(),
+                specController.getEventIdentifierPath(), "event_id", new GenerationOptions());
+        assertGeneratedCode(dispatcherController, Constants.DISPATCHER_SERVICE_BAL_FILE_NAME,
+                "dispatcher_service_dedup.bal");
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with an event dedup path and the " +
+            "dispatch limits, where the key of a rejected event is forgotten so that its retry is dispatched")
+    public void testGenerateBalCodeWithDedupPathAndDispatchLimits() throws BallerinaAsyncApiException {
+        GenerationOptions options = new GenerationOptions();
+        options.setDispatchLimits(true);
+        BalController dispatcherController = new DispatcherController(
+                specController.getServiceTypes(), specController.getEventIdentifierType(),
+                specController.getEventIdentifierPath(), "event_id", options);
+        assertGeneratedCode(dispatcherController, Constants.DISPATCHER_SERVICE_BAL_FILE_NAME,
+                "dispatcher_service_dedup_dispatch_limits.bal");
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the event identifier in the " +
+            "header, where the unimplemented events are acknowledged by the header value")
+    public void testGenerateBalCodeWithEventIdentifierInHeader() throws BallerinaAsyncApiException {
+        BalController dispatcherController = new DispatcherController(specController.getServiceTypes(),
+                Constants.X_BALLERINA_EVENT_TYPE_HEADER, "event-name");
+        assertGeneratedCode(dispatcherController,
+                Constants.DISPATCHER_SERVICE_BAL_FILE_NAME_FOR_EVENT_IDENTIFIER_IN_HEADER,
+                "dispatcher_service_event_identifier_in_header.bal");
+    }
+
     @Test(description = "Test the functionality of the generate function " +
             "when the there is no resource function named as '.' in the dispatcher_service.bal template",
             expectedExceptions = BallerinaAsyncApiException.class,
@@ -60,4 +156,20 @@ public class DispatcherControllerTest {
                 Constants.X_BALLERINA_EVENT_TYPE_BODY, Constants.CLONE_WITH_TYPE_VAR_NAME);
         dispatcherController.generateBalCode("");
     }
+
+    /**
+     * Generates the dispatcher service from the given template and compares it with the expected file in
+     * expected_gen, ignoring the whitespaces, so that the test does not depend on the formatting of the code.
+     */
+    private void assertGeneratedCode(BalController dispatcherController, String templateFileName,
+                                     String expectedFileName) throws BallerinaAsyncApiException {
+        String dispatcherTemplate = fileRepository.getFileContentFromResources(templateFileName);
+        String expectedCode = fileRepository.getFileContentFromResources("expected_gen/".concat(expectedFileName));
+        Assert.assertEquals(readContent(dispatcherController.generateBalCode(dispatcherTemplate)),
+                readContent(expectedCode));
+    }
+
+    private String readContent(String code) {
+        return code.trim().replaceAll("\\s+", "");
+    }
 }
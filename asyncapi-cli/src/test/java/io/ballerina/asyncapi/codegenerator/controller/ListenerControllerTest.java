@@ -20,6 +20,7 @@ package io.ballerina.asyncapi.codegenerator.controller;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
 import org.testng.Assert;
@@ -48,6 +49,84 @@ public class ListenerControllerTest {
         Assert.assertEquals(listenerController.generateBalCode(listenerTemplate), listenerResult);
     }
 
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the dispatch limits")
+    public void testGenerateBalCodeWithDispatchLimits() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String listenerTemplate = fileRepository
+                .getFileContentFromResources(Constants.LISTENER_BAL_FILE_NAME);
+        GenerationOptions options = new GenerationOptions();
+        options.setDispatchLimits(true);
+        BalController listenerController = new ListenerController(specController.getServiceTypes(), options);
+        String listenerCode = listenerController.generateBalCode(listenerTemplate).replaceAll("\\s+", "");
+
+        Assert.assertTrue(listenerCode.contains("publicfunctioninit(int|http:ListenerlistenOn=8090," +
+                "ListenerConfigslistenerConfigs={})returnserror?{"));
+        Assert.assertTrue(listenerCode.contains("self.dispatcherService=newDispatcherService(listenerConfigs);"));
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with an event dedup path")
+    public void testGenerateBalCodeWithDedupPath() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String listenerTemplate = fileRepository
+                .getFileContentFromResources(Constants.LISTENER_BAL_FILE_NAME);
+        BalController listenerController = new ListenerController(specController.getServiceTypes(), "event_id",
+                new GenerationOptions());
+        String listenerCode = listenerController.generateBalCode(listenerTemplate).replaceAll("\\s+", "");
+
+        Assert.assertTrue(listenerCode.contains("ListenerConfigslistenerConfigs={})returnserror?{"));
+        Assert.assertTrue(listenerCode.contains("self.dispatcherService=newDispatcherService(listenerConfigs);"));
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the async ack")
+    public void testGenerateBalCodeWithAsyncAck() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String listenerTemplate = fileRepository
+                .getFileContentFromResources(Constants.LISTENER_BAL_FILE_NAME);
+        GenerationOptions options = new GenerationOptions();
+        options.setAsyncAck(true);
+        BalController listenerController = new ListenerController(specController.getServiceTypes(), options);
+        String listenerCode = listenerController.generateBalCode(listenerTemplate).replaceAll("\\s+", "");
+
+        Assert.assertTrue(listenerCode.contains("publicisolatedfunctiongracefulStop()returns@taintederror?{" +
+                "error?stopResult=self.httpListener.gracefulStop();" +
+                "checkself.dispatcherService.waitForInFlightDispatches();returnstopResult;}"));
+        // The drain timeout is given in the ListenerConfigs, which is passed to the dispatcher service
+        Assert.assertTrue(listenerCode.contains("ListenerConfigslistenerConfigs={})returnserror?{"));
+        Assert.assertTrue(listenerCode.contains("self.dispatcherService=newDispatcherService(listenerConfigs);"));
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the flat service type tests")
+    public void testGenerateBalCodeWithFlatServiceTypeTests() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String listenerTemplate = fileRepository
+                .getFileContentFromResources(Constants.LISTENER_BAL_FILE_NAME);
+        GenerationOptions options = new GenerationOptions();
+        options.setFlatServiceTypeTests(true);
+        BalController listenerController = new ListenerController(specController.getServiceTypes(), options);
+        String listenerCode = listenerController.generateBalCode(listenerTemplate).replaceAll("\\s+", "");
+
+        Assert.assertTrue(listenerCode.contains("getServiceTypeStr(GenericServiceTypeserviceRef)returnsstring{" +
+                "ifserviceRefisAppMentionHandlingService{return\"AppMentionHandlingService\";}" +
+                "ifserviceRefisAppRateLimitedHandlingService{return\"AppRateLimitedHandlingService\";}"));
+        Assert.assertFalse(listenerCode.contains("elseifserviceRefis"));
+    }
+
     @Test(description = "Test the functionality of the generate function " +
             "when the there is no function named as 'getServiceTypeStr' in the listener.bal template",
             expectedExceptions = BallerinaAsyncApiException.class,
@@ -20,11 +20,14 @@ package io.ballerina.asyncapi.codegenerator.controller;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.HashMap;
+
 /**
  * Test the functionality and flow control of the data extraction process.
  */
@@ -46,4 +49,94 @@ public class SchemaControllerTest {
         BalController schemaController = new SchemaController(specController.getSchemas());
         Assert.assertEquals(schemaController.generateBalCode(dataTypesTemplate), schemaResult);
     }
+
+    @Test(description = "Test that the direct emit generates the same code as the formatter")
+    public void testGenerateBalCodeWithDirectEmit() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String dataTypesTemplate = fileRepository
+                .getFileContentFromResources(Constants.DATA_TYPES_BAL_FILE_NAME);
+        String schemaResult = fileRepository
+                .getFileContentFromResources("expected_gen/".concat(Constants.DATA_TYPES_BAL_FILE_NAME));
+        GenerationOptions options = new GenerationOptions();
+        options.setDirectEmit(true);
+        options.setValidateDirectEmit(true);
+        BalController schemaController = new SchemaController(specController.getSchemas(), options);
+        Assert.assertEquals(schemaController.generateBalCode(dataTypesTemplate), schemaResult);
+
+        options.setDispatchLimits(true);
+        BalController schemaControllerWithDispatchLimits =
+                new SchemaController(specController.getSchemas(), "event_id", options);
+        String schemaCode = schemaControllerWithDispatchLimits.generateBalCode(dataTypesTemplate)
+                .replaceAll("\\s+", "");
+        Assert.assertTrue(schemaCode.contains("publictypeListenerConfigsrecord{" +
+                "*handler:DispatchLimits;*handler:DedupConfigs;}"));
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the dispatch limits")
+    public void testGenerateBalCodeWithDispatchLimits() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String dataTypesTemplate = fileRepository
+                .getFileContentFromResources(Constants.DATA_TYPES_BAL_FILE_NAME);
+        GenerationOptions options = new GenerationOptions();
+        options.setDispatchLimits(true);
+        BalController schemaController = new SchemaController(specController.getSchemas(), options);
+        String schemaCode = schemaController.generateBalCode(dataTypesTemplate).replaceAll("\\s+", "");
+
+        Assert.assertTrue(schemaCode.startsWith("importballerinax/asyncapi.native.handler;"));
+        Assert.assertTrue(schemaCode.contains("publictypeListenerConfigsrecord{*handler:DispatchLimits;}"));
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with the async ack")
+    public void testGenerateBalCodeWithAsyncAck() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String dataTypesTemplate = fileRepository
+                .getFileContentFromResources(Constants.DATA_TYPES_BAL_FILE_NAME);
+        GenerationOptions options = new GenerationOptions();
+        options.setAsyncAck(true);
+        BalController schemaController = new SchemaController(specController.getSchemas(), options);
+        String schemaCode = schemaController.generateBalCode(dataTypesTemplate).replaceAll("\\s+", "");
+
+        Assert.assertTrue(schemaCode.contains("publictypeListenerConfigsrecord{*handler:DrainConfigs;}"));
+    }
+
+    @Test(description = "Test the functionality of the 'generateBalCode' function with an event dedup path")
+    public void testGenerateBalCodeWithDedupPath() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String dataTypesTemplate = fileRepository
+                .getFileContentFromResources(Constants.DATA_TYPES_BAL_FILE_NAME);
+        GenerationOptions options = new GenerationOptions();
+        options.setDispatchLimits(true);
+        BalController schemaController = new SchemaController(specController.getSchemas(), "event_id", options);
+        String schemaCode = schemaController.generateBalCode(dataTypesTemplate).replaceAll("\\s+", "");
+
+        Assert.assertTrue(schemaCode.contains("publictypeListenerConfigsrecord{" +
+                "*handler:DispatchLimits;*handler:DedupConfigs;}"));
+    }
+
+    @Test(description = "Test the functionality of the generate function with the dispatch limits " +
+            "when the there is no record named as 'ListenerConfigs' in the data_types.bal template",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "Record 'ListenerConfigs', is not found in the data_types.bal")
+    public void testGenerateWithDispatchLimitsAndInvalidTemplate() throws BallerinaAsyncApiException {
+        GenerationOptions options = new GenerationOptions();
+        options.setDispatchLimits(true);
+        BalController schemaController = new SchemaController(new HashMap<>(), options);
+        schemaController.generateBalCode("");
+    }
 }
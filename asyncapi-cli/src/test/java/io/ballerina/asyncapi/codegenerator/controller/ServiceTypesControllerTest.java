@@ -20,6 +20,7 @@ package io.ballerina.asyncapi.codegenerator.controller;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.configuration.GenerationOptions;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
 import org.testng.Assert;
@@ -44,4 +45,21 @@ public class ServiceTypesControllerTest {
         BalController serviceTypesController = new ServiceTypesController(specController.getServiceTypes());
         Assert.assertEquals(serviceTypesController.generateBalCode(""), serviceTypesResult);
     }
+
+    @Test(description = "Test that the direct emit generates the same code as the formatter")
+    public void testGenerateBalCodeWithDirectEmit() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+
+        String serviceTypesResult = fileRepository
+                .getFileContentFromResources("expected_gen/".concat(Constants.SERVICE_TYPES_BAL_FILE_NAME));
+        GenerationOptions options = new GenerationOptions();
+        options.setDirectEmit(true);
+        options.setValidateDirectEmit(true);
+        BalController serviceTypesController = new ServiceTypesController(specController.getServiceTypes(), options);
+        Assert.assertEquals(serviceTypesController.generateBalCode(Constants.EMPTY_BALLERINA_FILE_CONTENT),
+                serviceTypesResult);
+    }
 }
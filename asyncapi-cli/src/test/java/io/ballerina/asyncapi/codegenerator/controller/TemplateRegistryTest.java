@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.controller;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test the parsing and sharing of the Ballerina templates.
+ */
+public class TemplateRegistryTest {
+    FileRepository fileRepository = new FileRepositoryImpl();
+
+    @Test(description = "Test that each template is read and parsed only once")
+    public void testGetTemplate() throws BallerinaAsyncApiException {
+        AtomicInteger readCount = new AtomicInteger();
+        FileRepository countingFileRepository = new FileRepositoryImpl() {
+            @Override
+            public String getFileContentFromResources(String fileName) throws BallerinaAsyncApiException {
+                readCount.incrementAndGet();
+                return super.getFileContentFromResources(fileName);
+            }
+        };
+        TemplateRegistry templateRegistry = new TemplateRegistry(countingFileRepository);
+
+        BalTemplate listenerTemplate = templateRegistry.getTemplate(Constants.LISTENER_BAL_FILE_NAME);
+        Assert.assertSame(templateRegistry.getTemplate(Constants.LISTENER_BAL_FILE_NAME), listenerTemplate);
+        Assert.assertEquals(readCount.get(), 1);
+        Assert.assertEquals(listenerTemplate.getContent(),
+                fileRepository.getFileContentFromResources(Constants.LISTENER_BAL_FILE_NAME));
+        Assert.assertNotSame(templateRegistry.getTemplate(Constants.DATA_TYPES_BAL_FILE_NAME), listenerTemplate);
+        Assert.assertEquals(readCount.get(), 2);
+    }
+
+    @Test(description = "Test that the functions of the template classes are located when the template is parsed")
+    public void testGetClassFunction() throws BallerinaAsyncApiException {
+        BalTemplate dispatcherTemplate = new TemplateRegistry(fileRepository)
+                .getTemplate(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME);
+
+        FunctionDefinitionNode postFunction = dispatcherTemplate.getClassFunction(dispatcherTemplate.getRootNode(),
+                SyntaxKind.RESOURCE_ACCESSOR_DEFINITION, Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME);
+        Assert.assertNotNull(postFunction);
+        Assert.assertSame(postFunction, BalTemplate.findClassFunction(dispatcherTemplate.getRootNode(),
+                SyntaxKind.RESOURCE_ACCESSOR_DEFINITION, Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME));
+        Assert.assertNull(dispatcherTemplate.getClassFunction(dispatcherTemplate.getRootNode(),
+                SyntaxKind.OBJECT_METHOD_DEFINITION, Constants.DISPATCHER_SERVICE_POST_FUNCTION_NAME));
+    }
+
+    @Test(description = "Test that the same parsed template generates the same code, when it is used concurrently")
+    public void testGenerateBalCodeWithSharedTemplate()
+            throws BallerinaAsyncApiException, InterruptedException, ExecutionException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        SpecController specController = new AsyncApiSpecController(asyncApiSpecJson);
+        String dispatcherResult = fileRepository
+                .getFileContentFromResources("expected_gen/".concat(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME));
+        BalTemplate dispatcherTemplate = new TemplateRegistry(fileRepository)
+                .getTemplate(Constants.DISPATCHER_SERVICE_BAL_FILE_NAME);
+
+        List<Callable<String>> generationTasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            generationTasks.add(() -> new DispatcherController(specController.getServiceTypes(),
+                    specController.getEventIdentifierType(), specController.getEventIdentifierPath())
+                    .generateBalCode(dispatcherTemplate));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (Future<String> result : executor.invokeAll(generationTasks)) {
+                Assert.assertEquals(result.get(), dispatcherResult);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
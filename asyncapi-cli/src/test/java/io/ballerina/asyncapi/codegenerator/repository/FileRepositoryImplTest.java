@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.repository;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test the writing of the generated files.
+ */
+public class FileRepositoryImplTest {
+    private final FileRepository fileRepository = new FileRepositoryImpl();
+    private Path outputDir;
+
+    @BeforeMethod
+    public void createOutputDir() throws IOException {
+        outputDir = Files.createTempDirectory("asyncapi-file-repository-test-out-" + System.nanoTime());
+    }
+
+    @AfterMethod
+    public void deleteOutputDir() throws IOException {
+        try (Stream<Path> paths = Files.walk(outputDir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test(description = "Test whether the source is streamed into the file")
+    public void testWriteToFileWithSourceWriter() throws BallerinaAsyncApiException, IOException {
+        Path filePath = outputDir.resolve("nested").resolve("data_types.bal");
+        boolean written = fileRepository.writeToFile(filePath.toString(), writer -> {
+            for (int i = 0; i < 3; i++) {
+                writer.write("public type Record" + i + " record {};\n");
+            }
+        });
+
+        Assert.assertTrue(written);
+        Assert.assertEquals(Files.readString(filePath),
+                "public type Record0 record {};\npublic type Record1 record {};\npublic type Record2 record {};\n");
+        Assert.assertEquals(listFileNames(filePath.getParent()), List.of("data_types.bal"));
+    }
+
+    @Test(description = "Test whether a file with the same content is not written again")
+    public void testWriteToFileWithUnchangedContent() throws BallerinaAsyncApiException, IOException {
+        Path filePath = outputDir.resolve("data_types.bal");
+        fileRepository.writeToFile(filePath.toString(), "public type Record record {};\n");
+        FileTime lastModifiedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(filePath, lastModifiedTime);
+
+        boolean written = fileRepository.writeToFile(filePath.toString(),
+                SourceWriter.of("public type Record record {};\n"));
+
+        Assert.assertFalse(written);
+        Assert.assertEquals(Files.getLastModifiedTime(filePath), lastModifiedTime);
+        Assert.assertEquals(listFileNames(outputDir), List.of("data_types.bal"));
+
+        written = fileRepository.writeToFile(filePath.toString(), SourceWriter.of("public type Record record {}"));
+        Assert.assertTrue(written);
+        Assert.assertEquals(Files.readString(filePath), "public type Record record {}");
+    }
+
+    @Test(description = "Test whether the existing file is kept as it is, when writing the source fails")
+    public void testWriteToFileWithFailingSourceWriter() throws BallerinaAsyncApiException, IOException {
+        Path filePath = outputDir.resolve("data_types.bal");
+        fileRepository.writeToFile(filePath.toString(), "public type Record record {};\n");
+
+        try {
+            fileRepository.writeToFile(filePath.toString(), writer -> {
+                writer.write("public type Partial");
+                throw new IOException("Could not generate");
+            });
+            Assert.fail("The error of the source writer is not reported");
+        } catch (BallerinaAsyncApiException e) {
+            Assert.assertEquals(e.getMessage(),
+                    "Could not write the contents to the relevant path: " + filePath);
+        }
+
+        Assert.assertEquals(Files.readString(filePath), "public type Record record {};\n");
+        Assert.assertEquals(listFileNames(outputDir), List.of("data_types.bal"));
+    }
+
+    private List<String> listFileNames(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.map(path -> path.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+}
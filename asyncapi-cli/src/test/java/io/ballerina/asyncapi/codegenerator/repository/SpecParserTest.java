@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test the parsing of the specifications into JSON trees.
+ */
+public class SpecParserTest {
+    private final FileRepository fileRepository = new FileRepositoryImpl();
+    private final SpecParser specParser = SpecParser.getDefaultInstance();
+
+    @Test(description = "Test whether the YAML tree is the same as the tree of the converted JSON")
+    public void testReadYamlTree() throws BallerinaAsyncApiException, IOException {
+        String asyncApiSpecYaml = fileRepository.getFileContentFromResources("specs/spec-complete-slack.yml");
+        JsonNode yamlTree = specParser.readYamlTree(new ByteArrayInputStream(
+                asyncApiSpecYaml.getBytes(StandardCharsets.UTF_8)));
+
+        Assert.assertEquals(yamlTree, specParser.readJsonTree(fileRepository.convertYamlToJson(asyncApiSpecYaml)));
+        Assert.assertEquals(yamlTree.get("asyncapi").asText(), "2.1.0");
+    }
+
+    @Test(description = "Test whether the duplicate keys are rejected while reading the JSON tree",
+            expectedExceptions = JsonProcessingException.class,
+            expectedExceptionsMessageRegExp = "Duplicate field 'type'.*")
+    public void testReadJsonTreeWithDuplicateKeys() throws JsonProcessingException {
+        specParser.readJsonTree("{\"type\": \"body\", \"type\": \"header\"}");
+    }
+
+    @Test(description = "Test whether the duplicate keys are rejected while reading the JSON file",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "Error parsing the json, please validate the json file")
+    public void testValidateJsonWithDuplicateKeys() throws BallerinaAsyncApiException {
+        fileRepository.validateJson("{\"type\": \"body\", \"type\": \"header\"}");
+    }
+
+    @Test(description = "Test whether a shared parser can be used by multiple threads at once")
+    public void testReadYamlTreeConcurrently()
+            throws BallerinaAsyncApiException, IOException, InterruptedException, ExecutionException {
+        String asyncApiSpecYaml = fileRepository.getFileContentFromResources("specs/spec-complete-slack.yml");
+        JsonNode expectedTree = specParser.readYamlTree(asyncApiSpecYaml);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<JsonNode>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> specParser.readYamlTree(asyncApiSpecYaml)));
+            }
+            for (Future<JsonNode> future : futures) {
+                Assert.assertEquals(future.get(), expectedTree);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
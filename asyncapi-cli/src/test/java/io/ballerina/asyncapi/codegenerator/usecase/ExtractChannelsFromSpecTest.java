@@ -25,6 +25,8 @@ import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiExcept
 import io.ballerina.asyncapi.codegenerator.entity.MultiChannel;
 import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
 import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.asyncapi.codegenerator.fixtures.HeapUsage;
+import io.ballerina.asyncapi.codegenerator.fixtures.SyntheticSpecGenerator;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
 import org.testng.Assert;
@@ -186,4 +188,22 @@ public class ExtractChannelsFromSpecTest {
         Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
         extractServiceTypes.extract();
     }
+
+    @Test(
+            description = "Test whether the memory needed to extract the channels of a large spec is bounded",
+            groups = "large-spec"
+    )
+    public void testExtractWithLargeSpec() throws Exception {
+        AaiDocument asyncApiSpec =
+                (Aai20Document) Library.readDocumentFromJSONString(SyntheticSpecGenerator.largeSpec());
+        Extractor extractServiceTypes = new ExtractChannelsFromSpec(asyncApiSpec);
+        HeapUsage<MultiChannel> heapUsage = HeapUsage.measure(extractServiceTypes::extract, 3);
+        MultiChannel multiChannel = heapUsage.getResult();
+
+        Assert.assertEquals(multiChannel.getServiceTypes().size(), 2000);
+        Assert.assertEquals(multiChannel.getServiceTypes().get(0).getRemoteFunctions().size(), 2);
+        Assert.assertFalse(multiChannel.getInlineSchemas().isEmpty());
+        Assert.assertTrue(heapUsage.getPeakHeapGrowth() < SyntheticSpecGenerator.LARGE_SPEC_HEAP_CEILING,
+                "Extracting the channels took " + heapUsage.getPeakHeapGrowth() + " bytes of heap");
+    }
 }
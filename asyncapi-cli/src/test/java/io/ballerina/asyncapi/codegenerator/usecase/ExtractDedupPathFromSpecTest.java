@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.asyncapi.models.AaiDocument;
+import io.apicurio.datamodels.asyncapi.v2.models.Aai20Document;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test the extraction of the event dedup path from the AsyncAPI specification.
+ */
+public class ExtractDedupPathFromSpecTest {
+    FileRepository fileRepository = new FileRepositoryImpl();
+
+    @Test(
+            description = "Test the functionality of the extract function " +
+                    "when the Async API spec contains the x-ballerina-event-dedup-path attribute"
+    )
+    public void testExtractWithDedupPath() throws BallerinaAsyncApiException {
+        Extractor extractDedupPathFromSpec = new ExtractDedupPathFromSpec(
+                readSpec("specs/spec-with-event-dedup-path.yml"));
+        String dedupPath = extractDedupPathFromSpec.extract();
+
+        Assert.assertEquals(dedupPath, "event.id");
+    }
+
+    @Test(
+            description = "Test the functionality of the extract function " +
+                    "when the Async API spec does not contain the x-ballerina-event-dedup-path attribute"
+    )
+    public void testExtractWithoutDedupPath() throws BallerinaAsyncApiException {
+        Extractor extractDedupPathFromSpec = new ExtractDedupPathFromSpec(
+                readSpec("specs/spec-with-identifier-path.yml"));
+        String dedupPath = extractDedupPathFromSpec.extract();
+
+        Assert.assertEquals(dedupPath, "");
+    }
+
+    @Test(
+            description = "Test the functionality of the extract function " +
+                    "when the x-ballerina-event-dedup-path attribute is not a path",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "The value of the attribute x-ballerina-event-dedup-path should be " +
+                    "a path of a field in the event payload, eg: event_id"
+    )
+    public void testExtractWithInvalidDedupPath() throws BallerinaAsyncApiException {
+        Extractor extractDedupPathFromSpec = new ExtractDedupPathFromSpec(
+                readSpec("specs/spec-with-invalid-event-dedup-path.yml"));
+        extractDedupPathFromSpec.extract();
+    }
+
+    private AaiDocument readSpec(String specPath) throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository.getFileContentFromResources(specPath);
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        return (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.asyncapi.models.AaiDocument;
+import io.apicurio.datamodels.asyncapi.v2.models.Aai20Document;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.configuration.Constants;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+/**
+ * Test the extraction of the input hashes from the AsyncAPI specification.
+ */
+public class ExtractInputHashesFromSpecTest {
+    FileRepository fileRepository = new FileRepositoryImpl();
+
+    @Test(description = "Test the functionality of the extract function")
+    public void testExtract() throws BallerinaAsyncApiException {
+        Map<String, String> inputHashes = extractInputHashes("specs/spec-complete-slack.yml");
+
+        Assert.assertTrue(inputHashes.containsKey(Constants.INPUT_HASH_SCHEMA_PREFIX.concat("GenericEventWrapper")));
+        Assert.assertTrue(inputHashes.containsKey(Constants.INPUT_HASH_SCHEMA_PREFIX.concat("CustomTestSchema")));
+        Assert.assertTrue(inputHashes.containsKey(Constants.X_BALLERINA_EVENT_FIELD_IDENTIFIER));
+        Assert.assertTrue(inputHashes.keySet().stream()
+                .anyMatch(key -> key.startsWith(Constants.INPUT_HASH_CHANNEL_PREFIX)));
+    }
+
+    @Test(description = "Test whether the extract function returns the same hashes for the same specification")
+    public void testExtractIsStable() throws BallerinaAsyncApiException {
+        Assert.assertEquals(extractInputHashes("specs/spec-complete-slack.yml"),
+                extractInputHashes("specs/spec-complete-slack.yml"));
+    }
+
+    @Test(description = "Test whether the hash of a schema changes when the schema is changed")
+    public void testExtractWithChangedSchema() throws BallerinaAsyncApiException {
+        Map<String, String> singleSchemaHashes = extractInputHashes("specs/spec-single-schema.yml");
+        Map<String, String> multipleSchemasHashes = extractInputHashes("specs/spec-multiple-schemas.yml");
+
+        String schemaKey = Constants.INPUT_HASH_SCHEMA_PREFIX.concat("GenericEventWrapper");
+        Assert.assertNotEquals(singleSchemaHashes.get(schemaKey), multipleSchemasHashes.get(schemaKey));
+    }
+
+    @Test(description = "Test whether the event dedup path is hashed when the specification declares it")
+    public void testExtractWithDedupPath() throws BallerinaAsyncApiException {
+        Assert.assertTrue(extractInputHashes("specs/spec-with-event-dedup-path.yml")
+                .containsKey(Constants.X_BALLERINA_EVENT_DEDUP_PATH));
+        Assert.assertFalse(extractInputHashes("specs/spec-complete-slack.yml")
+                .containsKey(Constants.X_BALLERINA_EVENT_DEDUP_PATH));
+    }
+
+    private Map<String, String> extractInputHashes(String specPath) throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository.getFileContentFromResources(specPath);
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractInputHashes = new ExtractInputHashesFromSpec(asyncApiSpec);
+        return extractInputHashes.extract();
+    }
+}
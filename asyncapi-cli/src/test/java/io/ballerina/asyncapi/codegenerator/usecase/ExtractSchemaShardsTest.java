@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.asyncapi.models.AaiDocument;
+import io.apicurio.datamodels.asyncapi.v2.models.Aai20Document;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.entity.Schema;
+import io.ballerina.asyncapi.codegenerator.fixtures.SyntheticSpecGenerator;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Test the partitioning of the schemas into shards.
+ */
+public class ExtractSchemaShardsTest {
+    FileRepository fileRepository = new FileRepositoryImpl();
+
+    @Test(
+            description = "Test the functionality of the extract function " +
+                    "when the schemas referring to each other fit into a shard"
+    )
+    public void testExtractWithReferencesInShard() throws BallerinaAsyncApiException {
+        Extractor extractSchemaShards = new ExtractSchemaShards(readSchemas(), 2);
+        List<Map<String, Schema>> shards = extractSchemaShards.extract();
+
+        Assert.assertEquals(shards.size(), 1);
+        Assert.assertEquals(shards.get(0).keySet(), Set.of("CustomTestSchema", "GenericEventWrapper"));
+    }
+
+    @Test(
+            description = "Test the functionality of the extract function " +
+                    "when the schemas referring to each other do not fit into a shard"
+    )
+    public void testExtractWithReferencesAcrossShards() throws BallerinaAsyncApiException {
+        Extractor extractSchemaShards = new ExtractSchemaShards(readSchemas(), 1);
+        List<Map<String, Schema>> shards = extractSchemaShards.extract();
+
+        Assert.assertEquals(shards.size(), 2);
+        Assert.assertEquals(shards.get(0).size(), 1);
+        Assert.assertEquals(shards.get(1).size(), 1);
+        Set<String> schemaNames = new HashSet<>(shards.get(0).keySet());
+        schemaNames.addAll(shards.get(1).keySet());
+        Assert.assertEquals(schemaNames, Set.of("CustomTestSchema", "GenericEventWrapper"));
+    }
+
+    @Test(
+            description = "Test the functionality of the extract function " +
+                    "when the schemas do not refer to each other"
+    )
+    public void testExtractWithoutReferences() throws BallerinaAsyncApiException {
+        SyntheticSpecGenerator specGenerator = new SyntheticSpecGenerator();
+        specGenerator.setChannelCount(10);
+        Map<String, Schema> schemas = readSchemas(specGenerator.generate());
+        Extractor extractSchemaShards = new ExtractSchemaShards(schemas, 3);
+        List<Map<String, Schema>> shards = extractSchemaShards.extract();
+
+        Assert.assertEquals(shards.size(), 4);
+        Assert.assertEquals(shards.get(0).size(), 3);
+        Assert.assertEquals(shards.get(1).size(), 3);
+        Assert.assertEquals(shards.get(2).size(), 3);
+        Assert.assertEquals(shards.get(3).size(), 1);
+    }
+
+    @Test(
+            description = "Test whether the schemas are kept in the same shard as the shared schemas " +
+                    "those refer to, when those fit into a shard"
+    )
+    public void testExtractWithSharedSchemas() throws BallerinaAsyncApiException {
+        SyntheticSpecGenerator specGenerator = new SyntheticSpecGenerator();
+        specGenerator.setChannelCount(200);
+        specGenerator.setSchemaDepth(2);
+        specGenerator.setRefDensity(1);
+        Map<String, Schema> schemas = readSchemas(specGenerator.generate());
+        int shardSize = 25;
+        Extractor extractSchemaShards = new ExtractSchemaShards(schemas, shardSize);
+        List<Map<String, Schema>> shards = extractSchemaShards.extract();
+
+        Map<String, Integer> shardIndexes = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            Assert.assertTrue(shards.get(i).size() <= shardSize);
+            for (String schemaName : shards.get(i).keySet()) {
+                Assert.assertNull(shardIndexes.put(schemaName, i), schemaName + " is in more than one shard");
+            }
+        }
+        Assert.assertEquals(shardIndexes.keySet(), schemas.keySet());
+
+        Map<String, Integer> referenceCounts = new HashMap<>();
+        for (Schema schema : schemas.values()) {
+            Schema nested = schema.getSchemaProperties().get("nested");
+            if (nested != null && nested.getRef() != null) {
+                referenceCounts.merge(getSchemaName(nested.getRef()), 1, Integer::sum);
+            }
+        }
+        for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
+            Schema nested = schema.getValue().getSchemaProperties().get("nested");
+            if (nested == null || nested.getRef() == null) {
+                continue;
+            }
+            String sharedSchemaName = getSchemaName(nested.getRef());
+            if (referenceCounts.get(sharedSchemaName) + 1 <= shardSize) {
+                Assert.assertEquals(shardIndexes.get(schema.getKey()), shardIndexes.get(sharedSchemaName),
+                        schema.getKey() + " is not in the shard of " + sharedSchemaName);
+            }
+        }
+    }
+
+    private String getSchemaName(String ref) {
+        return ref.substring(ref.lastIndexOf('/') + 1);
+    }
+
+    private Map<String, Schema> readSchemas() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository.getFileContentFromResources("specs/spec-complete-slack.yml");
+        return readSchemas(fileRepository.convertYamlToJson(asyncApiSpecStr));
+    }
+
+    private Map<String, Schema> readSchemas(String asyncApiSpecJson) throws BallerinaAsyncApiException {
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
+        return extractSchemasFromSpec.extract();
+    }
+}
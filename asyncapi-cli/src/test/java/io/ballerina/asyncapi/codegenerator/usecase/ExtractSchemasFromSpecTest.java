@@ -24,6 +24,8 @@ import io.apicurio.datamodels.asyncapi.models.AaiDocument;
 import io.apicurio.datamodels.asyncapi.v2.models.Aai20Document;
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
 import io.ballerina.asyncapi.codegenerator.entity.Schema;
+import io.ballerina.asyncapi.codegenerator.fixtures.HeapUsage;
+import io.ballerina.asyncapi.codegenerator.fixtures.SyntheticSpecGenerator;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
 import org.testng.Assert;
@@ -119,4 +121,21 @@ public class ExtractSchemasFromSpecTest {
                         .getSchemaProperties().get("custom_test_schema").getRef(),
                 "#/components/schemas/CustomTestSchema");
     }
+
+    @Test(
+            description = "Test whether the memory needed to extract the schemas of a large spec is bounded",
+            groups = "large-spec"
+    )
+    public void testExtractWithLargeSpec() throws Exception {
+        AaiDocument asyncApiSpec =
+                (Aai20Document) Library.readDocumentFromJSONString(SyntheticSpecGenerator.largeSpec());
+        Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
+        HeapUsage<Map<String, Schema>> heapUsage = HeapUsage.measure(extractSchemasFromSpec::extract, 3);
+        Map<String, Schema> schemas = heapUsage.getResult();
+
+        Assert.assertFalse(schemas.isEmpty());
+        Assert.assertTrue(schemas.containsKey("Shared0"));
+        Assert.assertTrue(heapUsage.getPeakHeapGrowth() < SyntheticSpecGenerator.LARGE_SPEC_HEAP_CEILING,
+                "Extracting the schemas took " + heapUsage.getPeakHeapGrowth() + " bytes of heap");
+    }
 }
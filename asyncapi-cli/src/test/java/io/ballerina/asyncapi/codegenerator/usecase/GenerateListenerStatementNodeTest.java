@@ -19,6 +19,7 @@
 package io.ballerina.asyncapi.codegenerator.usecase;
 
 import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.compiler.syntax.tree.ElseBlockNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.IfElseStatementNode;
 import io.ballerina.compiler.syntax.tree.ReturnStatementNode;
@@ -90,4 +91,24 @@ public class GenerateListenerStatementNodeTest {
                 "elseifserviceRefisAppCreatedHandlingService{return" +
                         "\"AppCreatedHandlingService\";}else{return\"AppInstalledHandlingService\";}");
     }
+
+    @Test(description = "Test the functionality of the generate function " +
+            "when the service types list has many items")
+    public void testGenerateWithManyServiceTypes() throws BallerinaAsyncApiException {
+        List<String> serviceTypesNames = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            serviceTypesNames.add("Channel" + i + "HandlingService");
+        }
+        Generator generateListenerStatementNode = new GenerateListenerStatementNode(serviceTypesNames);
+        StatementNode statementNode = generateListenerStatementNode.generate();
+        for (int i = 0; i < serviceTypesNames.size() - 1; i++) {
+            Assert.assertTrue(statementNode instanceof IfElseStatementNode);
+            IfElseStatementNode ifElseStatementNode = (IfElseStatementNode) statementNode;
+            Assert.assertEquals(ifElseStatementNode.condition().toSourceCode(),
+                    "serviceRefisChannel" + i + "HandlingService");
+            Assert.assertTrue(ifElseStatementNode.elseBody().isPresent());
+            statementNode = ((ElseBlockNode) ifElseStatementNode.elseBody().get()).elseBody();
+        }
+        Assert.assertEquals(statementNode.toSourceCode(), "{return\"Channel4999HandlingService\";}");
+    }
 }
@@ -22,6 +22,8 @@ import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiExcept
 import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
 import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
 import io.ballerina.compiler.syntax.tree.MatchStatementNode;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.StatementNode;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -56,6 +58,26 @@ public class GenerateMatchStatementNodeTest {
                         "\"AppMentionHandlingService\",\"onAppMention\");");
     }
 
+    @Test(description = "Test the functionality of the generate function " +
+            "when the payload is converted to the record type of each event")
+    public void testGenerateWithPerEventConversion() throws BallerinaAsyncApiException {
+        List<RemoteFunction> remoteFunctions = new ArrayList<>();
+        remoteFunctions.add(new RemoteFunction("app_mention", "GenericEvent"));
+        List<ServiceType> serviceTypes = new ArrayList<>();
+        serviceTypes.add(new ServiceType("AppMentionHandlingService", remoteFunctions));
+        Generator generateMatchStatementNode =
+                new GenerateMatchStatementNode(serviceTypes, "eventIdentifier", true);
+        MatchStatementNode matchStatementNode = generateMatchStatementNode.generate();
+
+        NodeList<StatementNode> statements = matchStatementNode.matchClauses().get(0).blockStatement().statements();
+        Assert.assertEquals(statements.size(), 2);
+        Assert.assertEquals(statements.get(0).toSourceCode(),
+                "GenericEventgenericDataType=checkpayload.cloneWithType(GenericEvent);");
+        Assert.assertEquals(statements.get(1).toSourceCode(),
+                "checkself.executeRemoteFunc(genericDataType,\"app_mention\"," +
+                        "\"AppMentionHandlingService\",\"onAppMention\");");
+    }
+
     @Test(description = "Test the functionality of the generate function " +
             "when the service types list is empty",
             expectedExceptions = BallerinaAsyncApiException.class,
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
+import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.compiler.syntax.tree.ModuleVariableDeclarationNode;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test the generation of the Ballerina event routing table node.
+ */
+public class GenerateRouteTableNodeTest {
+    @Test(description = "Test the functionality of the generate function " +
+            "when the service types list is not empty")
+    public void testGenerate() throws BallerinaAsyncApiException {
+        List<RemoteFunction> appMentionFunctions = new ArrayList<>();
+        appMentionFunctions.add(new RemoteFunction("app_mention", "GenericEvent"));
+        List<RemoteFunction> appFunctions = new ArrayList<>();
+        appFunctions.add(new RemoteFunction("app_home_opened", "GenericEvent"));
+        appFunctions.add(new RemoteFunction("app_mention", "GenericEvent"));
+        List<ServiceType> serviceTypes = new ArrayList<>();
+        serviceTypes.add(new ServiceType("AppMentionHandlingService", appMentionFunctions));
+        serviceTypes.add(new ServiceType("AppService", appFunctions));
+        Generator generateRouteTableNode = new GenerateRouteTableNode(serviceTypes);
+        ModuleVariableDeclarationNode routeTableNode = generateRouteTableNode.generate();
+
+        // The event which is in more than one service type is routed to the first one
+        Assert.assertEquals(routeTableNode.toSourceCode(),
+                "finalreadonly & map<[string, string]>eventRoutes={" +
+                        "\"app_mention\":[\"AppMentionHandlingService\",\"onAppMention\"]," +
+                        "\"app_home_opened\":[\"AppService\",\"onAppHomeOpened\"]};");
+    }
+
+    @Test(description = "Test the functionality of the generate function " +
+            "when the record type of the event is added to the routes")
+    public void testGenerateWithPerEventConversion() throws BallerinaAsyncApiException {
+        List<RemoteFunction> remoteFunctions = new ArrayList<>();
+        remoteFunctions.add(new RemoteFunction("app_mention", "GenericEvent"));
+        List<ServiceType> serviceTypes = new ArrayList<>();
+        serviceTypes.add(new ServiceType("AppMentionHandlingService", remoteFunctions));
+        Generator generateRouteTableNode = new GenerateRouteTableNode(serviceTypes, true);
+        ModuleVariableDeclarationNode routeTableNode = generateRouteTableNode.generate();
+
+        Assert.assertEquals(routeTableNode.toSourceCode(),
+                "finalreadonly & map<[string, string, typedesc<GenericDataType>]>eventRoutes={" +
+                        "\"app_mention\":[\"AppMentionHandlingService\",\"onAppMention\",GenericEvent]};");
+    }
+
+    @Test(description = "Test the functionality of the generate function " +
+            "when the service types list is empty",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "No service types found, probably there are no channels defined " +
+                    "in the async api spec")
+    public void testGenerateWithEmptyServiceTypesList() throws BallerinaAsyncApiException {
+        Generator generateRouteTableNode = new GenerateRouteTableNode(new ArrayList<>());
+        generateRouteTableNode.generate();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
+import io.ballerina.asyncapi.codegenerator.entity.ServiceType;
+import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test the generation of the Ballerina table of the events of each service type.
+ */
+public class GenerateServiceEventsNodeTest {
+    @Test(description = "Test the functionality of the generate function " +
+            "when the service types list is not empty")
+    public void testGenerate() throws BallerinaAsyncApiException {
+        List<RemoteFunction> appMentionFunctions = new ArrayList<>();
+        appMentionFunctions.add(new RemoteFunction("app_mention", "GenericEvent"));
+        List<RemoteFunction> appFunctions = new ArrayList<>();
+        appFunctions.add(new RemoteFunction("app_home_opened", "GenericEvent"));
+        appFunctions.add(new RemoteFunction("app_mention", "GenericEvent"));
+        appFunctions.add(new RemoteFunction("app_uninstalled", "GenericEvent"));
+        List<ServiceType> serviceTypes = new ArrayList<>();
+        serviceTypes.add(new ServiceType("AppMentionHandlingService", appMentionFunctions));
+        serviceTypes.add(new ServiceType("AppService", appFunctions));
+        Generator generateServiceEventsNode = new GenerateServiceEventsNode(serviceTypes);
+        MappingConstructorExpressionNode serviceEventsNode = generateServiceEventsNode.generate();
+
+        // The event which is in more than one service type is dispatched to the first one only
+        Assert.assertEquals(serviceEventsNode.toSourceCode(),
+                "{\"AppMentionHandlingService\":{\"app_mention\":\"onAppMention\"}," +
+                        "\"AppService\":{\"app_home_opened\":\"onAppHomeOpened\"," +
+                        "\"app_uninstalled\":\"onAppUninstalled\"}}");
+    }
+
+    @Test(description = "Test the functionality of the generate function " +
+            "when the service types list is empty",
+            expectedExceptions = BallerinaAsyncApiException.class,
+            expectedExceptionsMessageRegExp = "No service types found, probably there are no channels defined " +
+                    "in the async api spec")
+    public void testGenerateWithEmptyServiceTypesList() throws BallerinaAsyncApiException {
+        Generator generateServiceEventsNode = new GenerateServiceEventsNode(new ArrayList<>());
+        generateServiceEventsNode.generate();
+    }
+}
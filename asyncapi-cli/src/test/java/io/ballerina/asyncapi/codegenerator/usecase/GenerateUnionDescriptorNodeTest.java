@@ -27,6 +27,7 @@ import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
 import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.UnionTypeDescriptorNode;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -97,6 +98,26 @@ public class GenerateUnionDescriptorNodeTest {
                 "CustomTestSchema|GenericEventWrapper");
     }
 
+    @Test(description = "Test the functionality of the generate function " +
+            "when there are more than two nodes")
+    public void testGenerateWithMoreThanTwoNodes() throws BallerinaAsyncApiException {
+        List<TypeDescriptorNode> typeDescriptorNodes = new ArrayList<>();
+        typeDescriptorNodes.add(createSimpleNameReferenceNode(createIdentifierToken("AppMentionHandlingService")));
+        typeDescriptorNodes.add(createSimpleNameReferenceNode(createIdentifierToken("AppCreatedHandlingService")));
+        typeDescriptorNodes.add(createSimpleNameReferenceNode(createIdentifierToken("AppInstalledHandlingService")));
+
+        Generator generateUnionDescriptorNode = new GenerateUnionDescriptorNode(typeDescriptorNodes,
+                "GenericServiceType");
+        TypeDefinitionNode unionDefinitionNode = generateUnionDescriptorNode.generate();
+        Assert.assertEquals(unionDefinitionNode.typeDescriptor().toSourceCode(),
+                "AppMentionHandlingService|AppCreatedHandlingService|AppInstalledHandlingService");
+        UnionTypeDescriptorNode unionTypeDescriptorNode =
+                (UnionTypeDescriptorNode) unionDefinitionNode.typeDescriptor();
+        Assert.assertEquals(unionTypeDescriptorNode.leftTypeDesc().toSourceCode(),
+                "AppMentionHandlingService|AppCreatedHandlingService");
+        Assert.assertEquals(unionTypeDescriptorNode.rightTypeDesc().toSourceCode(), "AppInstalledHandlingService");
+    }
+
     @Test(description = "Test the functionality of the generate function " +
             "when the nodes list is empty",
             expectedExceptions = BallerinaAsyncApiException.class,
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.asyncapi.models.AaiDocument;
+import io.apicurio.datamodels.asyncapi.v2.models.Aai20Document;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.entity.Schema;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.RecordFieldNode;
+import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+/**
+ * Test the caching of the type descriptors generated for the structurally identical schemas.
+ */
+public class TypeDescriptorCacheTest {
+    FileRepository fileRepository = new FileRepositoryImpl();
+
+    @Test(description = "Test whether the structurally identical schemas have the same structure id")
+    public void testGetStructureId() throws BallerinaAsyncApiException {
+        Map<String, Schema> schemas = readSchemas();
+        TypeDescriptorCache typeDescriptorCache = new TypeDescriptorCache();
+
+        int sharedFileId = typeDescriptorCache.getStructureId(getFileSchema(schemas, "FileSharedEvent"));
+        // The title of the file is generated into the documentation of the field, not into the type descriptor
+        Assert.assertEquals(typeDescriptorCache.getStructureId(getFileSchema(schemas, "FileChangedEvent")),
+                sharedFileId);
+        // The description of the id field is generated into the type descriptor of the file
+        Assert.assertNotEquals(typeDescriptorCache.getStructureId(getFileSchema(schemas, "FileDeletedEvent")),
+                sharedFileId);
+        Assert.assertNotEquals(typeDescriptorCache.getStructureId(schemas.get("FileSharedEvent")),
+                typeDescriptorCache.getStructureId(schemas.get("FileChangedEvent")));
+    }
+
+    @Test(description = "Test whether only the boolean x-nullable extension, which makes the type nullable, " +
+            "changes the structure id")
+    public void testGetStructureIdWithNullableExtension() throws BallerinaAsyncApiException {
+        Map<String, Schema> schemas = readSchemas("specs/spec-with-nullable-schemas.yml");
+        TypeDescriptorCache typeDescriptorCache = new TypeDescriptorCache();
+
+        int notNullableFlagId = typeDescriptorCache.getStructureId(getFlagSchema(schemas, "NotNullableEvent"));
+        Assert.assertNotEquals(typeDescriptorCache.getStructureId(getFlagSchema(schemas, "NullableEvent")),
+                notNullableFlagId);
+        // The string "true" does not make the type nullable
+        Assert.assertEquals(typeDescriptorCache.getStructureId(getFlagSchema(schemas, "NullableStringEvent")),
+                notNullableFlagId);
+    }
+
+    @Test(description = "Test whether a type descriptor is generated only once for the structurally identical " +
+            "schemas of the records")
+    public void testGenerateWithTypeDescriptorCache() throws BallerinaAsyncApiException {
+        Map<String, Schema> schemas = readSchemas();
+        TypeDescriptorCache typeDescriptorCache = new TypeDescriptorCache();
+        TypeDescriptorNode sharedFileType = getFileType(schemas, "FileSharedEvent", typeDescriptorCache);
+        Assert.assertNotNull(typeDescriptorCache.get(getFileSchema(schemas, "FileChangedEvent")));
+        Assert.assertNull(typeDescriptorCache.get(getFileSchema(schemas, "FileDeletedEvent")));
+
+        TypeDescriptorNode changedFileType = getFileType(schemas, "FileChangedEvent", typeDescriptorCache);
+        TypeDescriptorNode deletedFileType = getFileType(schemas, "FileDeletedEvent", typeDescriptorCache);
+        Assert.assertEquals(changedFileType.toSourceCode(), sharedFileType.toSourceCode());
+        Assert.assertNotEquals(deletedFileType.toSourceCode(), sharedFileType.toSourceCode());
+        Assert.assertEquals(changedFileType.toSourceCode(),
+                getFileType(schemas, "FileChangedEvent", new TypeDescriptorCache()).toSourceCode());
+    }
+
+    private TypeDescriptorNode getFileType(Map<String, Schema> schemas, String schemaName,
+                                           TypeDescriptorCache typeDescriptorCache)
+            throws BallerinaAsyncApiException {
+        Generator generateRecordNode = new GenerateModuleMemberDeclarationNode(
+                Map.entry(schemaName, schemas.get(schemaName)), typeDescriptorCache);
+        TypeDefinitionNode typeDefinitionNode = generateRecordNode.generate();
+        for (Node field : ((RecordTypeDescriptorNode) typeDefinitionNode.typeDescriptor()).fields()) {
+            if (((RecordFieldNode) field).fieldName().text().equals("file")) {
+                return (TypeDescriptorNode) ((RecordFieldNode) field).typeName();
+            }
+        }
+        throw new AssertionError("The file field is not generated in " + schemaName);
+    }
+
+    private Schema getFileSchema(Map<String, Schema> schemas, String schemaName) {
+        return schemas.get(schemaName).getSchemaProperties().get("file");
+    }
+
+    private Schema getFlagSchema(Map<String, Schema> schemas, String schemaName) {
+        return schemas.get(schemaName).getSchemaProperties().get("flag");
+    }
+
+    private Map<String, Schema> readSchemas() throws BallerinaAsyncApiException {
+        return readSchemas("specs/spec-with-repeated-inline-schemas.yml");
+    }
+
+    private Map<String, Schema> readSchemas(String specPath) throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository.getFileContentFromResources(specPath);
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
+        return extractSchemasFromSpec.extract();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase.utils;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.asyncapi.models.AaiDocument;
+import io.apicurio.datamodels.asyncapi.v2.models.Aai20Document;
+import io.ballerina.asyncapi.codegenerator.configuration.BallerinaAsyncApiException;
+import io.ballerina.asyncapi.codegenerator.entity.RemoteFunction;
+import io.ballerina.asyncapi.codegenerator.entity.Schema;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepository;
+import io.ballerina.asyncapi.codegenerator.repository.FileRepositoryImpl;
+import io.ballerina.asyncapi.codegenerator.usecase.ExtractSchemasFromSpec;
+import io.ballerina.asyncapi.codegenerator.usecase.Extractor;
+import io.ballerina.asyncapi.codegenerator.usecase.GenerateModuleMemberDeclarationNode;
+import io.ballerina.asyncapi.codegenerator.usecase.GenerateServiceTypeNode;
+import io.ballerina.asyncapi.codegenerator.usecase.GenerateUnionDescriptorNode;
+import io.ballerina.asyncapi.codegenerator.usecase.Generator;
+import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+
+/**
+ * Test the emission of the generated module members in the format of the Ballerina formatter.
+ */
+public class BalSourceEmitterTest {
+    private final BalSourceEmitter sourceEmitter = new BalSourceEmitter();
+    private final FileRepository fileRepository = new FileRepositoryImpl();
+
+    @Test(description = "Test the functionality of the emitModuleMember function with records")
+    public void testEmitRecord() throws BallerinaAsyncApiException {
+        String asyncApiSpecStr = fileRepository
+                .getFileContentFromResources("specs/spec-complete-slack.yml");
+        String asyncApiSpecJson = fileRepository.convertYamlToJson(asyncApiSpecStr);
+        AaiDocument asyncApiSpec = (Aai20Document) Library.readDocumentFromJSONString(asyncApiSpecJson);
+        Extractor extractSchemasFromSpec = new ExtractSchemasFromSpec(asyncApiSpec);
+        Map<String, Schema> schemas = extractSchemasFromSpec.extract();
+
+        for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
+            Generator generateRecordNode = new GenerateModuleMemberDeclarationNode(schema);
+            String recordCode = sourceEmitter.emitModuleMember(generateRecordNode.generate());
+            if (schema.getKey().equals("CustomTestSchema")) {
+                Assert.assertEquals(recordCode, "public type CustomTestSchema record {\n" +
+                        "    string test_id?;\n" +
+                        "};\n");
+            } else {
+                // The records with inline record fields are left to the formatter
+                Assert.assertNull(recordCode);
+            }
+        }
+    }
+
+    @Test(description = "Test the functionality of the emitModuleMember function with service types")
+    public void testEmitServiceType() throws BallerinaAsyncApiException {
+        Generator generateServiceTypeNode = new GenerateServiceTypeNode("AppMentionHandlingService", List.of(
+                new RemoteFunction("app_mention_added", "GenericEventWrapper"),
+                new RemoteFunction("app_mention_removed", "GenericEventWrapper")));
+
+        Assert.assertEquals(sourceEmitter.emitModuleMember(generateServiceTypeNode.generate()),
+                "public type AppMentionHandlingService service object {\n" +
+                        "    remote function onAppMentionAdded(GenericEventWrapper event) returns error?;\n" +
+                        "    remote function onAppMentionRemoved(GenericEventWrapper event) returns error?;\n" +
+                        "};\n");
+    }
+
+    @Test(description = "Test the functionality of the emitModuleMember function with union types")
+    public void testEmitUnionType() throws BallerinaAsyncApiException {
+        List<TypeDescriptorNode> typeNodes = List.of(
+                createSimpleNameReferenceNode(createIdentifierToken("CustomTestSchema")),
+                createSimpleNameReferenceNode(createIdentifierToken("GenericEventWrapper")));
+        Generator generateUnionNode = new GenerateUnionDescriptorNode(typeNodes, "GenericDataType");
+
+        Assert.assertEquals(sourceEmitter.emitModuleMember(generateUnionNode.generate()),
+                "public type GenericDataType CustomTestSchema|GenericEventWrapper;\n");
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.usecase.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test the utils which update the Ballerina.toml of the package, which the code is generated into.
+ */
+public class BallerinaTomlUtilsTest {
+    private static final String PACKAGE_TABLE = "[package]\norg = \"foo\"\nname = \"bar\"\nversion = \"0.1.0\"\n";
+    private final BallerinaTomlUtils ballerinaTomlUtils = new BallerinaTomlUtils();
+
+    @Test(description = "Test whether the dependency is appended, if the Ballerina.toml does not have it")
+    public void testPinDependencyWhenAbsent() {
+        String toml = ballerinaTomlUtils.pinDependency(PACKAGE_TABLE, "ballerinax", "asyncapi.native.handler",
+                "0.5.0");
+        Assert.assertEquals(toml, PACKAGE_TABLE + "\n[[dependency]]\norg = \"ballerinax\"\n" +
+                "name = \"asyncapi.native.handler\"\nversion = \"0.5.0\"\n");
+        // The dependency is not appended again
+        Assert.assertEquals(ballerinaTomlUtils.pinDependency(toml, "ballerinax", "asyncapi.native.handler", "0.5.0"),
+                toml);
+    }
+
+    @Test(description = "Test whether only the version of the dependency is replaced, if the Ballerina.toml has it")
+    public void testPinDependencyWhenPresent() {
+        String otherDependency = "[[dependency]]\norg = \"ballerinax\"\nname = \"other\"\nversion = \"1.0.0\"\n";
+        String toml = PACKAGE_TABLE + "\n" + otherDependency + "\n[[dependency]]\norg = \"ballerinax\"\n" +
+                "name = \"asyncapi.native.handler\"\nversion = \"0.4.0\"\n\n[build-options]\n" +
+                "observabilityIncluded = true\n";
+        Assert.assertEquals(ballerinaTomlUtils.pinDependency(toml, "ballerinax", "asyncapi.native.handler", "0.5.0"),
+                toml.replace("0.4.0", "0.5.0"));
+    }
+
+    @Test(description = "Test whether the version is added to the dependency, if it does not have a version")
+    public void testPinDependencyWithoutVersion() {
+        String toml = PACKAGE_TABLE + "\n[[dependency]]\norg = \"ballerinax\"\nname = \"asyncapi.native.handler\"\n";
+        Assert.assertEquals(ballerinaTomlUtils.pinDependency(toml, "ballerinax", "asyncapi.native.handler", "0.5.0"),
+                toml + "version = \"0.5.0\"\n");
+    }
+}
@@ -71,6 +71,44 @@ public class CodegenUtilsTest {
         });
     }
 
+    @Test(description = "Test the escapeIdentifier function with the special characters and the keywords")
+    public void testEscapeIdentifierWithSpecialCharacters() {
+        Map<String, String> testData = new HashMap<>();
+        testData.put("foo_bar", "foo_bar");
+        testData.put("_foo", "_foo");
+        testData.put("foo-bar", "foo\\-bar");
+        testData.put("foo.bar", "foo\\.bar");
+        testData.put("foo bar", "foo\\ bar");
+        testData.put("map?", "'map?");
+        testData.put("foo bar1", "foo\\ bar1");
+        testData.put("foo$bar1", "'foo$bar1");
+        testData.put("?", "?");
+
+        testData.forEach((input, expected) -> {
+            Assert.assertEquals(codegenUtils.escapeIdentifier(input), expected);
+            // The second call returns the memoized result, which should be the same
+            Assert.assertEquals(codegenUtils.escapeIdentifier(input), expected);
+        });
+    }
+
+    @Test(description = "Test the getValidName function with the special characters and the white spaces")
+    public void testGetValidNameWithSpecialCharacters() {
+        Map<String, String> testData = new HashMap<>();
+        testData.put("fooBar", "FooBar");
+        testData.put("foo_bar", "FooBar");
+        testData.put("x-foo-BAR", "XFooBar");
+        testData.put("foo bar", "FooBar");
+        testData.put(" foo", "Foo");
+        testData.put("123", "123");
+
+        testData.forEach((input, expected) -> {
+            Assert.assertEquals(codegenUtils.getValidName(input, true), expected);
+            Assert.assertEquals(codegenUtils.getValidName(input, true), expected);
+        });
+        Assert.assertEquals(codegenUtils.getValidName("x-foo-BAR", false), "xFooBar");
+        Assert.assertEquals(codegenUtils.getValidName("FooBar", false), "fooBar");
+    }
+
     @Test(
             description = "Test the functionality of the extractReferenceType function",
             expectedExceptions = BallerinaAsyncApiException.class,
@@ -1,29 +1,33 @@
 import ballerina/http;
+import ballerina/log;
 import ballerinax/asyncapi.native.handler;
 
+// The events and the remote functions of each service type
+final readonly & map<map<string>> serviceEvents = {"AppMentionHandlingService": {"app_mention_added": "onAppMentionAdded", "app_mention_removed": "onAppMentionRemoved"}, "AppRateLimitedHandlingService": {"app_rate_limited": "onAppRateLimited"}, "AppCreatedHandlingService": {"app_created": "onAppCreated"}};
+
 service class DispatcherService {
     *http:Service;
-    private map<GenericServiceType> services = {};
     private handler:NativeHandler nativeHandler = new ();
 
     isolated function addServiceRef(string serviceType, GenericServiceType genericService) returns error? {
-        if (self.services.hasKey(serviceType)) {
-            return error("Service of type " + serviceType + " has already been attached");
+        string[] unimplementedFunctions = check self.nativeHandler.addService(serviceType, genericService, serviceEvents[serviceType] ?: {});
+        if unimplementedFunctions.length() > 0 {
+            log:printInfo("Service of type " + serviceType + " does not implement the remote functions " + ", ".'join(...unimplementedFunctions) + ", hence those events are not dispatched to it");
         }
-        self.services[serviceType] = genericService;
     }
 
     isolated function removeServiceRef(string serviceType) returns error? {
-        if (!self.services.hasKey(serviceType)) {
-            return error("Cannot detach the service of type " + serviceType + ". Service has not been attached to the listener before");
-        }
-        _ = self.services.remove(serviceType);
+        check self.nativeHandler.removeService(serviceType);
     }
 
     // We are not using the (@http:payload GenericEventWrapperEvent g) notation because of a bug in Ballerina.
     // Issue: https://github.com/ballerina-platform/ballerina-lang/issues/32859
     resource function post .(http:Caller caller, http:Request request) returns error? {
         json payload = check request.getJsonPayload();
+        if !self.nativeHandler.isEventDispatched(payload.event.'type) {
+            check caller->respond(http:STATUS_OK);
+            return;
+        }
         GenericDataType genericDataType = check payload.cloneWithType(GenericDataType);
         check self.matchRemoteFunc(genericDataType);
         check caller->respond(http:STATUS_OK);
@@ -47,9 +51,6 @@ service class DispatcherService {
     }
 
     private function executeRemoteFunc(GenericDataType genericEvent, string eventName, string serviceTypeStr, string eventFunction) returns error? {
-        GenericServiceType? genericService = self.services[serviceTypeStr];
-        if genericService is GenericServiceType {
-            check self.nativeHandler.invokeRemoteFunction(genericEvent, eventName, eventFunction, genericService);
-        }
+        check self.nativeHandler.dispatchToService(genericEvent, eventName, serviceTypeStr, eventFunction);
     }
 }
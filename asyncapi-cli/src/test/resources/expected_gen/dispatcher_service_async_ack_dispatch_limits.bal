@@ -0,0 +1,85 @@
+import ballerina/http;
+import ballerina/log;
+import ballerinax/asyncapi.native.handler;
+
+// The events and the remote functions of each service type
+final readonly & map<map<string>> serviceEvents = {"AppMentionHandlingService": {"app_mention_added": "onAppMentionAdded", "app_mention_removed": "onAppMentionRemoved"}, "AppRateLimitedHandlingService": {"app_rate_limited": "onAppRateLimited"}, "AppCreatedHandlingService": {"app_created": "onAppCreated"}};
+
+service class DispatcherService {
+    *http:Service;
+    private handler:NativeHandler nativeHandler = new ();
+    private decimal drainTimeout = 30;
+
+    isolated function init(ListenerConfigs listenerConfigs) {
+        self.nativeHandler = new (listenerConfigs);
+    }
+
+    isolated function addServiceRef(string serviceType, GenericServiceType genericService) returns error? {
+        string[] unimplementedFunctions = check self.nativeHandler.addService(serviceType, genericService, serviceEvents[serviceType] ?: {});
+        if unimplementedFunctions.length() > 0 {
+            log:printInfo("Service of type " + serviceType + " does not implement the remote functions " + ", ".'join(...unimplementedFunctions) + ", hence those events are not dispatched to it");
+        }
+    }
+
+    isolated function removeServiceRef(string serviceType) returns error? {
+        check self.nativeHandler.removeService(serviceType);
+    }
+
+    // The event is acknowledged once it is validated and matched, the remote function is executed in the background.
+    // We are not using the (@http:payload GenericEventWrapperEvent g) notation because of a bug in Ballerina.
+    // Issue: https://github.com/ballerina-platform/ballerina-lang/issues/32859
+    resource function post .(http:Caller caller, http:Request request) returns error? {
+        json payload = check request.getJsonPayload();
+        if !self.nativeHandler.isEventDispatched(payload.event.'type) {
+            check caller->respond(http:STATUS_OK);
+            return;
+        }
+        GenericDataType genericDataType = check payload.cloneWithType(GenericDataType);
+        error? dispatchResult = self.matchRemoteFunc(genericDataType);
+        if dispatchResult is handler:EventRejectedError {
+            check caller->respond(<http:ServiceUnavailable>{body: dispatchResult.message()});
+            return;
+        } else if dispatchResult is error {
+            return dispatchResult;
+        }
+        check caller->respond(http:STATUS_OK);
+    }
+
+    private function matchRemoteFunc(GenericDataType genericDataType) returns error? {
+        match genericDataType.event.'type {
+            "app_mention_added" => {
+                check self.executeRemoteFunc(genericDataType, "app_mention_added", "AppMentionHandlingService", "onAppMentionAdded");
+            }
+            "app_mention_removed" => {
+                check self.executeRemoteFunc(genericDataType, "app_mention_removed", "AppMentionHandlingService", "onAppMentionRemoved");
+            }
+            "app_rate_limited" => {
+                check self.executeRemoteFunc(genericDataType, "app_rate_limited", "AppRateLimitedHandlingService", "onAppRateLimited");
+            }
+            "app_created" => {
+                check self.executeRemoteFunc(genericDataType, "app_created", "AppCreatedHandlingService", "onAppCreated");
+            }
+        }
+    }
+
+    private function executeRemoteFunc(GenericDataType genericEvent, string eventName, string serviceTypeStr, string eventFunction) returns error? {
+        service object {}? genericService = self.nativeHandler.getService(serviceTypeStr);
+        if genericService is service object {} {
+            // The event is rejected before it is acknowledged, when the dispatch limits are reached
+            check self.nativeHandler.admitEvent(eventName, serviceTypeStr);
+            _ = start self.dispatchInBackground(genericEvent, eventName, serviceTypeStr, eventFunction);
+        }
+    }
+
+    private function dispatchInBackground(GenericDataType genericEvent, string eventName, string serviceTypeStr, string eventFunction) {
+        error? result = self.nativeHandler.dispatchAdmitted(genericEvent, eventName, serviceTypeStr, eventFunction);
+        if result is error {
+            log:printError("Error occurred while dispatching the event " + eventName + " to " + serviceTypeStr, result);
+        }
+    }
+
+    // The native handler counts the events admitted until those are dispatched, and notifies the wait once none is left
+    isolated function waitForInFlightDispatches() returns error? {
+        return self.nativeHandler.waitForDispatches(self.drainTimeout);
+    }
+}
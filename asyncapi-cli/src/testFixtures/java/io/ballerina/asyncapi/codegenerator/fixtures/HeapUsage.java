@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.fixtures;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.concurrent.Callable;
+
+/**
+ * Measures the peak heap usage of an action, to test that the memory needed to process a large specification stays
+ * below a ceiling.
+ *
+ * @param <T> type of the result of the action
+ */
+public final class HeapUsage<T> {
+    private final T result;
+    private final long peakHeapGrowth;
+
+    private HeapUsage(T result, long peakHeapGrowth) {
+        this.result = result;
+        this.peakHeapGrowth = peakHeapGrowth;
+    }
+
+    /**
+     * Runs the action the given number of times, and measures how much the heap usage has grown above the usage
+     * before each run, at its peak. The heap is collected before each run. The heap pools do not peak at the same
+     * time, and the collections during a run differ from one run to another, hence the sum of the peaks of the pools
+     * over-estimates the growth by a varying amount. The smallest growth of the runs is kept, as the closest to what
+     * the action needs.
+     *
+     * @return the result of the last run, along with the smallest peak heap growth of the runs
+     */
+    public static <T> HeapUsage<T> measure(Callable<T> action, int runs) throws Exception {
+        T result = null;
+        long minPeakHeapGrowth = Long.MAX_VALUE;
+        for (int i = 0; i < runs; i++) {
+            // The result of the previous run is not kept while measuring the next run
+            result = null;
+            System.gc();
+            long heapUsageBefore = 0;
+            for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (memoryPool.getType() == MemoryType.HEAP) {
+                    heapUsageBefore += memoryPool.getUsage().getUsed();
+                    memoryPool.resetPeakUsage();
+                }
+            }
+            result = action.call();
+            long peakHeapUsage = 0;
+            for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (memoryPool.getType() == MemoryType.HEAP) {
+                    peakHeapUsage += memoryPool.getPeakUsage().getUsed();
+                }
+            }
+            minPeakHeapGrowth = Math.min(minPeakHeapGrowth, peakHeapUsage - heapUsageBefore);
+        }
+        return new HeapUsage<>(result, minPeakHeapGrowth);
+    }
+
+    public T getResult() {
+        return result;
+    }
+
+    public long getPeakHeapGrowth() {
+        return peakHeapGrowth;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.asyncapi.codegenerator.fixtures;
+
+import java.util.Random;
+
+/**
+ * Generates valid AsyncAPI 2.x specifications (in JSON) of a configurable size and shape, to test and measure the code
+ * generator with specifications much larger than the bundled ones.
+ * <p>
+ * Each channel has a service type with {@code oneOfFanOut} events. The payload of an event is either a schema in the
+ * components, or an inline schema, according to {@code inlineSchemaRatio}. A payload is an object nested
+ * {@code schemaDepth} levels deep, where each nested object is either inline or a reference to one of the shared
+ * schemas in the components, according to {@code refDensity}. The decisions are made with a seeded random, hence the
+ * same configuration always generates the same specification.
+ */
+public class SyntheticSpecGenerator {
+    public static final String EVENT_IDENTIFIER_PATH = "type";
+    /**
+     * Maximum growth of the heap, in bytes, allowed while processing the {@link #largeSpec()}
+     */
+    public static final long LARGE_SPEC_HEAP_CEILING = 128L * 1024 * 1024;
+
+    private int channelCount = 10;
+    private int oneOfFanOut = 1;
+    private int schemaDepth = 1;
+    private double refDensity = 0;
+    private double inlineSchemaRatio = 0;
+    private long seed = 0;
+
+    /**
+     * @return a specification with 2000 channels of 2 events each, with nested, shared and inline schemas, to test the
+     * memory needed to process a large specification
+     */
+    public static String largeSpec() {
+        SyntheticSpecGenerator specGenerator = new SyntheticSpecGenerator();
+        specGenerator.setChannelCount(2000);
+        specGenerator.setOneOfFanOut(2);
+        specGenerator.setSchemaDepth(3);
+        specGenerator.setRefDensity(0.3);
+        specGenerator.setInlineSchemaRatio(0.5);
+        return specGenerator.generate();
+    }
+
+    public String generate() {
+        Random random = new Random(seed);
+        int sharedSchemaCount = refDensity > 0 && schemaDepth > 1 ? Math.max(1, channelCount / 10) : 0;
+        StringBuilder components = new StringBuilder();
+        for (int i = 0; i < sharedSchemaCount; i++) {
+            appendSeparator(components);
+            components.append(quote("Shared" + i)).append(':');
+            appendObjectSchema(components, random, 1, sharedSchemaCount, false);
+        }
+
+        StringBuilder channels = new StringBuilder();
+        for (int i = 0; i < channelCount; i++) {
+            appendSeparator(channels);
+            channels.append(quote("events/channel" + i)).append(":{")
+                    .append(quote("x-ballerina-service-type")).append(':')
+                    .append(quote("Channel" + i + "HandlingService")).append(',')
+                    .append(quote("subscribe")).append(":{").append(quote("message")).append(':');
+            if (oneOfFanOut > 1) {
+                channels.append('{').append(quote("oneOf")).append(":[");
+            }
+            for (int j = 0; j < oneOfFanOut; j++) {
+                if (j > 0) {
+                    channels.append(',');
+                }
+                String eventType = "channel" + i + "_event" + j;
+                channels.append('{').append(quote("x-ballerina-event-type")).append(':').append(quote(eventType))
+                        .append(',').append(quote("payload")).append(':');
+                if (random.nextDouble() < inlineSchemaRatio) {
+                    appendObjectSchema(channels, random, schemaDepth, sharedSchemaCount, true);
+                } else {
+                    String schemaName = "Channel" + i + "Event" + j;
+                    channels.append('{').append(quote("$ref")).append(':')
+                            .append(quote("#/components/schemas/" + schemaName)).append('}');
+                    appendSeparator(components);
+                    components.append(quote(schemaName)).append(':');
+                    appendObjectSchema(components, random, schemaDepth, sharedSchemaCount, true);
+                }
+                channels.append('}');
+            }
+            if (oneOfFanOut > 1) {
+                channels.append("]}");
+            }
+            channels.append("}}");
+        }
+
+        return "{" + quote("asyncapi") + ':' + quote("2.1.0") + ','
+                + quote("x-ballerina-event-identifier") + ":{" + quote("type") + ':' + quote("body") + ','
+                + quote("path") + ':' + quote(EVENT_IDENTIFIER_PATH) + "},"
+                + quote("components") + ":{" + quote("schemas") + ":{" + components + "}},"
+                + quote("channels") + ":{" + channels + "}}";
+    }
+
+    public int getChannelCount() {
+        return channelCount;
+    }
+
+    public void setChannelCount(int channelCount) {
+        this.channelCount = Math.max(1, channelCount);
+    }
+
+    public int getOneOfFanOut() {
+        return oneOfFanOut;
+    }
+
+    public void setOneOfFanOut(int oneOfFanOut) {
+        this.oneOfFanOut = Math.max(1, oneOfFanOut);
+    }
+
+    public int getSchemaDepth() {
+        return schemaDepth;
+    }
+
+    public void setSchemaDepth(int schemaDepth) {
+        this.schemaDepth = Math.max(1, schemaDepth);
+    }
+
+    public double getRefDensity() {
+        return refDensity;
+    }
+
+    public void setRefDensity(double refDensity) {
+        this.refDensity = Math.min(1, Math.max(0, refDensity));
+    }
+
+    public double getInlineSchemaRatio() {
+        return inlineSchemaRatio;
+    }
+
+    public void setInlineSchemaRatio(double inlineSchemaRatio) {
+        this.inlineSchemaRatio = Math.min(1, Math.max(0, inlineSchemaRatio));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    private void appendObjectSchema(StringBuilder spec, Random random, int depth, int sharedSchemaCount,
+                                    boolean withEventIdentifier) {
+        spec.append('{').append(quote("type")).append(':').append(quote("object")).append(',')
+                .append(quote("properties")).append(":{");
+        if (withEventIdentifier) {
+            spec.append(quote(EVENT_IDENTIFIER_PATH)).append(":{").append(quote("type")).append(':')
+                    .append(quote("string")).append("},");
+        }
+        spec.append(quote("id")).append(":{").append(quote("type")).append(':').append(quote("string")).append("},")
+                .append(quote("count")).append(":{").append(quote("type")).append(':').append(quote("integer"))
+                .append("},")
+                .append(quote("enabled")).append(":{").append(quote("type")).append(':').append(quote("boolean"))
+                .append("},")
+                .append(quote("tags")).append(":{").append(quote("type")).append(':').append(quote("array"))
+                .append(',').append(quote("items")).append(":{").append(quote("type")).append(':')
+                .append(quote("string")).append("}}");
+        if (depth > 1) {
+            spec.append(',').append(quote("nested")).append(':');
+            if (sharedSchemaCount > 0 && random.nextDouble() < refDensity) {
+                spec.append('{').append(quote("$ref")).append(':')
+                        .append(quote("#/components/schemas/Shared" + random.nextInt(sharedSchemaCount)))
+                        .append('}');
+            } else {
+                appendObjectSchema(spec, random, depth - 1, sharedSchemaCount, false);
+            }
+        }
+        spec.append("}}");
+    }
+
+    private static void appendSeparator(StringBuilder spec) {
+        if (spec.length() > 0) {
+            spec.append(',');
+        }
+    }
+
+    private static String quote(String value) {
+        return '"' + value + '"';
+    }
+}
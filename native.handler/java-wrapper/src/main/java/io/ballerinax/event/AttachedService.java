@@ -0,0 +1,104 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package io.ballerinax.event;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.ServiceType;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code AttachedService} is a service attached to the listener, with the remote functions of its events resolved
+ * against the methods of the service when it is attached. The events, whose remote functions are not implemented by
+ * the service, are known at that point, hence those are not looked up for every received event.
+ */
+final class AttachedService {
+    private final BObject service;
+    // Keyed by the event name, only the events whose remote functions are implemented by the service
+    private final Map<BString, EventDispatchMetadata> dispatchMetadata = new HashMap<>();
+    private final Set<BString> unimplementedEvents = new HashSet<>();
+    private final List<String> unimplementedFunctions = new ArrayList<>();
+
+    /**
+     * @param serviceEvents the events of the service type of the service, with the names of their remote functions
+     */
+    AttachedService(Module module, BObject service, BMap<BString, Object> serviceEvents) {
+        this.service = service;
+        Set<String> methodNames = getMethodNames(service.getType());
+        for (Map.Entry<BString, Object> serviceEvent : serviceEvents.entrySet()) {
+            BString eventFunction = (BString) serviceEvent.getValue();
+            if (methodNames.contains(eventFunction.getValue())) {
+                dispatchMetadata.put(serviceEvent.getKey(),
+                        new EventDispatchMetadata(module, serviceEvent.getKey(), eventFunction));
+            } else {
+                unimplementedEvents.add(serviceEvent.getKey());
+                unimplementedFunctions.add(eventFunction.getValue());
+            }
+        }
+    }
+
+    BObject getService() {
+        return service;
+    }
+
+    /**
+     * @return the dispatch metadata resolved for the event when the service is attached, or null if the event is not
+     * an implemented event of the service
+     */
+    EventDispatchMetadata getDispatchMetadata(BString eventName) {
+        return dispatchMetadata.get(eventName);
+    }
+
+    /**
+     * @return the events whose remote functions are implemented by the service
+     */
+    Set<BString> getImplementedEvents() {
+        return dispatchMetadata.keySet();
+    }
+
+    boolean isUnimplemented(BString eventName) {
+        return unimplementedEvents.contains(eventName);
+    }
+
+    List<String> getUnimplementedFunctions() {
+        return unimplementedFunctions;
+    }
+
+    private static Set<String> getMethodNames(ObjectType serviceType) {
+        Set<String> methodNames = new HashSet<>();
+        for (MethodType method : serviceType.getMethods()) {
+            methodNames.add(method.getName());
+        }
+        if (serviceType instanceof ServiceType) {
+            for (MethodType method : ((ServiceType) serviceType).getRemoteMethods()) {
+                methodNames.add(method.getName());
+            }
+        }
+        return methodNames;
+    }
+}
@@ -0,0 +1,100 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerinax.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+
+/**
+ * {@code DispatchDrain} counts the events, which are acknowledged and are being dispatched in the background, so that
+ * the graceful stop of the listener is notified once those have completed, instead of polling their count.
+ */
+final class DispatchDrain {
+    private static final ScheduledExecutorService TIMEOUTS = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "asyncapi-dispatch-drain-timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object lock = new Object();
+    private int pendingDispatches;
+    private final List<Runnable> drainedCallbacks = new ArrayList<>();
+
+    void begin() {
+        synchronized (lock) {
+            pendingDispatches++;
+        }
+    }
+
+    void end() {
+        List<Runnable> callbacks;
+        synchronized (lock) {
+            pendingDispatches--;
+            if (pendingDispatches > 0 || drainedCallbacks.isEmpty()) {
+                return;
+            }
+            callbacks = new ArrayList<>(drainedCallbacks);
+            drainedCallbacks.clear();
+        }
+        callbacks.forEach(Runnable::run);
+    }
+
+    int getPendingDispatches() {
+        synchronized (lock) {
+            return pendingDispatches;
+        }
+    }
+
+    /**
+     * Calls {@code onDrained} once no dispatch is pending, or {@code onTimeout} with the number of the pending
+     * dispatches if those have not completed within the timeout. Only one of those is called.
+     */
+    void whenDrained(long timeoutNanos, Runnable onDrained, IntConsumer onTimeout) {
+        AtomicBoolean notified = new AtomicBoolean();
+        Runnable drainedCallback = () -> {
+            if (notified.compareAndSet(false, true)) {
+                onDrained.run();
+            }
+        };
+        boolean drained;
+        synchronized (lock) {
+            drained = pendingDispatches == 0;
+            if (!drained) {
+                drainedCallbacks.add(drainedCallback);
+            }
+        }
+        if (drained) {
+            drainedCallback.run();
+            return;
+        }
+        TIMEOUTS.schedule(() -> {
+            int pending;
+            synchronized (lock) {
+                drainedCallbacks.remove(drainedCallback);
+                pending = pendingDispatches;
+            }
+            if (notified.compareAndSet(false, true)) {
+                onTimeout.accept(pending);
+            }
+        }, timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+}
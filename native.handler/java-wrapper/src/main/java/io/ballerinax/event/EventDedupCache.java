@@ -0,0 +1,123 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package io.ballerinax.event;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code EventDedupCache} remembers the keys of the received events for a time window, so that an event delivered
+ * more than once within the window is suppressed. The number of keys remembered is bounded, the oldest keys are
+ * forgotten first when the bound is exceeded. A key, which is forgotten before it expires, counts against the bound
+ * until the time it would have been evicted, hence fewer keys may be remembered after events fail to dispatch.
+ */
+final class EventDedupCache {
+    private final long windowNanos;
+    private final int maxEntries;
+    // Keyed by the event key, the value is the time at which the key expires
+    private final Map<String, Long> entries = new ConcurrentHashMap<>();
+    // The keys in the order they are recorded. Since the window is fixed, this is also the order they expire in
+    private final Queue<Entry> expiryOrder = new ConcurrentLinkedQueue<>();
+    // The size of the queue, which includes the entries of the keys forgotten before they expire
+    private final AtomicInteger expiryOrderSize = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    EventDedupCache(long windowNanos, int maxEntries) {
+        this.windowNanos = windowNanos;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Records the key of a received event.
+     *
+     * @return true if the key has been recorded before within the window, hence the event is a duplicate
+     */
+    boolean checkAndRecord(String key) {
+        long now = System.nanoTime();
+        long expiry = now + windowNanos;
+        while (true) {
+            Long previousExpiry = entries.putIfAbsent(key, expiry);
+            if (previousExpiry == null) {
+                break;
+            }
+            if (previousExpiry - now > 0) {
+                hits.increment();
+                return true;
+            }
+            // The key has expired but not evicted yet, it is recorded again unless another event has done so
+            if (entries.replace(key, previousExpiry, expiry)) {
+                break;
+            }
+        }
+        misses.increment();
+        expiryOrder.add(new Entry(key, expiry));
+        expiryOrderSize.incrementAndGet();
+        evict(now);
+        return false;
+    }
+
+    /**
+     * Forgets the key of an event which could not be dispatched, so that the event is not suppressed when the
+     * provider retries it. A delivery of the same event received while the failed one was being dispatched has
+     * already been suppressed and acknowledged with success, hence the event is lost unless the provider retries
+     * the failed delivery.
+     */
+    void forget(String key) {
+        entries.remove(key);
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        Entry oldest;
+        while ((oldest = expiryOrder.peek()) != null
+                && (oldest.expiry - now <= 0 || expiryOrderSize.get() > maxEntries)) {
+            oldest = expiryOrder.poll();
+            if (oldest != null) {
+                expiryOrderSize.decrementAndGet();
+                // The key is kept if it has been recorded again after this entry
+                entries.remove(oldest.key, oldest.expiry);
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final Long expiry;
+
+        private Entry(String key, Long expiry) {
+            this.key = key;
+            this.expiry = expiry;
+        }
+    }
+}
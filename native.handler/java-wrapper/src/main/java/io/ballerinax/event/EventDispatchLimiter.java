@@ -0,0 +1,144 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerinax.event;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code EventDispatchLimiter} bounds the number of events, which are dispatched concurrently to a service.
+ * The events received when the limit is reached are either rejected or kept in a bounded queue until an event,
+ * which is being dispatched, completes. An event is admitted, which takes its place in the limit or in the queue,
+ * before it is dispatched, so that it can be rejected before it is acknowledged and dispatched in the background.
+ */
+final class EventDispatchLimiter {
+    static final String OVERFLOW_POLICY_QUEUE = "QUEUE";
+
+    private final int maxInFlightEvents;
+    // The events being dispatched and the events waiting in the queue
+    private final int maxAdmittedEvents;
+    private final AtomicInteger inFlightEvents = new AtomicInteger();
+    private final AtomicInteger admittedEvents = new AtomicInteger();
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    // Number of requests to run the queued dispatches, which are served by the thread already running them
+    private final AtomicInteger drainRequests = new AtomicInteger();
+
+    EventDispatchLimiter(int maxInFlightEvents, int maxQueuedEvents) {
+        this.maxInFlightEvents = maxInFlightEvents;
+        this.maxAdmittedEvents = (int) Math.min((long) maxInFlightEvents + maxQueuedEvents, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of events, which may wait to be dispatched under the given overflow policy. Events never
+     * wait under the `REJECT` policy.
+     */
+    static int getMaxQueuedEvents(String overflowPolicy, long maxQueuedEvents) {
+        if (!OVERFLOW_POLICY_QUEUE.equals(overflowPolicy)) {
+            return 0;
+        }
+        return (int) Math.min(Math.max(0, maxQueuedEvents), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Runs the dispatch if the limit is not reached, otherwise queues it if there is space left in the queue.
+     * {@link #release()} must be called when a dispatch, which has been run, completes, including when it fails
+     * before returning.
+     *
+     * @return false if the event is rejected
+     */
+    boolean tryDispatch(Runnable dispatch) {
+        if (!tryAdmit()) {
+            return false;
+        }
+        dispatchAdmitted(dispatch);
+        return true;
+    }
+
+    /**
+     * Admits an event, if the limit is not reached or there is space left in the queue. The event is dispatched
+     * later through {@link #dispatchAdmitted}, or {@link #cancel()} is called if it is not dispatched.
+     *
+     * @return false if the event is rejected
+     */
+    boolean tryAdmit() {
+        int current;
+        do {
+            current = admittedEvents.get();
+            if (current >= maxAdmittedEvents) {
+                return false;
+            }
+        } while (!admittedEvents.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Runs the dispatch of an admitted event if the limit is not reached, otherwise queues it.
+     * {@link #release()} must be called when the dispatch completes.
+     */
+    void dispatchAdmitted(Runnable dispatch) {
+        queue.add(dispatch);
+        runQueued();
+    }
+
+    /**
+     * Gives up the place of an admitted event, which is not dispatched.
+     */
+    void cancel() {
+        admittedEvents.decrementAndGet();
+    }
+
+    void release() {
+        inFlightEvents.decrementAndGet();
+        admittedEvents.decrementAndGet();
+        runQueued();
+    }
+
+    /**
+     * Runs the queued dispatches while the limit allows. A dispatch, which completes before returning, releases its
+     * slot from within this loop, hence only one thread runs the loop at a time and the other requests are served by
+     * it instead of recursing.
+     */
+    private void runQueued() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int requests = 1;
+        do {
+            while (!queue.isEmpty() && tryAcquire()) {
+                Runnable dispatch = queue.poll();
+                if (dispatch == null) {
+                    inFlightEvents.decrementAndGet();
+                    break;
+                }
+                dispatch.run();
+            }
+            requests = drainRequests.addAndGet(-requests);
+        } while (requests != 0);
+    }
+
+    private boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlightEvents.get();
+            if (current >= maxInFlightEvents) {
+                return false;
+            }
+        } while (!inFlightEvents.compareAndSet(current, current + 1));
+        return true;
+    }
+}
@@ -0,0 +1,50 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerinax.event;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.async.StrandMetadata;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * {@code EventDispatchMetadata} holds the values, which are needed to dispatch an event to its remote function.
+ * These are resolved once per event and reused for every received event of the same kind.
+ */
+final class EventDispatchMetadata {
+    private final BString eventFunction;
+    private final String methodName;
+    private final StrandMetadata strandMetadata;
+
+    EventDispatchMetadata(Module module, BString eventName, BString eventFunction) {
+        this.eventFunction = eventFunction;
+        this.methodName = eventFunction.getValue();
+        this.strandMetadata = new StrandMetadata(module.getOrg(), module.getName(), module.getVersion(),
+                eventName.getValue());
+    }
+
+    boolean isFor(BString eventFunction) {
+        return this.eventFunction == eventFunction || this.eventFunction.equals(eventFunction);
+    }
+
+    String getMethodName() {
+        return methodName;
+    }
+
+    StrandMetadata getStrandMetadata() {
+        return strandMetadata;
+    }
+}
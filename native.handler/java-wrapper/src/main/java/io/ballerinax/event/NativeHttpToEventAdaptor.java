@@ -18,15 +18,22 @@ package io.ballerinax.event;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Future;
-import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.async.Callback;
-import io.ballerina.runtime.api.async.StrandMetadata;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static io.ballerina.runtime.api.utils.StringUtils.fromString;
 
 /**
@@ -34,26 +41,349 @@ import static io.ballerina.runtime.api.utils.StringUtils.fromString;
  * These are being called from Ballerina (dispatcher_service.bal) through interop
  */
 public class NativeHttpToEventAdaptor {
+    private static final String EVENT_DISPATCH_LIMITERS = "eventDispatchLimiters";
+    private static final String EVENT_REJECTED_ERROR = "EventRejectedError";
+    private static final BString MAX_IN_FLIGHT_EVENTS = fromString("maxInFlightEvents");
+    private static final BString OVERFLOW_POLICY = fromString("overflowPolicy");
+    private static final BString MAX_QUEUED_EVENTS = fromString("maxQueuedEvents");
+    private static final String EVENT_DEDUP_CACHE = "eventDedupCache";
+    private static final String DEDUP_STATS = "DedupStats";
+    private static final BString DEDUP_WINDOW = fromString("dedupWindow");
+    private static final BString MAX_DEDUP_ENTRIES = fromString("maxDedupEntries");
+    private static final BString HITS = fromString("hits");
+    private static final BString MISSES = fromString("misses");
+    private static final BString ENTRIES = fromString("entries");
+    private static final String SERVICE_REGISTRY = "serviceRegistry";
+    private static final String DISPATCH_DRAIN = "dispatchDrain";
+
+    // Keyed by the event name, the same strand metadata and method name are used for all the events of a kind
+    private static final Map<BString, EventDispatchMetadata> DISPATCH_METADATA = new ConcurrentHashMap<>();
+
+    /**
+     * Dispatches the event to the given service object. The events dispatched by the generated dispatcher service go
+     * through {@link #dispatchToService} instead, which does not look the service up by its object.
+     */
     public static Object invokeRemoteFunction(Environment env, BObject adaptor, BMap<BString, Object> message,
                                               BString eventName, BString eventFunction, BObject serviceObj) {
         Future balFuture = env.markAsync();
-        Module module = ModuleUtils.getModule();
-        StrandMetadata metadata = new StrandMetadata(module.getOrg(), module.getName(), module.getVersion(),
-                eventName.getValue());
-        Object[] args = new Object[]{message, true};
-        env.getRuntime().invokeMethodAsync(serviceObj, eventFunction.getValue(), null, metadata, new Callback() {
+        EventDispatchMetadata dispatchMetadata = null;
+        AttachedService attachedService = getServiceRegistry(adaptor).getAttachedService(serviceObj);
+        if (attachedService != null) {
+            // The remote functions, which the service does not implement, are reported when it is attached
+            if (attachedService.isUnimplemented(eventName)) {
+                balFuture.complete(null);
+                return null;
+            }
+            dispatchMetadata = attachedService.getDispatchMetadata(eventName);
+        }
+        if (dispatchMetadata == null || !dispatchMetadata.isFor(eventFunction)) {
+            dispatchMetadata = getDispatchMetadata(eventName, eventFunction);
+        }
+        invokeMethodAsync(env, balFuture, message, serviceObj, dispatchMetadata, null);
+        return null;
+    }
+
+    /**
+     * Dispatches the event to the service attached for the service type, with the remote function resolved when the
+     * service is attached. The number of events dispatched concurrently to each service type is bounded, according
+     * to the dispatch limits of the native handler. Nothing is dispatched if no service is attached for the service
+     * type, or if the service does not implement the remote function of the event.
+     */
+    public static Object dispatchToService(Environment env, BObject adaptor, BMap<BString, Object> message,
+                                           BString eventName, BString serviceType, BString eventFunction) {
+        AttachedService attachedService = getServiceRegistry(adaptor).getAttachedService(serviceType);
+        if (attachedService == null || attachedService.isUnimplemented(eventName)) {
+            return null;
+        }
+        EventDispatchMetadata dispatchMetadata = attachedService.getDispatchMetadata(eventName);
+        if (dispatchMetadata == null) {
+            // The event is not among the events of the service type, which the service is attached with
+            dispatchMetadata = getDispatchMetadata(eventName, eventFunction);
+        }
+        BObject serviceObj = attachedService.getService();
+        Future balFuture = env.markAsync();
+        EventDispatchLimiter limiter = getDispatchLimiter(adaptor, serviceType);
+        if (limiter == null) {
+            invokeMethodAsync(env, balFuture, message, serviceObj, dispatchMetadata, null);
+            return null;
+        }
+        EventDispatchMetadata resolvedMetadata = dispatchMetadata;
+        boolean accepted = limiter.tryDispatch(() -> invokeMethodAsync(env, balFuture, message, serviceObj,
+                resolvedMetadata, limiter::release));
+        if (!accepted) {
+            balFuture.complete(createEventRejectedError(eventName, serviceType));
+        }
+        return null;
+    }
+
+    /**
+     * Admits an event, which is acknowledged before it is dispatched in the background through
+     * {@link #dispatchAdmitted}, so that it is rejected before it is acknowledged when the dispatch limits are
+     * reached. The admitted event is pending for the graceful stop until its dispatch completes.
+     *
+     * @return an {@code EventRejectedError} if the event is rejected, otherwise nil
+     */
+    public static Object admitEvent(BObject adaptor, BString eventName, BString serviceType) {
+        EventDispatchLimiter limiter = getDispatchLimiter(adaptor, serviceType);
+        if (limiter != null && !limiter.tryAdmit()) {
+            return createEventRejectedError(eventName, serviceType);
+        }
+        getDispatchDrain(adaptor).begin();
+        return null;
+    }
+
+    /**
+     * Same as {@link #dispatchToService}, except that the event has been admitted through {@link #admitEvent}.
+     */
+    public static Object dispatchAdmitted(Environment env, BObject adaptor, BMap<BString, Object> message,
+                                          BString eventName, BString serviceType, BString eventFunction) {
+        EventDispatchLimiter limiter = getDispatchLimiter(adaptor, serviceType);
+        DispatchDrain dispatchDrain = getDispatchDrain(adaptor);
+        AttachedService attachedService = getServiceRegistry(adaptor).getAttachedService(serviceType);
+        if (attachedService == null || attachedService.isUnimplemented(eventName)) {
+            if (limiter != null) {
+                limiter.cancel();
+            }
+            dispatchDrain.end();
+            return null;
+        }
+        EventDispatchMetadata dispatchMetadata = attachedService.getDispatchMetadata(eventName);
+        if (dispatchMetadata == null) {
+            dispatchMetadata = getDispatchMetadata(eventName, eventFunction);
+        }
+        BObject serviceObj = attachedService.getService();
+        Future balFuture = env.markAsync();
+        if (limiter == null) {
+            invokeMethodAsync(env, balFuture, message, serviceObj, dispatchMetadata, dispatchDrain::end);
+            return null;
+        }
+        EventDispatchMetadata resolvedMetadata = dispatchMetadata;
+        limiter.dispatchAdmitted(() -> invokeMethodAsync(env, balFuture, message, serviceObj, resolvedMetadata,
+                () -> {
+                    limiter.release();
+                    dispatchDrain.end();
+                }));
+        return null;
+    }
+
+    /**
+     * Waits until the events admitted through {@link #admitEvent} have been dispatched, without blocking a thread.
+     *
+     * @return an error if those have not been dispatched within the timeout
+     */
+    public static Object waitForDispatches(Environment env, BObject adaptor, BDecimal timeout) {
+        Future balFuture = env.markAsync();
+        long timeoutNanos = timeout.decimalValue().movePointRight(9).max(BigDecimal.ZERO)
+                .min(BigDecimal.valueOf(Long.MAX_VALUE)).longValue();
+        getDispatchDrain(adaptor).whenDrained(timeoutNanos, () -> balFuture.complete(null),
+                pendingDispatches -> balFuture.complete(ErrorCreator.createError(fromString("Timed out after "
+                        + timeout.decimalValue().toPlainString() + " seconds waiting for " + pendingDispatches
+                        + " events being dispatched to complete"))));
+        return null;
+    }
+
+    /**
+     * Keeps the registry of the attached services, and the count of the events dispatched in the background, in the
+     * native handler.
+     */
+    public static void createServiceRegistry(BObject adaptor) {
+        adaptor.addNativeData(SERVICE_REGISTRY, new ServiceRegistry());
+        adaptor.addNativeData(DISPATCH_DRAIN, new DispatchDrain());
+    }
+
+    /**
+     * Registers the service, after resolving the remote functions of the events of its service type against the
+     * methods of the service.
+     *
+     * @return the remote functions of the service type, which are not implemented by the service
+     */
+    public static Object addService(BObject adaptor, BString serviceType, BObject serviceObj,
+                                    BMap<BString, Object> serviceEvents) {
+        AttachedService attachedService = new AttachedService(ModuleUtils.getModule(), serviceObj, serviceEvents);
+        if (!getServiceRegistry(adaptor).add(serviceType, attachedService)) {
+            return ErrorCreator.createError(fromString("Service of type " + serviceType.getValue()
+                    + " has already been attached"));
+        }
+        List<String> unimplementedFunctions = attachedService.getUnimplementedFunctions();
+        BString[] functionNames = new BString[unimplementedFunctions.size()];
+        for (int i = 0; i < functionNames.length; i++) {
+            functionNames[i] = fromString(unimplementedFunctions.get(i));
+        }
+        return ValueCreator.createArrayValue(functionNames);
+    }
+
+    public static Object removeService(BObject adaptor, BString serviceType) {
+        if (!getServiceRegistry(adaptor).remove(serviceType)) {
+            return ErrorCreator.createError(fromString("Cannot detach the service of type " + serviceType.getValue()
+                    + ". Service has not been attached to the listener before"));
+        }
+        return null;
+    }
+
+    /**
+     * Returns the service attached for the service type, or nil if there is none. This reads the current snapshot
+     * of the registry, hence it does not wait for the services being attached or detached.
+     */
+    public static Object getService(BObject adaptor, BString serviceType) {
+        return getServiceRegistry(adaptor).get(serviceType);
+    }
+
+    /**
+     * Returns whether any of the attached services implements the remote function of the event. The events which
+     * are not implemented are acknowledged without being converted to their data types and dispatched.
+     */
+    public static boolean isEventImplemented(BObject adaptor, BString eventName) {
+        return getServiceRegistry(adaptor).isImplemented(eventName);
+    }
+
+    /**
+     * Keeps the dispatch limits in the native handler. Events are not limited if the in-flight limit is not positive.
+     */
+    public static void setDispatchLimits(BObject adaptor, BMap<BString, Object> dispatchLimits) {
+        long maxInFlightEvents = dispatchLimits.getIntValue(MAX_IN_FLIGHT_EVENTS);
+        if (maxInFlightEvents <= 0) {
+            return;
+        }
+        int maxQueuedEvents = EventDispatchLimiter.getMaxQueuedEvents(
+                dispatchLimits.getStringValue(OVERFLOW_POLICY).getValue(),
+                dispatchLimits.getIntValue(MAX_QUEUED_EVENTS));
+        adaptor.addNativeData(MAX_IN_FLIGHT_EVENTS.getValue(), (int) Math.min(maxInFlightEvents, Integer.MAX_VALUE));
+        adaptor.addNativeData(MAX_QUEUED_EVENTS.getValue(), maxQueuedEvents);
+        adaptor.addNativeData(EVENT_DISPATCH_LIMITERS, new ConcurrentHashMap<BString, EventDispatchLimiter>());
+    }
+
+    /**
+     * Keeps the deduplication cache in the native handler. Events are not deduplicated if the window is not positive.
+     */
+    public static void setDedupConfigs(BObject adaptor, BMap<BString, Object> dedupConfigs) {
+        BigDecimal dedupWindow = ((BDecimal) dedupConfigs.get(DEDUP_WINDOW)).decimalValue();
+        long maxDedupEntries = dedupConfigs.getIntValue(MAX_DEDUP_ENTRIES);
+        if (dedupWindow.signum() <= 0 || maxDedupEntries <= 0) {
+            return;
+        }
+        long windowNanos = dedupWindow.movePointRight(9).min(BigDecimal.valueOf(Long.MAX_VALUE)).longValue();
+        adaptor.addNativeData(EVENT_DEDUP_CACHE, new EventDedupCache(windowNanos,
+                (int) Math.min(maxDedupEntries, Integer.MAX_VALUE)));
+    }
+
+    /**
+     * Records the deduplication key of a received event.
+     *
+     * @return true if an event with the same key has been received within the deduplication window
+     */
+    public static boolean recordEventKey(BObject adaptor, BString dedupKey) {
+        EventDedupCache dedupCache = (EventDedupCache) adaptor.getNativeData(EVENT_DEDUP_CACHE);
+        return dedupCache != null && dedupCache.checkAndRecord(dedupKey.getValue());
+    }
+
+    /**
+     * Forgets the deduplication key of an event which could not be dispatched, so that it is dispatched when the
+     * event is delivered again.
+     */
+    public static void forgetEventKey(BObject adaptor, BString dedupKey) {
+        EventDedupCache dedupCache = (EventDedupCache) adaptor.getNativeData(EVENT_DEDUP_CACHE);
+        if (dedupCache != null) {
+            dedupCache.forget(dedupKey.getValue());
+        }
+    }
+
+    public static BMap<BString, Object> getDedupStats(BObject adaptor) {
+        EventDedupCache dedupCache = (EventDedupCache) adaptor.getNativeData(EVENT_DEDUP_CACHE);
+        BMap<BString, Object> dedupStats = ValueCreator.createRecordValue(ModuleUtils.getModule(), DEDUP_STATS);
+        dedupStats.put(HITS, dedupCache == null ? 0L : dedupCache.getHits());
+        dedupStats.put(MISSES, dedupCache == null ? 0L : dedupCache.getMisses());
+        dedupStats.put(ENTRIES, dedupCache == null ? 0L : (long) dedupCache.size());
+        return dedupStats;
+    }
+
+    /**
+     * Resolves the dispatch metadata of the events, which are routed to the given service type, when the service is
+     * attached. Hence, those are not created while the first events are being dispatched.
+     */
+    public static void registerEvents(BObject adaptor, BMap<BString, Object> eventRoutes, BString serviceType) {
+        for (Map.Entry<BString, Object> eventRoute : eventRoutes.entrySet()) {
+            BArray route = (BArray) eventRoute.getValue();
+            if (serviceType.equals(route.getBString(0))) {
+                getDispatchMetadata(eventRoute.getKey(), route.getBString(1));
+            }
+        }
+    }
+
+    private static ServiceRegistry getServiceRegistry(BObject adaptor) {
+        return (ServiceRegistry) adaptor.getNativeData(SERVICE_REGISTRY);
+    }
+
+    private static DispatchDrain getDispatchDrain(BObject adaptor) {
+        return (DispatchDrain) adaptor.getNativeData(DISPATCH_DRAIN);
+    }
+
+    private static BError createEventRejectedError(BString eventName, BString serviceType) {
+        return ErrorCreator.createError(ModuleUtils.getModule(), EVENT_REJECTED_ERROR,
+                fromString("event '" + eventName.getValue() + "' is rejected since the service of type '"
+                        + serviceType.getValue() + "' is busy"), null, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EventDispatchLimiter getDispatchLimiter(BObject adaptor, BString serviceType) {
+        Map<BString, EventDispatchLimiter> limiters =
+                (Map<BString, EventDispatchLimiter>) adaptor.getNativeData(EVENT_DISPATCH_LIMITERS);
+        if (limiters == null) {
+            return null;
+        }
+        return limiters.computeIfAbsent(serviceType, key -> new EventDispatchLimiter(
+                (int) adaptor.getNativeData(MAX_IN_FLIGHT_EVENTS.getValue()),
+                (int) adaptor.getNativeData(MAX_QUEUED_EVENTS.getValue())));
+    }
+
+    private static void invokeMethodAsync(Environment env, Future balFuture, BMap<BString, Object> message,
+                                          BObject serviceObj, EventDispatchMetadata dispatchMetadata,
+                                          Runnable onComplete) {
+        // The dispatch is completed only once, even if the invocation fails after the callback has been notified
+        AtomicBoolean completed = new AtomicBoolean();
+        Callback callback = new Callback() {
             @Override
             public void notifySuccess(Object result) {
-                balFuture.complete(result);
+                completeDispatch(completed, onComplete, balFuture, result);
             }
 
             @Override
             public void notifyFailure(BError bError) {
-                BString errorMessage = fromString("service method invocation failed: " + bError.getErrorMessage());
-                BError invocationError = ErrorCreator.createError(errorMessage, bError);
-                balFuture.complete(invocationError);
+                completeDispatch(completed, onComplete, balFuture, getInvocationError(bError));
             }
-        }, args);
-        return null;
+        };
+        try {
+            Object[] args = new Object[]{message, true};
+            env.getRuntime().invokeMethodAsync(serviceObj, dispatchMetadata.getMethodName(), null,
+                    dispatchMetadata.getStrandMetadata(), callback, args);
+        } catch (RuntimeException e) {
+            // Otherwise, the slot of the event is never released and the dispatch never completes
+            BError cause = e instanceof BError ? (BError) e : ErrorCreator.createError(e);
+            completeDispatch(completed, onComplete, balFuture, getInvocationError(cause));
+        }
+    }
+
+    private static void completeDispatch(AtomicBoolean completed, Runnable onComplete, Future balFuture,
+                                         Object result) {
+        if (!completed.compareAndSet(false, true)) {
+            return;
+        }
+        if (onComplete != null) {
+            onComplete.run();
+        }
+        balFuture.complete(result);
+    }
+
+    private static BError getInvocationError(BError cause) {
+        BString errorMessage = fromString("service method invocation failed: " + cause.getErrorMessage());
+        return ErrorCreator.createError(errorMessage, cause);
+    }
+
+    private static EventDispatchMetadata getDispatchMetadata(BString eventName, BString eventFunction) {
+        EventDispatchMetadata dispatchMetadata = DISPATCH_METADATA.get(eventName);
+        if (dispatchMetadata == null || !dispatchMetadata.isFor(eventFunction)) {
+            dispatchMetadata = new EventDispatchMetadata(ModuleUtils.getModule(), eventName, eventFunction);
+            DISPATCH_METADATA.put(eventName, dispatchMetadata);
+        }
+        return dispatchMetadata;
     }
 }
@@ -0,0 +1,132 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package io.ballerinax.event;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@code ServiceRegistry} keeps the services attached to the listener by their service types. The services are read
+ * for every received event, but are changed only when a service is attached or detached. Hence, a change copies the
+ * registered services and publishes the copy as a new snapshot, so that the events are dispatched by reading the
+ * current snapshot, without locking and without contending with the attaching and detaching of the services.
+ */
+final class ServiceRegistry {
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(
+            new Snapshot(Collections.emptyMap(), Collections.emptyMap()));
+
+    /**
+     * Registers the service of a service type.
+     *
+     * @return false if a service of the service type has already been registered
+     */
+    boolean add(BString serviceType, AttachedService attachedService) {
+        while (true) {
+            Snapshot current = snapshot.get();
+            if (current.servicesByType.containsKey(serviceType)) {
+                return false;
+            }
+            Map<BString, AttachedService> servicesByType = new HashMap<>(current.servicesByType);
+            servicesByType.put(serviceType, attachedService);
+            Map<BObject, AttachedService> servicesByObject = new IdentityHashMap<>(current.servicesByObject);
+            servicesByObject.put(attachedService.getService(), attachedService);
+            if (snapshot.compareAndSet(current, new Snapshot(servicesByType, servicesByObject))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Unregisters the service of a service type.
+     *
+     * @return false if a service of the service type has not been registered
+     */
+    boolean remove(BString serviceType) {
+        while (true) {
+            Snapshot current = snapshot.get();
+            AttachedService attachedService = current.servicesByType.get(serviceType);
+            if (attachedService == null) {
+                return false;
+            }
+            Map<BString, AttachedService> servicesByType = new HashMap<>(current.servicesByType);
+            servicesByType.remove(serviceType);
+            Map<BObject, AttachedService> servicesByObject = new IdentityHashMap<>(current.servicesByObject);
+            servicesByObject.remove(attachedService.getService());
+            if (snapshot.compareAndSet(current, new Snapshot(servicesByType, servicesByObject))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return true if the remote function of the event is implemented by any of the registered services
+     */
+    boolean isImplemented(BString eventName) {
+        return snapshot.get().implementedEvents.contains(eventName);
+    }
+
+    /**
+     * @return the service of the service type, or null if it has not been registered
+     */
+    BObject get(BString serviceType) {
+        AttachedService attachedService = snapshot.get().servicesByType.get(serviceType);
+        return attachedService == null ? null : attachedService.getService();
+    }
+
+    /**
+     * @return the service of the service type, with its resolved remote functions, or null if it has not been
+     * registered
+     */
+    AttachedService getAttachedService(BString serviceType) {
+        return snapshot.get().servicesByType.get(serviceType);
+    }
+
+    /**
+     * @return the registered service, with its resolved remote functions, or null if it has not been registered
+     */
+    AttachedService getAttachedService(BObject service) {
+        return snapshot.get().servicesByObject.get(service);
+    }
+
+    private static final class Snapshot {
+        private final Map<BString, AttachedService> servicesByType;
+        // The same service can be found by the service object, which is what the events are dispatched to
+        private final Map<BObject, AttachedService> servicesByObject;
+        private final Set<BString> implementedEvents;
+
+        private Snapshot(Map<BString, AttachedService> servicesByType,
+                         Map<BObject, AttachedService> servicesByObject) {
+            this.servicesByType = servicesByType;
+            this.servicesByObject = servicesByObject;
+            // Computed once per attach or detach, so that an event can be checked with a single lookup
+            Set<BString> events = new HashSet<>();
+            for (AttachedService attachedService : servicesByType.values()) {
+                events.addAll(attachedService.getImplementedEvents());
+            }
+            this.implementedEvents = events;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerinax.event;
+
+import io.ballerina.runtime.api.values.BObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * Test the resolution of the remote functions of a service, when it is attached to the listener.
+ */
+public class AttachedServiceTest {
+    private static final Map<String, String> FOO_EVENTS = new LinkedHashMap<>();
+
+    static {
+        FOO_EVENTS.put("foo_created", "onFooCreated");
+        FOO_EVENTS.put("foo_deleted", "onFooDeleted");
+        FOO_EVENTS.put("foo_renamed", "onFooRenamed");
+    }
+
+    @Test(description = "Test that the events, whose remote functions are implemented, are resolved to those")
+    public void testResolveImplementedFunctions() {
+        AttachedService fooService = TestServices.attach(FOO_EVENTS, "onFooCreated", "onFooDeleted", "init");
+
+        Assert.assertEquals(fooService.getImplementedEvents(),
+                Set.of(fromString("foo_created"), fromString("foo_deleted")));
+        EventDispatchMetadata dispatchMetadata = fooService.getDispatchMetadata(fromString("foo_created"));
+        Assert.assertNotNull(dispatchMetadata);
+        Assert.assertEquals(dispatchMetadata.getMethodName(), "onFooCreated");
+        Assert.assertTrue(dispatchMetadata.isFor(fromString("onFooCreated")));
+        Assert.assertFalse(fooService.isUnimplemented(fromString("foo_created")));
+        // The events, which are not among the events of the service type, are neither implemented nor unimplemented
+        Assert.assertNull(fooService.getDispatchMetadata(fromString("bar_created")));
+        Assert.assertFalse(fooService.isUnimplemented(fromString("bar_created")));
+    }
+
+    @Test(description = "Test that the events, whose remote functions are not implemented, are reported")
+    public void testResolveUnimplementedFunctions() {
+        AttachedService fooService = TestServices.attach(FOO_EVENTS, "onFooCreated");
+
+        Assert.assertEquals(fooService.getUnimplementedFunctions(), List.of("onFooDeleted", "onFooRenamed"));
+        Assert.assertTrue(fooService.isUnimplemented(fromString("foo_deleted")));
+        Assert.assertTrue(fooService.isUnimplemented(fromString("foo_renamed")));
+        Assert.assertNull(fooService.getDispatchMetadata(fromString("foo_deleted")));
+        Assert.assertEquals(fooService.getImplementedEvents(), Set.of(fromString("foo_created")));
+    }
+
+    @Test(description = "Test that the remote methods of a service type are resolved as the remote functions")
+    public void testResolveRemoteMethods() {
+        BObject service = TestServices.createServiceWithRemoteMethods("onFooCreated", "onFooRenamed");
+        AttachedService fooService = new AttachedService(TestServices.MODULE, service,
+                TestServices.createServiceEvents(FOO_EVENTS));
+
+        Assert.assertEquals(fooService.getImplementedEvents(),
+                Set.of(fromString("foo_created"), fromString("foo_renamed")));
+        Assert.assertEquals(fooService.getUnimplementedFunctions(), List.of("onFooDeleted"));
+    }
+
+    @Test(description = "Test that a service without the events of its service type implements none of those")
+    public void testResolveWithoutServiceEvents() {
+        AttachedService fooService = TestServices.attach(Collections.emptyMap(), "onFooCreated");
+
+        Assert.assertTrue(fooService.getImplementedEvents().isEmpty());
+        Assert.assertTrue(fooService.getUnimplementedFunctions().isEmpty());
+        Assert.assertNull(fooService.getDispatchMetadata(fromString("foo_created")));
+    }
+
+    @Test(description = "Test that the same service is resolved again when it is attached again after detaching it")
+    public void testReattachSameService() {
+        ServiceRegistry serviceRegistry = new ServiceRegistry();
+        BObject service = TestServices.createService("onFooCreated");
+        AttachedService attached = new AttachedService(TestServices.MODULE, service,
+                TestServices.createServiceEvents(FOO_EVENTS));
+        Assert.assertTrue(serviceRegistry.add(fromString("FooService"), attached));
+        Assert.assertTrue(serviceRegistry.remove(fromString("FooService")));
+
+        AttachedService reattached = new AttachedService(TestServices.MODULE, service,
+                TestServices.createServiceEvents(Map.of("foo_created", "onFooCreated")));
+        Assert.assertTrue(serviceRegistry.add(fromString("FooService"), reattached));
+
+        Assert.assertSame(serviceRegistry.getAttachedService(fromString("FooService")), reattached);
+        Assert.assertSame(serviceRegistry.getAttachedService(service), reattached);
+        Assert.assertSame(reattached.getService(), service);
+        // The events are resolved against the events the service is attached with this time
+        Assert.assertTrue(reattached.getUnimplementedFunctions().isEmpty());
+        Assert.assertEquals(reattached.getDispatchMetadata(fromString("foo_created")).getMethodName(),
+                "onFooCreated");
+    }
+}
@@ -0,0 +1,75 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerinax.event;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test the wait of the graceful stop for the events being dispatched in the background.
+ */
+public class DispatchDrainTest {
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    @Test(description = "Test that the wait completes at once when no event is being dispatched")
+    public void testWhenDrainedWithoutPendingDispatches() {
+        DispatchDrain dispatchDrain = new DispatchDrain();
+        AtomicInteger drained = new AtomicInteger();
+        dispatchDrain.whenDrained(TIMEOUT_NANOS, drained::incrementAndGet, pending -> Assert.fail());
+        Assert.assertEquals(drained.get(), 1);
+    }
+
+    @Test(description = "Test that the wait completes once the events being dispatched have completed")
+    public void testWhenDrainedAfterPendingDispatches() {
+        DispatchDrain dispatchDrain = new DispatchDrain();
+        dispatchDrain.begin();
+        dispatchDrain.begin();
+        AtomicInteger drained = new AtomicInteger();
+        dispatchDrain.whenDrained(TIMEOUT_NANOS, drained::incrementAndGet, pending -> Assert.fail());
+        dispatchDrain.end();
+        Assert.assertEquals(drained.get(), 0);
+        dispatchDrain.end();
+        Assert.assertEquals(drained.get(), 1);
+        Assert.assertEquals(dispatchDrain.getPendingDispatches(), 0);
+
+        // The wait is notified only once, even if the events are dispatched again
+        dispatchDrain.begin();
+        dispatchDrain.end();
+        Assert.assertEquals(drained.get(), 1);
+    }
+
+    @Test(description = "Test that the wait returns the number of the pending events when it times out",
+            timeOut = 10000)
+    public void testWhenDrainedTimeout() throws Exception {
+        DispatchDrain dispatchDrain = new DispatchDrain();
+        dispatchDrain.begin();
+        dispatchDrain.begin();
+        dispatchDrain.end();
+        CompletableFuture<Integer> timedOut = new CompletableFuture<>();
+        dispatchDrain.whenDrained(TimeUnit.MILLISECONDS.toNanos(50), () -> timedOut.complete(-1),
+                timedOut::complete);
+        Assert.assertEquals(timedOut.get().intValue(), 1);
+
+        // The event completing after the timeout does not notify the wait again
+        dispatchDrain.end();
+        Assert.assertEquals(timedOut.get().intValue(), 1);
+    }
+}
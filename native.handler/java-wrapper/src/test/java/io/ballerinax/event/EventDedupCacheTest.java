@@ -0,0 +1,84 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package io.ballerinax.event;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test the deduplication of the received events.
+ */
+public class EventDedupCacheTest {
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    @Test(description = "Test that an event delivered again within the window is a duplicate")
+    public void testCheckAndRecord() {
+        EventDedupCache dedupCache = new EventDedupCache(WINDOW_NANOS, 100);
+        Assert.assertFalse(dedupCache.checkAndRecord("Ev01"));
+        Assert.assertTrue(dedupCache.checkAndRecord("Ev01"));
+        Assert.assertFalse(dedupCache.checkAndRecord("Ev02"));
+        Assert.assertEquals(dedupCache.getHits(), 1);
+        Assert.assertEquals(dedupCache.getMisses(), 2);
+    }
+
+    @Test(description = "Test that an event, which could not be dispatched, is dispatched when it is retried")
+    public void testRetryAfterFailedDispatch() {
+        EventDedupCache dedupCache = new EventDedupCache(WINDOW_NANOS, 100);
+        Assert.assertFalse(dedupCache.checkAndRecord("Ev01"));
+        // The dispatch of the event failed, hence the provider retries it
+        dedupCache.forget("Ev01");
+        Assert.assertEquals(dedupCache.size(), 0);
+        Assert.assertFalse(dedupCache.checkAndRecord("Ev01"));
+        // The retry is dispatched, hence a delivery after it is a duplicate
+        Assert.assertTrue(dedupCache.checkAndRecord("Ev01"));
+    }
+
+    @Test(description = "Test that forgetting a key does not affect the other keys")
+    public void testForgetUnknownKey() {
+        EventDedupCache dedupCache = new EventDedupCache(WINDOW_NANOS, 100);
+        Assert.assertFalse(dedupCache.checkAndRecord("Ev01"));
+        dedupCache.forget("Ev02");
+        Assert.assertTrue(dedupCache.checkAndRecord("Ev01"));
+    }
+
+    @Test(description = "Test that the oldest keys are forgotten when the number of keys exceeds the bound")
+    public void testEvictionByMaxEntries() {
+        EventDedupCache dedupCache = new EventDedupCache(WINDOW_NANOS, 2);
+        Assert.assertFalse(dedupCache.checkAndRecord("Ev01"));
+        Assert.assertFalse(dedupCache.checkAndRecord("Ev02"));
+        Assert.assertFalse(dedupCache.checkAndRecord("Ev03"));
+        Assert.assertEquals(dedupCache.size(), 2);
+        Assert.assertFalse(dedupCache.checkAndRecord("Ev01"));
+    }
+
+    @Test(description = "Test that the keys forgotten before they expire do not grow the cache beyond the bound")
+    public void testForgottenKeysCountAgainstMaxEntries() {
+        EventDedupCache dedupCache = new EventDedupCache(WINDOW_NANOS, 2);
+        Assert.assertFalse(dedupCache.checkAndRecord("Ev01"));
+        for (int i = 0; i < 10; i++) {
+            String key = "Ev1" + i;
+            Assert.assertFalse(dedupCache.checkAndRecord(key));
+            dedupCache.forget(key);
+        }
+        Assert.assertEquals(dedupCache.size(), 0);
+        Assert.assertFalse(dedupCache.checkAndRecord("Ev01"));
+        Assert.assertTrue(dedupCache.checkAndRecord("Ev01"));
+    }
+}
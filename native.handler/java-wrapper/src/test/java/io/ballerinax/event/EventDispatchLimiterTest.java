@@ -0,0 +1,135 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerinax.event;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test the bound on the number of events, which are dispatched concurrently to a service.
+ */
+public class EventDispatchLimiterTest {
+
+    @Test(description = "Test that no more events than the limit are dispatched concurrently")
+    public void testInFlightLimit() {
+        EventDispatchLimiter limiter = new EventDispatchLimiter(2, 0);
+        List<String> dispatched = new ArrayList<>();
+        Assert.assertTrue(limiter.tryDispatch(() -> dispatched.add("Ev01")));
+        Assert.assertTrue(limiter.tryDispatch(() -> dispatched.add("Ev02")));
+        Assert.assertFalse(limiter.tryDispatch(() -> dispatched.add("Ev03")));
+        Assert.assertEquals(dispatched, Arrays.asList("Ev01", "Ev02"));
+
+        limiter.release();
+        Assert.assertTrue(limiter.tryDispatch(() -> dispatched.add("Ev04")));
+        Assert.assertEquals(dispatched, Arrays.asList("Ev01", "Ev02", "Ev04"));
+    }
+
+    @Test(description = "Test that the events received when the limit is reached are rejected under REJECT")
+    public void testRejectOverflowPolicy() {
+        EventDispatchLimiter limiter = new EventDispatchLimiter(1,
+                EventDispatchLimiter.getMaxQueuedEvents("REJECT", 1000));
+        List<String> dispatched = new ArrayList<>();
+        Assert.assertTrue(limiter.tryDispatch(() -> dispatched.add("Ev01")));
+        Assert.assertFalse(limiter.tryDispatch(() -> dispatched.add("Ev02")));
+
+        limiter.release();
+        Assert.assertEquals(dispatched, Arrays.asList("Ev01"));
+    }
+
+    @Test(description = "Test that the events received when the limit is reached wait in a bounded queue under QUEUE")
+    public void testQueueOverflowPolicy() {
+        EventDispatchLimiter limiter = new EventDispatchLimiter(1,
+                EventDispatchLimiter.getMaxQueuedEvents("QUEUE", 2));
+        List<String> dispatched = new ArrayList<>();
+        Assert.assertTrue(limiter.tryDispatch(() -> dispatched.add("Ev01")));
+        Assert.assertTrue(limiter.tryDispatch(() -> dispatched.add("Ev02")));
+        Assert.assertTrue(limiter.tryDispatch(() -> dispatched.add("Ev03")));
+        Assert.assertFalse(limiter.tryDispatch(() -> dispatched.add("Ev04")));
+        Assert.assertEquals(dispatched, Arrays.asList("Ev01"));
+
+        limiter.release();
+        Assert.assertEquals(dispatched, Arrays.asList("Ev01", "Ev02"));
+        // The queue has space again once a queued event is dispatched
+        Assert.assertTrue(limiter.tryDispatch(() -> dispatched.add("Ev05")));
+        limiter.release();
+        limiter.release();
+        Assert.assertEquals(dispatched, Arrays.asList("Ev01", "Ev02", "Ev03", "Ev05"));
+    }
+
+    @Test(description = "Test that a negative queue size does not queue the events under QUEUE")
+    public void testQueueOverflowPolicyWithNegativeSize() {
+        Assert.assertEquals(EventDispatchLimiter.getMaxQueuedEvents("QUEUE", -1), 0);
+        Assert.assertEquals(EventDispatchLimiter.getMaxQueuedEvents("QUEUE", Long.MAX_VALUE), Integer.MAX_VALUE);
+    }
+
+    @Test(description = "Test that queued events, which fail before returning, release their slot without recursing")
+    public void testReleaseAfterSynchronousFailure() {
+        int eventCount = 100_000;
+        EventDispatchLimiter limiter = new EventDispatchLimiter(1, eventCount);
+        AtomicInteger failures = new AtomicInteger();
+        Runnable failingDispatch = () -> {
+            // The invocation fails before returning, hence the dispatch completes on the same thread
+            failures.incrementAndGet();
+            limiter.release();
+        };
+        Assert.assertTrue(limiter.tryDispatch(() -> { }));
+        for (int i = 0; i < eventCount; i++) {
+            Assert.assertTrue(limiter.tryDispatch(failingDispatch));
+        }
+        Assert.assertEquals(failures.get(), 0);
+
+        // Dispatching the queued events one after the other on this thread must not overflow the stack
+        limiter.release();
+        Assert.assertEquals(failures.get(), eventCount);
+        List<String> dispatched = new ArrayList<>();
+        Assert.assertTrue(limiter.tryDispatch(() -> dispatched.add("Ev01")));
+        Assert.assertEquals(dispatched, Arrays.asList("Ev01"));
+    }
+
+    @Test(description = "Test that an event admitted before it is dispatched holds its place until it is released")
+    public void testAdmitBeforeDispatch() {
+        EventDispatchLimiter limiter = new EventDispatchLimiter(1,
+                EventDispatchLimiter.getMaxQueuedEvents("QUEUE", 1));
+        Assert.assertTrue(limiter.tryAdmit());
+        Assert.assertTrue(limiter.tryAdmit());
+        // The limit and the queue are taken by the admitted events, which have not been dispatched yet
+        Assert.assertFalse(limiter.tryAdmit());
+        Assert.assertFalse(limiter.tryDispatch(() -> { }));
+
+        List<String> dispatched = new ArrayList<>();
+        limiter.dispatchAdmitted(() -> dispatched.add("Ev01"));
+        limiter.dispatchAdmitted(() -> dispatched.add("Ev02"));
+        Assert.assertEquals(dispatched, Arrays.asList("Ev01"));
+        limiter.release();
+        Assert.assertEquals(dispatched, Arrays.asList("Ev01", "Ev02"));
+        Assert.assertTrue(limiter.tryAdmit());
+    }
+
+    @Test(description = "Test that an admitted event, which is not dispatched, gives up its place")
+    public void testCancelAdmittedEvent() {
+        EventDispatchLimiter limiter = new EventDispatchLimiter(1, 0);
+        Assert.assertTrue(limiter.tryAdmit());
+        Assert.assertFalse(limiter.tryAdmit());
+        limiter.cancel();
+        Assert.assertTrue(limiter.tryAdmit());
+    }
+}
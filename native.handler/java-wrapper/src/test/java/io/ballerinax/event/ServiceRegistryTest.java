@@ -0,0 +1,101 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerinax.event;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * Test the registry of the services attached to the listener.
+ */
+public class ServiceRegistryTest {
+    private static final Map<String, String> FOO_EVENTS = Map.of("foo_created", "onFooCreated");
+    private static final Map<String, String> BAR_EVENTS = Map.of("bar_created", "onBarCreated");
+
+    @Test(description = "Test that a service type can not be attached twice")
+    public void testAddSameServiceTypeTwice() {
+        ServiceRegistry serviceRegistry = new ServiceRegistry();
+        AttachedService fooService = TestServices.attach(FOO_EVENTS, "onFooCreated");
+        Assert.assertTrue(serviceRegistry.add(fromString("FooService"), fooService));
+        Assert.assertFalse(serviceRegistry.add(fromString("FooService"),
+                TestServices.attach(FOO_EVENTS, "onFooCreated")));
+        // Attaching the same service again does not replace it either
+        Assert.assertFalse(serviceRegistry.add(fromString("FooService"), fooService));
+
+        Assert.assertSame(serviceRegistry.get(fromString("FooService")), fooService.getService());
+        Assert.assertSame(serviceRegistry.getAttachedService(fooService.getService()), fooService);
+    }
+
+    @Test(description = "Test that detaching a service type, which has not been attached, changes nothing")
+    public void testRemoveUnknownServiceType() {
+        ServiceRegistry serviceRegistry = new ServiceRegistry();
+        AttachedService fooService = TestServices.attach(FOO_EVENTS, "onFooCreated");
+        Assert.assertTrue(serviceRegistry.add(fromString("FooService"), fooService));
+
+        Assert.assertFalse(serviceRegistry.remove(fromString("BarService")));
+        Assert.assertSame(serviceRegistry.get(fromString("FooService")), fooService.getService());
+        Assert.assertTrue(serviceRegistry.isImplemented(fromString("foo_created")));
+
+        Assert.assertTrue(serviceRegistry.remove(fromString("FooService")));
+        Assert.assertFalse(serviceRegistry.remove(fromString("FooService")));
+        Assert.assertNull(serviceRegistry.get(fromString("FooService")));
+        Assert.assertNull(serviceRegistry.getAttachedService(fooService.getService()));
+        Assert.assertFalse(serviceRegistry.isImplemented(fromString("foo_created")));
+    }
+
+    @Test(description = "Test that the services are read consistently, while another thread replaces the snapshot",
+            timeOut = 30000)
+    public void testReadWhileSnapshotReplaced() throws InterruptedException {
+        ServiceRegistry serviceRegistry = new ServiceRegistry();
+        AttachedService fooService = TestServices.attach(FOO_EVENTS, "onFooCreated");
+        AttachedService barService = TestServices.attach(BAR_EVENTS, "onBarCreated");
+        Assert.assertTrue(serviceRegistry.add(fromString("FooService"), fooService));
+
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 10000; i++) {
+                if (!serviceRegistry.add(fromString("BarService"), barService)
+                        || !serviceRegistry.remove(fromString("BarService"))) {
+                    failure.compareAndSet(null, "The bar service could not be attached and detached");
+                }
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            // The foo service stays attached, whatever snapshot is read
+            if (serviceRegistry.get(fromString("FooService")) != fooService.getService()
+                    || !serviceRegistry.isImplemented(fromString("foo_created"))) {
+                failure.compareAndSet(null, "The foo service is not found in a snapshot");
+            }
+            // The bar service is either attached with all of its events or not at all
+            Object barServiceObj = serviceRegistry.get(fromString("BarService"));
+            if (barServiceObj != null && barServiceObj != barService.getService()) {
+                failure.compareAndSet(null, "Another service is found for the bar service type");
+            }
+        }
+        writer.join();
+
+        Assert.assertNull(failure.get(), failure.get());
+        Assert.assertNull(serviceRegistry.get(fromString("BarService")));
+        Assert.assertFalse(serviceRegistry.isImplemented(fromString("bar_created")));
+    }
+}
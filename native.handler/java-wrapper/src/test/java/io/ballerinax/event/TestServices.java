@@ -0,0 +1,113 @@
+// Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package io.ballerinax.event;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.RemoteMethodType;
+import io.ballerina.runtime.api.types.ServiceType;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * Creates the services attached to the listener in the tests, as proxies of the runtime values, which implement only
+ * what the native handler reads from those.
+ */
+final class TestServices {
+    static final Module MODULE = new Module("ballerinax", "asyncapi.native.handler", "0");
+
+    private TestServices() {
+    }
+
+    /**
+     * @param serviceEvents the events of the service type with the names of their remote functions
+     * @param methodNames   the methods implemented by the service
+     */
+    static AttachedService attach(Map<String, String> serviceEvents, String... methodNames) {
+        return new AttachedService(MODULE, createService(methodNames), createServiceEvents(serviceEvents));
+    }
+
+    static BObject createService(String... methodNames) {
+        MethodType[] methods = new MethodType[methodNames.length];
+        for (int i = 0; i < methodNames.length; i++) {
+            String methodName = methodNames[i];
+            methods[i] = proxy(MethodType.class, "getName", methodName);
+        }
+        ObjectType serviceType = proxy(ObjectType.class, "getMethods", methods);
+        return proxy(BObject.class, "getType", serviceType);
+    }
+
+    /**
+     * Creates a service of a service type, whose remote functions are read from the remote methods of the type.
+     */
+    static BObject createServiceWithRemoteMethods(String... remoteMethodNames) {
+        RemoteMethodType[] remoteMethods = new RemoteMethodType[remoteMethodNames.length];
+        for (int i = 0; i < remoteMethodNames.length; i++) {
+            remoteMethods[i] = proxy(RemoteMethodType.class, "getName", remoteMethodNames[i]);
+        }
+        Map<String, Object> methods = new HashMap<>();
+        methods.put("getMethods", new MethodType[0]);
+        methods.put("getRemoteMethods", remoteMethods);
+        ServiceType serviceType = proxy(ServiceType.class, methods);
+        return proxy(BObject.class, "getType", serviceType);
+    }
+
+    @SuppressWarnings("unchecked")
+    static BMap<BString, Object> createServiceEvents(Map<String, String> serviceEvents) {
+        Map<BString, Object> events = new LinkedHashMap<>();
+        serviceEvents.forEach((eventName, eventFunction) -> events.put(fromString(eventName),
+                fromString(eventFunction)));
+        return proxy(BMap.class, "entrySet", events.entrySet());
+    }
+
+    private static <T> T proxy(Class<T> type, String methodName, Object value) {
+        Map<String, Object> methods = new HashMap<>();
+        methods.put(methodName, value);
+        return proxy(type, methods);
+    }
+
+    /**
+     * Creates a proxy, which returns the given values for the given methods, and compares by identity.
+     */
+    private static <T> T proxy(Class<T> type, Map<String, Object> methods) {
+        return type.cast(Proxy.newProxyInstance(TestServices.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return type.getSimpleName() + "@" + System.identityHashCode(proxy);
+                        default:
+                            if (methods.containsKey(method.getName())) {
+                                return methods.get(method.getName());
+                            }
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                }));
+    }
+}
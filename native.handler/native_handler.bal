@@ -1,7 +1,99 @@
 import ballerina/jballerina.java;
 
 public class NativeHandler {
+    public isolated function init(DispatchLimits dispatchLimits = {}) {
+        self.createServiceRegistry();
+        self.setDispatchLimits(dispatchLimits);
+    }
+
+    public isolated function addService(string serviceType, service object {} serviceObj, map<string> serviceEvents) returns string[]|error = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
+    public isolated function removeService(string serviceType) returns error? = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
+    // Reads the published snapshot of the registry, without waiting for the services being attached or detached
+    public isolated function getService(string serviceType) returns service object {}? = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
     public isolated function invokeRemoteFunction(any event, string eventName, string eventFunction, service object {} serviceObj) returns error? = @java:Method {
         'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
     } external;
+
+    public isolated function registerEvents(map<any[]> eventRoutes, string serviceType) = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
+    // Dispatches to the service attached for the service type, within the dispatch limits
+    public isolated function dispatchToService(any event, string eventName, string serviceType, string eventFunction) returns error? = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
+    // Admits an event, which is acknowledged before it is dispatched through `dispatchAdmitted`, within the dispatch limits
+    public isolated function admitEvent(string eventName, string serviceType) returns EventRejectedError? = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
+    public isolated function dispatchAdmitted(any event, string eventName, string serviceType, string eventFunction) returns error? = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
+    // Waits until the admitted events have been dispatched, for at most the timeout in seconds
+    public isolated function waitForDispatches(decimal timeout) returns error? = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
+    private isolated function createServiceRegistry() = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
+    private isolated function setDispatchLimits(DispatchLimits dispatchLimits) = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
+    public isolated function isEventDispatched(json|error eventIdentifier) returns boolean {
+        // Events without an identifier are matched as before, since it is not known which service they are for
+        if eventIdentifier is error || eventIdentifier is () {
+            return true;
+        }
+        return self.isEventImplemented(eventIdentifier.toString());
+    }
+
+    public isolated function setDedupConfigs(DedupConfigs dedupConfigs) = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
+    public isolated function isDuplicateEvent(json|error dedupKey) returns boolean {
+        // Events without a deduplication key are never suppressed
+        if dedupKey is error || dedupKey is () {
+            return false;
+        }
+        return self.recordEventKey(dedupKey.toString());
+    }
+
+    public isolated function forgetEvent(json|error dedupKey) {
+        if dedupKey is error || dedupKey is () {
+            return;
+        }
+        self.forgetEventKey(dedupKey.toString());
+    }
+
+    public isolated function getDedupStats() returns DedupStats = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
+    private isolated function isEventImplemented(string eventName) returns boolean = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
+    private isolated function forgetEventKey(string dedupKey) = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
+
+    private isolated function recordEventKey(string dedupKey) returns boolean = @java:Method {
+        'class: "io.ballerinax.event.NativeHttpToEventAdaptor"
+    } external;
 }
@@ -0,0 +1,52 @@
+# Configurations to bound the number of events, which are dispatched concurrently to a service.
+public type DispatchLimits record {
+    # Maximum number of events, which are dispatched concurrently to the service of a service type.
+    # The events are not limited if this is 0
+    int maxInFlightEvents = 0;
+    # What is done with the events received when the limit is reached
+    OverflowPolicy overflowPolicy = REJECT;
+    # Maximum number of events waiting to be dispatched to the service of a service type, when the overflow
+    # policy is `QUEUE`
+    int maxQueuedEvents = 1000;
+};
+
+# Policies on the events received when the limit of events dispatched concurrently is reached.
+public enum OverflowPolicy {
+    # The event is rejected with an `EventRejectedError`
+    REJECT,
+    # The event waits until an event being dispatched completes. It is rejected if the queue is full
+    QUEUE
+}
+
+# Error returned when an event is rejected, since the service is busy.
+public type EventRejectedError distinct error;
+
+# Configurations to suppress the events, which are delivered more than once.
+# A delivery received while another delivery of the same event is being dispatched is suppressed as well, hence the
+# event is dispatched again only if the provider retries the delivery which failed.
+public type DedupConfigs record {
+    # Time in seconds for which the key of a received event is remembered.
+    # The events are not deduplicated if this is 0
+    decimal dedupWindow = 0;
+    # Maximum number of event keys remembered at a time, which bounds the memory used by the deduplication.
+    # The oldest keys are forgotten first when this is exceeded. The keys of the events, which failed to dispatch, count
+    # against this until they would have been forgotten
+    int maxDedupEntries = 10000;
+};
+
+# Configurations of the graceful stop of the listener, which waits for the events being dispatched in the background.
+public type DrainConfigs record {
+    # Maximum time in seconds for which the graceful stop waits for the events being dispatched to complete.
+    # The graceful stop returns an error if those have not completed by then
+    decimal drainTimeout = 30;
+};
+
+# Statistics of the suppression of the events, which are delivered more than once.
+public type DedupStats record {|
+    # Number of events suppressed, since those had been received before
+    int hits;
+    # Number of events, which had not been received before
+    int misses;
+    # Number of event keys remembered at the moment
+    int entries;
+|};